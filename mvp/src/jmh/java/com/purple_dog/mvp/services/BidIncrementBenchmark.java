@@ -0,0 +1,66 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.utils.BidIncrementLadder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Palier d'enchère (BidService.calculateBidIncrement, qui délègue à BidIncrementLadder)
+ * et contrôle du montant minimum, sur une distribution de prix réaliste.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BidIncrementBenchmark {
+
+    private Money[] prices;
+    private Money[] amounts;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        prices = PriceDistribution.prices();
+        amounts = new Money[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            // Une enchère sur deux au minimum, l'autre un euro en dessous
+            Money minimum = prices[i].add(BidIncrementLadder.incrementFor(prices[i]));
+            amounts[i] = i % 2 == 0 ? minimum : minimum.subtract(Money.ofEuros(1));
+        }
+    }
+
+    @Benchmark
+    public Money increment() {
+        return BidIncrementLadder.incrementFor(prices[next()]);
+    }
+
+    @Benchmark
+    public Money minimumBid() {
+        Money price = prices[next()];
+        return price.add(BidIncrementLadder.incrementFor(price));
+    }
+
+    @Benchmark
+    public boolean meetsMinimum() {
+        int i = next();
+        Money price = prices[i];
+        return amounts[i].compareTo(price.add(BidIncrementLadder.incrementFor(price))) >= 0;
+    }
+
+    private int next() {
+        return index = (index + 1) & (PriceDistribution.SIZE - 1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.exceptions.BidException;
+import com.purple_dog.mvp.utils.BidIncrementLadder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Résolution d'un placement par BidResolver : validation, enchères automatiques au second prix,
+ * prolongation. Chaque appel part d'une copie de l'état (AuctionBook.snapshot), comptée dans la mesure.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BidResolverBenchmark {
+
+    private static final Long SELLER_ID = 99L;
+    private static final Long LEADER_ID = 1L;
+    private static final Long CHALLENGER_ID = 2L;
+
+    /**
+     * FIRST_BID : première enchère ; NEW_LEADER : le challenger dépasse le max du meneur ;
+     * LEADER_HOLDS : contre-enchère automatique du meneur ; BELOW_MINIMUM : refus sous le palier ;
+     * EXTENDING : enchère à moins d'une heure de la fin, avec prolongation
+     */
+    @Param({"FIRST_BID", "NEW_LEADER", "LEADER_HOLDS", "BELOW_MINIMUM", "EXTENDING"})
+    public String scenario;
+
+    private final BidResolver bidResolver = new BidResolver();
+    private AuctionBook[] books;
+    private PlaceBidRequest[] requests;
+    private LocalDateTime now;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        Money[] prices = PriceDistribution.prices();
+        books = new AuctionBook[prices.length];
+        requests = new PlaceBidRequest[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            Money price = prices[i];
+            Money minimum = price.add(BidIncrementLadder.incrementFor(price));
+            // Max du meneur : la moitié au-dessus du prix, au moins deux paliers
+            Money leaderMax = Money.ofCents(price.getCents() * 3 / 2)
+                    .max(minimum.add(BidIncrementLadder.incrementFor(minimum)));
+            boolean firstBid = scenario.equals("FIRST_BID");
+            LocalDateTime endDate = scenario.equals("EXTENDING") ? now.plusMinutes(30) : now.plusDays(2);
+
+            books[i] = new AuctionBook(1L, SELLER_ID, AuctionStatus.ACTIVE, endDate, price,
+                    Money.ofCents(price.getCents() * 10), false, true,
+                    firstBid ? null : LEADER_ID, firstBid ? null : leaderMax, null, null, firstBid ? 0 : 3);
+            requests[i] = switch (scenario) {
+                case "FIRST_BID" -> new PlaceBidRequest(1L, CHALLENGER_ID, minimum, null);
+                case "NEW_LEADER", "EXTENDING" -> new PlaceBidRequest(1L, CHALLENGER_ID, minimum,
+                        Money.ofCents(leaderMax.getCents() * 6 / 5));
+                case "LEADER_HOLDS" -> new PlaceBidRequest(1L, CHALLENGER_ID, minimum, minimum);
+                case "BELOW_MINIMUM" -> new PlaceBidRequest(1L, CHALLENGER_ID, price, null);
+                default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+            };
+        }
+    }
+
+    @Benchmark
+    public Object resolve() {
+        int i = index = (index + 1) & (PriceDistribution.SIZE - 1);
+        try {
+            return bidResolver.resolve(books[i].snapshot(), requests[i], CHALLENGER_ID, now);
+        } catch (BidException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.BidResponse;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.Bid;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.Professional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion en BidResponse : réponse d'un placement (PendingBid) et ligne d'historique (Bid)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BidResponseMappingBenchmark {
+
+    private PendingBid[] placed;
+    private Bid[] history;
+    private Professional bidder;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        bidder = new Professional();
+        bidder.setId(2L);
+        bidder.setFirstName("Camille");
+        bidder.setLastName("Martin");
+        Auction auction = new Auction();
+        auction.setId(1L);
+
+        LocalDateTime now = LocalDateTime.now();
+        Money[] prices = PriceDistribution.prices();
+        placed = new PendingBid[prices.length];
+        history = new Bid[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            Money maxAmount = i % 3 == 0 ? prices[i].add(Money.ofEuros(500)) : null;
+            placed[i] = new PendingBid(1L, 2L, prices[i], maxAmount, false, now, true, null, null,
+                    CompletableFuture.completedFuture((long) i));
+
+            Bid bid = new Bid();
+            bid.setId((long) i);
+            bid.setAuction(auction);
+            bid.setBidder(bidder);
+            bid.setAmount(prices[i]);
+            bid.setMaxAmount(maxAmount);
+            bid.setIsAutoBid(i % 3 == 1);
+            bid.setBidDate(now.minusSeconds(i));
+            bid.setIsWinning(false);
+            history[i] = bid;
+        }
+    }
+
+    @Benchmark
+    public BidResponse placedBid() {
+        return BidService.toBidResponse(placed[next()], bidder);
+    }
+
+    @Benchmark
+    public BidResponse historyBid() {
+        return BidService.toBidResponse(history[next()], 0L);
+    }
+
+    private int next() {
+        return index = (index + 1) & (PriceDistribution.SIZE - 1);
+    }
+}
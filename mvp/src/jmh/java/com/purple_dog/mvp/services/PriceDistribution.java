@@ -0,0 +1,29 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.entities.Money;
+
+import java.util.Random;
+
+/**
+ * Prix d'enchère réalistes pour les benchmarks : loi log-normale (médiane 400 €),
+ * la plupart des lots entre 50 € et 3 000 €, une traîne jusqu'à quelques dizaines de milliers.
+ * Graine fixe : les mêmes prix d'une exécution à l'autre.
+ */
+final class PriceDistribution {
+
+    // Puissance de deux : parcours circulaire par masque
+    static final int SIZE = 4096;
+
+    private PriceDistribution() {
+    }
+
+    static Money[] prices() {
+        Random random = new Random(42);
+        Money[] prices = new Money[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            double price = Math.exp(Math.log(400) + random.nextGaussian());
+            prices[i] = Money.ofCents(Math.max(100, Math.round(price * 100)));
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,69 @@
+package com.purple_dog.mvp.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Migration des ids au démarrage : les entités passées d'une colonne IDENTITY à une séquence gardent leurs
+ * lignes existantes, mais la séquence créée par Hibernate repart de 1. Chaque séquence d'id en retard sur
+ * le plus grand id de sa table est relancée juste au-delà ; une séquence déjà en avance n'est pas touchée.
+ * Exécuté à l'initialisation du contexte, avant les CommandLineRunner qui insèrent les données de départ.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceAligner {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequences() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        JdbcEnvironment environment = sessionFactory.getJdbcServices().getJdbcEnvironment();
+        Dialect dialect = environment.getDialect();
+        Set<String> aligned = new HashSet<>();
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            // Sous-classes : même séquence et même table racine que leur entité mère
+            if (persister.isInherited()
+                    || !(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entity)) {
+                return;
+            }
+            String sequence = environment.getQualifiedObjectNameFormatter()
+                    .format(generator.getDatabaseStructure().getPhysicalName(), dialect);
+            if (aligned.add(sequence)) {
+                align(dialect, sequence, entity.getRootTableName(), entity.getRootTableKeyColumnNames()[0]);
+            }
+        });
+    }
+
+    private void align(Dialect dialect, String sequence, String table, String idColumn) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+            if (maxId == null) {
+                return;
+            }
+            Long next = jdbcTemplate.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence),
+                    Long.class);
+            if (next != null && next <= maxId) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (maxId + 1));
+                log.info("Sequence {} restarted after the highest id of {} ({})", sequence, table, maxId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to align sequence {} with table {}: {}", sequence, table, e.getMessage(), e);
+        }
+    }
+}
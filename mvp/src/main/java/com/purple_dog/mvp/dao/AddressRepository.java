@@ -19,6 +19,9 @@ public interface AddressRepository extends JpaRepository<Address, Long> {
 
     Optional<Address> findByPersonIdAndIsDefault(Long personId, Boolean isDefault);
 
+    @Query("SELECT a FROM Address a WHERE a.person.id IN :personIds ORDER BY a.isDefault DESC, a.createdAt DESC")
+    List<Address> findByPersonIdsPreferDefault(@Param("personIds") List<Long> personIds);
+
     @Query("SELECT COUNT(a) FROM Address a WHERE a.person.id = :personId")
     long countByPersonId(@Param("personId") Long personId);
 
@@ -1,13 +1,18 @@
 package com.purple_dog.mvp.dao;
 
 import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
 import com.purple_dog.mvp.entities.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -54,4 +59,116 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
     @Query("SELECT a FROM Auction a WHERE a.startDate >= :startDate AND a.startDate <= :endDate")
     List<Auction> findAuctionsByDateRange(@Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
-}
\ No newline at end of file
+
+    /**
+     * Échéances de toutes les enchères ouvertes (id et date de fin uniquement)
+     */
+    @Query("SELECT a.id AS id, a.endDate AS endDate FROM Auction a WHERE a.status = 'ACTIVE' OR a.status = 'EXTENDED'")
+    List<AuctionDeadline> findOpenDeadlines();
+
+    /**
+     * Échéances des enchères ouvertes se terminant avant une date (id et date de fin uniquement)
+     */
+    @Query("SELECT a.id AS id, a.endDate AS endDate FROM Auction a " +
+            "WHERE (a.status = 'ACTIVE' OR a.status = 'EXTENDED') AND a.endDate <= :before")
+    List<AuctionDeadline> findOpenDeadlinesBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * Cartes des enchères ouvertes pour les fils de la page d'accueil (sans charger les entités)
+     */
+    @Query("SELECT a.id AS id, p.id AS productId, p.title AS productTitle, a.currentPrice AS currentPrice, " +
+            "a.endDate AS endDate, a.totalBids AS totalBids " +
+            "FROM Auction a JOIN a.product p WHERE a.status = 'ACTIVE' OR a.status = 'EXTENDED'")
+    List<AuctionFeedEntry> findOpenFeedEntries();
+
+    /**
+     * Produit de chaque enchère (id et titre), pour libeller les notifications d'enchères par lot
+     */
+    @Query("SELECT a.id AS auctionId, p.id AS productId, p.title AS productTitle " +
+            "FROM Auction a JOIN a.product p WHERE a.id IN :ids")
+    List<AuctionProduct> findAuctionProducts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Clôture en masse (SOLD) les enchères échues dont le prix de réserve est atteint
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = 'SOLD', a.version = a.version + 1, " +
+            "a.journalSequence = a.journalSequence + 1 " +
+            "WHERE a.id IN :ids AND (a.status = 'ACTIVE' OR a.status = 'EXTENDED') " +
+            "AND a.endDate <= :now AND a.reservePriceMet = true")
+    int closeExpiredAsSold(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Clôture en masse (UNSOLD) les enchères échues dont le prix de réserve n'est pas atteint
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = 'UNSOLD', a.version = a.version + 1, " +
+            "a.journalSequence = a.journalSequence + 1 " +
+            "WHERE a.id IN :ids AND (a.status = 'ACTIVE' OR a.status = 'EXTENDED') " +
+            "AND a.endDate <= :now AND (a.reservePriceMet = false OR a.reservePriceMet IS NULL)")
+    int closeExpiredAsUnsold(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Données de règlement des enchères clôturées (vendeur, gagnant, prix final)
+     */
+    @Query("SELECT a.id AS auctionId, a.status AS status, w.id AS winnerId, s.id AS sellerId, " +
+            "p.id AS productId, p.title AS productTitle, a.currentPrice AS finalPrice, " +
+            "a.journalSequence AS journalSequence " +
+            "FROM Auction a JOIN a.product p JOIN p.seller s LEFT JOIN a.winner w " +
+            "WHERE a.id IN :ids AND (a.status = 'SOLD' OR a.status = 'UNSOLD')")
+    List<AuctionSettlement> findSettlements(@Param("ids") List<Long> ids);
+
+    /**
+     * Projection légère pour alimenter la roue de clôture
+     */
+    interface AuctionDeadline {
+        Long getId();
+
+        LocalDateTime getEndDate();
+    }
+
+    /**
+     * Projection d'une enchère ouverte pour les index en mémoire des fils
+     */
+    interface AuctionFeedEntry {
+        Long getId();
+
+        Long getProductId();
+
+        String getProductTitle();
+
+        Money getCurrentPrice();
+
+        LocalDateTime getEndDate();
+
+        Integer getTotalBids();
+    }
+
+    interface AuctionProduct {
+        Long getAuctionId();
+
+        Long getProductId();
+
+        String getProductTitle();
+    }
+
+    interface AuctionSettlement {
+        Long getAuctionId();
+
+        AuctionStatus getStatus();
+
+        Long getWinnerId();
+
+        Long getSellerId();
+
+        Long getProductId();
+
+        String getProductTitle();
+
+        Money getFinalPrice();
+
+        long getJournalSequence();
+    }
+}
@@ -0,0 +1,9 @@
+package com.purple_dog.mvp.dao;
+
+import com.purple_dog.mvp.entities.AuctionSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AuctionSnapshotRepository extends JpaRepository<AuctionSnapshot, Long> {
+}
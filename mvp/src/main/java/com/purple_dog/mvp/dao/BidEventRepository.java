@@ -0,0 +1,15 @@
+package com.purple_dog.mvp.dao;
+
+import com.purple_dog.mvp.entities.BidEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BidEventRepository extends JpaRepository<BidEvent, Long> {
+
+    List<BidEvent> findByAuctionIdOrderBySequenceAsc(Long auctionId);
+
+    List<BidEvent> findByAuctionIdAndSequenceGreaterThanOrderBySequenceAsc(Long auctionId, long sequence);
+}
@@ -1,27 +1,110 @@
 package com.purple_dog.mvp.dao;
 
 import com.purple_dog.mvp.entities.Bid;
+import com.purple_dog.mvp.entities.Money;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BidRepository extends JpaRepository<Bid, Long> {
 
-    List<Bid> findByAuctionIdOrderByAmountDesc(Long auctionId);
+    @Query("SELECT b FROM Bid b JOIN FETCH b.bidder WHERE b.auction.id = :auctionId ORDER BY b.amount DESC")
+    List<Bid> findByAuctionIdOrderByAmountDesc(@Param("auctionId") Long auctionId);
 
-    List<Bid> findByBidderIdOrderByBidDateDesc(Long bidderId);
+    @Query("SELECT b FROM Bid b JOIN FETCH b.auction JOIN FETCH b.bidder WHERE b.bidder.id = :bidderId ORDER BY b.bidDate DESC")
+    List<Bid> findByBidderIdOrderByBidDateDesc(@Param("bidderId") Long bidderId);
 
-    @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId AND b.isWinning = true")
+    @Query("SELECT a.winningBid FROM Auction a WHERE a.id = :auctionId")
     Optional<Bid> findCurrentWinningBid(@Param("auctionId") Long auctionId);
 
+    // Enchères créées avant le pointeur Auction.winningBid : une seule ligne porte le drapeau
+    @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId AND b.isWinning = true")
+    Optional<Bid> findFlaggedWinningBid(@Param("auctionId") Long auctionId);
+
+    @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId AND b.bidder.id <> :leaderId " +
+            "ORDER BY COALESCE(b.maxAmount, b.amount) DESC, b.bidDate ASC")
+    List<Bid> findTopRivalBids(@Param("auctionId") Long auctionId, @Param("leaderId") Long leaderId, Pageable pageable);
+
     @Query("SELECT b FROM Bid b WHERE b.auction.id = :auctionId AND b.bidder.id = :bidderId ORDER BY b.amount DESC")
     List<Bid> findByAuctionAndBidder(@Param("auctionId") Long auctionId, @Param("bidderId") Long bidderId);
 
     @Query("SELECT COUNT(b) FROM Bid b WHERE b.auction.id = :auctionId")
     Integer countBidsByAuction(@Param("auctionId") Long auctionId);
+
+    @Query("SELECT DISTINCT b.auction.id AS auctionId, b.bidder.id AS bidderId FROM Bid b WHERE b.auction.id IN :auctionIds")
+    List<AuctionBidder> findBiddersByAuctionIds(@Param("auctionIds") List<Long> auctionIds);
+
+    /**
+     * Historique d'une auction, première page (montant décroissant puis id décroissant)
+     */
+    @Query(BID_ROW + "WHERE a.id = :auctionId ORDER BY b.amount DESC, b.id DESC")
+    List<BidRow> findAuctionHistory(@Param("auctionId") Long auctionId, Pageable pageable);
+
+    /**
+     * Historique d'une auction, pages suivantes : reprend après la clé (amount, id) du curseur
+     */
+    @Query(BID_ROW + "WHERE a.id = :auctionId " +
+            "AND (b.amount < :amount OR (b.amount = :amount AND b.id < :id)) " +
+            "ORDER BY b.amount DESC, b.id DESC")
+    List<BidRow> findAuctionHistoryAfter(@Param("auctionId") Long auctionId, @Param("amount") Money amount,
+            @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Activité d'un professionnel, première page (plus récentes d'abord)
+     */
+    @Query(BID_ROW + "WHERE p.id = :bidderId ORDER BY b.bidDate DESC, b.id DESC")
+    List<BidRow> findBidderActivity(@Param("bidderId") Long bidderId, Pageable pageable);
+
+    /**
+     * Activité d'un professionnel, pages suivantes : reprend après la clé (bidDate, id) du curseur
+     */
+    @Query(BID_ROW + "WHERE p.id = :bidderId " +
+            "AND (b.bidDate < :bidDate OR (b.bidDate = :bidDate AND b.id < :id)) " +
+            "ORDER BY b.bidDate DESC, b.id DESC")
+    List<BidRow> findBidderActivityAfter(@Param("bidderId") Long bidderId, @Param("bidDate") LocalDateTime bidDate,
+            @Param("id") Long id, Pageable pageable);
+
+    // Une ligne d'historique en une requête : nom de l'enchérisseur et enchère en tête sans charger d'entité
+    String BID_ROW = "SELECT b.id AS id, a.id AS auctionId, p.id AS bidderId, " +
+            "p.firstName AS bidderFirstName, p.lastName AS bidderLastName, " +
+            "b.amount AS amount, b.maxAmount AS maxAmount, b.isAutoBid AS isAutoBid, " +
+            "b.isWinning AS isWinning, b.bidDate AS bidDate, w.id AS winningBidId " +
+            "FROM Bid b JOIN b.auction a JOIN b.bidder p LEFT JOIN a.winningBid w ";
+
+    interface BidRow {
+        Long getId();
+
+        Long getAuctionId();
+
+        Long getBidderId();
+
+        String getBidderFirstName();
+
+        String getBidderLastName();
+
+        Money getAmount();
+
+        Money getMaxAmount();
+
+        Boolean getIsAutoBid();
+
+        Boolean getIsWinning();
+
+        LocalDateTime getBidDate();
+
+        Long getWinningBidId();
+    }
+
+    interface AuctionBidder {
+        Long getAuctionId();
+
+        Long getBidderId();
+    }
 }
@@ -27,6 +27,9 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
     @Query("SELECT f FROM Favorite f LEFT JOIN FETCH f.product p WHERE f.user.id = :userId ORDER BY f.createdAt DESC")
     List<Favorite> findByUserIdWithProducts(@Param("userId") Long userId);
 
+    @Query("SELECT f.product.id FROM Favorite f WHERE f.user.id = :userId ORDER BY f.createdAt DESC")
+    List<Long> findProductIdsByUserId(@Param("userId") Long userId);
+
     void deleteByUserIdAndProductId(Long userId, Long productId);
 }
 
@@ -43,4 +43,7 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     long countBySellerId(Long sellerId);
 
     boolean existsByOrderNumber(String orderNumber);
+
+    @Query("SELECT o.auction.id FROM Order o WHERE o.auction.id IN :auctionIds")
+    List<Long> findAuctionIdsWithOrder(@Param("auctionIds") List<Long> auctionIds);
 }
@@ -0,0 +1,21 @@
+package com.purple_dog.mvp.dao;
+
+import com.purple_dog.mvp.entities.Product;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Lecture des clés d'une page de produits (id et clé de tri) sans charger les entités
+ */
+public interface ProductKeysetRepository {
+
+    /**
+     * Ids et clé de tri des produits respectant la spécification, triés par clé puis id, au plus {@code limit}
+     */
+    List<ProductKey> findKeys(Specification<Product> spec, String sortAttribute, Sort.Direction direction, int limit);
+
+    record ProductKey(Long id, Object sortKey) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.purple_dog.mvp.dao;
+
+import com.purple_dog.mvp.entities.Product;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Requête Criteria ne sélectionnant que l'id et la clé de tri : aucune entité Product n'est chargée,
+ * donc aucune des relations un-à-un inverses (enchère, vente rapide) n'est lue ligne par ligne
+ */
+public class ProductKeysetRepositoryImpl implements ProductKeysetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductKey> findKeys(Specification<Product> spec, String sortAttribute, Sort.Direction direction,
+                                     int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        Path<Long> id = root.get("id");
+        Path<Object> key = root.get(sortAttribute);
+        query.multiselect(id, key)
+                .where(spec.toPredicate(root, query, cb))
+                .orderBy(direction.isAscending()
+                        ? List.of(cb.asc(key), cb.asc(id))
+                        : List.of(cb.desc(key), cb.desc(id)));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList().stream()
+                .map(row -> new ProductKey(row.get(0, Long.class), row.get(1)))
+                .toList();
+    }
+}
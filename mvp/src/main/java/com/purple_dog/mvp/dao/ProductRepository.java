@@ -1,16 +1,29 @@
 package com.purple_dog.mvp.dao;
 
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.DocumentStatus;
+import com.purple_dog.mvp.entities.DocumentType;
+import com.purple_dog.mvp.entities.Money;
 import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
 import com.purple_dog.mvp.entities.ProductStatus;
+import com.purple_dog.mvp.entities.SaleType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductKeysetRepository {
     Optional<Product> findById(Long id);
     
     Optional<Product> findByTitle(String title);
@@ -20,4 +33,241 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     List<Product> findAllBySellerIdAndStatus(Long sellerId, ProductStatus status);
 
     Long countByCategoryId(Long categoryId);
+
+    String SEARCH_ENTRY = "SELECT p.id AS id, p.title AS title, p.brand AS brand, p.description AS description, " +
+            "p.category.id AS categoryId, p.productCondition AS productCondition, p.saleType AS saleType, " +
+            "p.status AS status, p.estimatedValue AS estimatedValue, p.createdAt AS createdAt FROM Product p ";
+
+    /**
+     * Textes et filtres des produits pour l'index de recherche, par tranches d'id croissants
+     */
+    @Query(SEARCH_ENTRY + "WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductSearchEntry> findSearchEntries(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Produits créés ou modifiés depuis une date, pour la resynchronisation de l'index de recherche
+     */
+    @Query(SEARCH_ENTRY + "WHERE p.updatedAt >= :since OR p.createdAt >= :since")
+    List<ProductSearchEntry> findSearchEntriesChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Produits actifs pour l'index d'autocomplétion, par tranches d'id : titre, marque, catégorie,
+     * vues reportées et nombre de favoris
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.brand AS brand, c.id AS categoryId, c.name AS categoryName, " +
+            "p.viewCount AS viewCount, (SELECT COUNT(f) FROM Favorite f WHERE f.product = p) AS favoriteCount " +
+            "FROM Product p LEFT JOIN p.category c WHERE p.status = :status AND p.id > :afterId ORDER BY p.id")
+    List<ProductSuggestEntry> findSuggestEntries(@Param("status") ProductStatus status, @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * Modèle de lecture : produits avec vendeur, catégorie, vente rapide et enchère, en une requête
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, " +
+            "p.productCondition AS productCondition, p.status AS status, p.saleType AS saleType, " +
+            "p.estimatedValue AS estimatedValue, p.brand AS brand, p.yearOfManufacture AS yearOfManufacture, " +
+            "p.origin AS origin, p.authenticityCertificate AS authenticityCertificate, " +
+            "p.hasDocumentation AS hasDocumentation, p.widthCm AS widthCm, p.heightCm AS heightCm, " +
+            "p.depthCm AS depthCm, p.weightKg AS weightKg, p.viewCount AS viewCount, p.createdAt AS createdAt, " +
+            "p.updatedAt AS updatedAt, " +
+            "s.id AS sellerId, s.firstName AS sellerFirstName, s.lastName AS sellerLastName, s.email AS sellerEmail, " +
+            "c.id AS categoryId, c.name AS categoryName, c.description AS categoryDescription, " +
+            "q.id AS quickSaleId, q.fixedPrice AS quickSalePrice, q.isAvailable AS quickSaleAvailable, " +
+            "a.id AS auctionId, a.startingPrice AS startingPrice, a.reservePrice AS reservePrice, " +
+            "a.currentPrice AS currentPrice, a.bidIncrement AS bidIncrement, a.startDate AS startDate, " +
+            "a.endDate AS endDate, a.status AS auctionStatus, a.reservePriceMet AS reservePriceMet, " +
+            "w.id AS winnerId, a.totalBids AS totalBids, wb.id AS winningBidId " +
+            "FROM Product p JOIN p.seller s JOIN p.category c LEFT JOIN p.quickSale q LEFT JOIN p.auction a " +
+            "LEFT JOIN a.winner w LEFT JOIN a.winningBid wb WHERE p.id IN :ids")
+    List<ProductRow> findRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Modèle de lecture : photos d'un lot de produits, dans l'ordre d'affichage
+     */
+    @Query("SELECT ph.product.id AS productId, ph.id AS id, ph.url AS url, ph.displayOrder AS displayOrder, " +
+            "ph.isPrimary AS isPrimary FROM Photo ph WHERE ph.product.id IN :ids ORDER BY ph.displayOrder, ph.id")
+    List<PhotoRow> findPhotoRows(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Modèle de lecture : documents d'un lot de produits, avec l'administrateur qui les a vérifiés
+     */
+    @Query("SELECT d.product.id AS productId, d.id AS id, d.documentType AS documentType, d.fileName AS fileName, " +
+            "d.fileUrl AS fileUrl, d.fileType AS fileType, d.fileSize AS fileSize, d.description AS description, " +
+            "d.status AS status, d.rejectionReason AS rejectionReason, d.verifiedAt AS verifiedAt, " +
+            "v.id AS verifiedById, v.firstName AS verifiedByFirstName, v.lastName AS verifiedByLastName, " +
+            "d.uploadedAt AS uploadedAt " +
+            "FROM Document d LEFT JOIN d.verifiedBy v WHERE d.product.id IN :ids ORDER BY d.id")
+    List<DocumentRow> findDocumentRows(@Param("ids") Collection<Long> ids);
+
+    interface ProductRow {
+        Long getId();
+
+        String getTitle();
+
+        String getDescription();
+
+        ProductCondition getProductCondition();
+
+        ProductStatus getStatus();
+
+        SaleType getSaleType();
+
+        BigDecimal getEstimatedValue();
+
+        String getBrand();
+
+        Integer getYearOfManufacture();
+
+        String getOrigin();
+
+        String getAuthenticityCertificate();
+
+        Boolean getHasDocumentation();
+
+        BigDecimal getWidthCm();
+
+        BigDecimal getHeightCm();
+
+        BigDecimal getDepthCm();
+
+        BigDecimal getWeightKg();
+
+        Integer getViewCount();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        Long getSellerId();
+
+        String getSellerFirstName();
+
+        String getSellerLastName();
+
+        String getSellerEmail();
+
+        Long getCategoryId();
+
+        String getCategoryName();
+
+        String getCategoryDescription();
+
+        Long getQuickSaleId();
+
+        Money getQuickSalePrice();
+
+        Boolean getQuickSaleAvailable();
+
+        Long getAuctionId();
+
+        Money getStartingPrice();
+
+        Money getReservePrice();
+
+        Money getCurrentPrice();
+
+        Money getBidIncrement();
+
+        LocalDateTime getStartDate();
+
+        LocalDateTime getEndDate();
+
+        AuctionStatus getAuctionStatus();
+
+        Boolean getReservePriceMet();
+
+        Long getWinnerId();
+
+        Integer getTotalBids();
+
+        Long getWinningBidId();
+    }
+
+    interface PhotoRow {
+        Long getProductId();
+
+        Long getId();
+
+        String getUrl();
+
+        Integer getDisplayOrder();
+
+        Boolean getIsPrimary();
+    }
+
+    interface DocumentRow {
+        Long getProductId();
+
+        Long getId();
+
+        DocumentType getDocumentType();
+
+        String getFileName();
+
+        String getFileUrl();
+
+        String getFileType();
+
+        Long getFileSize();
+
+        String getDescription();
+
+        DocumentStatus getStatus();
+
+        String getRejectionReason();
+
+        LocalDateTime getVerifiedAt();
+
+        Long getVerifiedById();
+
+        String getVerifiedByFirstName();
+
+        String getVerifiedByLastName();
+
+        LocalDateTime getUploadedAt();
+    }
+
+    /**
+     * Projection d'un produit pour l'index de recherche plein texte
+     */
+    interface ProductSearchEntry {
+        Long getId();
+
+        String getTitle();
+
+        String getBrand();
+
+        String getDescription();
+
+        Long getCategoryId();
+
+        ProductCondition getProductCondition();
+
+        SaleType getSaleType();
+
+        ProductStatus getStatus();
+
+        BigDecimal getEstimatedValue();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * Projection d'un produit pour l'index d'autocomplétion
+     */
+    interface ProductSuggestEntry {
+        Long getId();
+
+        String getTitle();
+
+        String getBrand();
+
+        Long getCategoryId();
+
+        String getCategoryName();
+
+        Integer getViewCount();
+
+        Long getFavoriteCount();
+    }
 }
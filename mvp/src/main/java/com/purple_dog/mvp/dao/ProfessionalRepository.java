@@ -28,5 +28,11 @@ public interface ProfessionalRepository extends JpaRepository<Professional, Long
     List<Professional> searchByCompanyName(@Param("keyword") String keyword);
 
     long countByCertified(Boolean certified);
+
+    /**
+     * Limite d'enchères par minute du plan du professionnel (vide si pas de plan ou pas de limite)
+     */
+    @Query("SELECT pl.maxBidsPerMinute FROM Professional p LEFT JOIN p.plan pl WHERE p.id = :id")
+    Optional<Integer> findMaxBidsPerMinute(@Param("id") Long id);
 }
 
@@ -0,0 +1,28 @@
+package com.purple_dog.mvp.dto;
+
+import com.purple_dog.mvp.entities.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO d'une enchère dans les fils de la page d'accueil (fin imminente, plus disputées)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionFeedItemDTO {
+
+    private Long auctionId;
+    private Long productId;
+    private String productTitle;
+    private Money currentPrice;
+    private LocalDateTime endDate;
+    private Integer totalBids;
+    // Enchères placées sur la fenêtre récente (fil "plus disputées" uniquement)
+    private Long recentBids;
+}
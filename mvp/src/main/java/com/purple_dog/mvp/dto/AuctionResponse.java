@@ -1,10 +1,10 @@
 package com.purple_dog.mvp.dto;
 
 import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -13,15 +13,16 @@ import java.time.LocalDateTime;
 public class AuctionResponse {
     private Long id;
     private Long productId;
-    private BigDecimal desiredPrice;
-    private BigDecimal startingPrice;
-    private BigDecimal reservePrice;
-    private BigDecimal currentPrice;
-    private BigDecimal bidIncrement;
+    private Money desiredPrice;
+    private Money startingPrice;
+    private Money reservePrice;
+    private Money currentPrice;
+    private Money bidIncrement;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private AuctionStatus status;
     private Boolean reservePriceMet;
     private Long winnerId;
     private Integer totalBids;
+    private Long winningBidId;
 }
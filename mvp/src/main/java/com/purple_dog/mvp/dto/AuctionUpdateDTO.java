@@ -0,0 +1,29 @@
+package com.purple_dog.mvp.dto;
+
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO pour les mises à jour en temps réel d'une enchère (flux SSE)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionUpdateDTO {
+
+    private Long auctionId;
+    private Money currentPrice;
+    private Long leaderId;
+    private LocalDateTime endDate;
+    private AuctionStatus status;
+    private Boolean reservePriceMet;
+    private Integer totalBids;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,27 @@
+package com.purple_dog.mvp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO pour les statistiques de contention des enchères d'une auction
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BidContentionDTO {
+
+    private Long auctionId;
+
+    // Conflits de version détectés à l'écriture
+    private Long conflicts;
+
+    // Nouvelles tentatives après conflit
+    private Long retries;
+
+    // Abandons après épuisement des tentatives
+    private Long giveUps;
+}
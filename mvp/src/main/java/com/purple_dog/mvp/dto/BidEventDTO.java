@@ -0,0 +1,31 @@
+package com.purple_dog.mvp.dto;
+
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.BidEventType;
+import com.purple_dog.mvp.entities.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO pour un événement du journal des enchères d'une auction
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BidEventDTO {
+
+    private Long auctionId;
+    private Long sequence;
+    private BidEventType type;
+    private Long bidderId;
+    private Money amount;
+    private Money maxAmount;
+    private LocalDateTime endDate;
+    private AuctionStatus status;
+    private LocalDateTime occurredAt;
+}
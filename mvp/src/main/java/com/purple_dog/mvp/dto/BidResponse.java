@@ -1,10 +1,10 @@
 package com.purple_dog.mvp.dto;
 
+import com.purple_dog.mvp.entities.Money;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -15,8 +15,8 @@ public class BidResponse {
     private Long auctionId;
     private Long bidderId;
     private String bidderName;
-    private BigDecimal amount;
-    private BigDecimal maxAmount;
+    private Money amount;
+    private Money maxAmount;
     private Boolean isAutoBid;
     private Boolean isWinning;
     private LocalDateTime bidDate;
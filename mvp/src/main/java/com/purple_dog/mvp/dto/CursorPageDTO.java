@@ -0,0 +1,21 @@
+package com.purple_dog.mvp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page d'une pagination par curseur (keyset) : pas de COUNT ni d'OFFSET,
+ * la page suivante reprend après la dernière clé de tri renvoyée
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+    // Curseur à renvoyer pour obtenir la page suivante ; null sur la dernière page
+    private String nextCursor;
+}
@@ -1,12 +1,12 @@
 package com.purple_dog.mvp.dto;
 
+import com.purple_dog.mvp.entities.Money;
 import com.purple_dog.mvp.entities.OfferStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -18,11 +18,11 @@ public class OfferResponseDTO {
     private Long id;
     private Long quickSaleId;
     private String productTitle;
-    private BigDecimal fixedPrice;
+    private Money fixedPrice;
     private Long buyerId;
     private String buyerName;
     private String buyerEmail;
-    private BigDecimal amount;
+    private Money amount;
     private String message;
     private OfferStatus status;
     private LocalDateTime createdAt;
@@ -40,6 +40,9 @@ public class PlanCreateDTO {
     @Min(value = 1, message = "Max photos must be at least 1")
     private Integer maxPhotosPerListing;
 
+    @Min(value = 1, message = "Max bids per minute must be at least 1")
+    private Integer maxBidsPerMinute; // null = platform default
+
     private Boolean featuredListings;
 
     private Boolean prioritySupport;
@@ -23,6 +23,7 @@ public class PlanResponseDTO {
     private BigDecimal annualPrice;
     private Integer maxListings;
     private Integer maxPhotosPerListing;
+    private Integer maxBidsPerMinute;
     private Boolean featuredListings;
     private Boolean prioritySupport;
     private Boolean analyticsAccess;
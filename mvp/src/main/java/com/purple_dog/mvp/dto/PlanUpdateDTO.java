@@ -39,6 +39,9 @@ public class PlanUpdateDTO {
     @Min(value = 1, message = "Max photos must be at least 1")
     private Integer maxPhotosPerListing;
 
+    @Min(value = 1, message = "Max bids per minute must be at least 1")
+    private Integer maxBidsPerMinute;
+
     private Boolean featuredListings;
 
     private Boolean prioritySupport;
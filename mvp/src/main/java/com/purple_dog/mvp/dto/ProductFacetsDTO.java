@@ -0,0 +1,45 @@
+package com.purple_dog.mvp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Décomptes par facette des produits correspondant à une recherche (tous les résultats, pas seulement la page)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDTO {
+
+    private List<FacetCount> categories;
+    private List<FacetCount> conditions;
+    private List<FacetCount> saleTypes;
+    private List<PriceBucket> priceBuckets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        // Valeur à repasser en filtre (id de catégorie, nom d'énumération)
+        private String value;
+        // Libellé affichable (nom de catégorie), null pour les énumérations
+        private String label;
+        private long count;
+    }
+
+    /**
+     * Tranche de valeur estimée [min, max[ ; max null pour la dernière tranche
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceBucket {
+        private BigDecimal min;
+        private BigDecimal max;
+        private long count;
+    }
+}
@@ -0,0 +1,32 @@
+package com.purple_dog.mvp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Événement de progression d'un import de produits, une ligne NDJSON par événement :
+ * ligne rejetée (ERROR), avancement après chaque lot écrit (PROGRESS), bilan final (COMPLETED)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductImportEventDTO {
+
+    private Type type;
+    // Ligne concernée (1 pour la première ligne de données), ERROR seulement
+    private Integer row;
+    private String message;
+    private int total;
+    private int processed;
+    private int imported;
+    private int failed;
+    // COMPLETED seulement
+    private Long elapsedMs;
+
+    public enum Type {
+        ERROR, PROGRESS, COMPLETED
+    }
+}
@@ -4,6 +4,7 @@ import com.purple_dog.mvp.entities.ProductCondition;
 import com.purple_dog.mvp.entities.ProductStatus;
 import com.purple_dog.mvp.entities.SaleType;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -14,6 +15,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Builder(toBuilder = true)
 public class ProductResponse {
     private Long id;
     private Long sellerId;
@@ -43,6 +45,7 @@ public class ProductResponse {
     private Long quickSaleId;
     private Long auctionId;
     private AuctionResponse auction; // Add auction details object to carry starting/current price etc.
+    private Long viewCount; // Vues en base + vues pas encore reportées (ProductViewCounter)
 
     @Data
     @NoArgsConstructor
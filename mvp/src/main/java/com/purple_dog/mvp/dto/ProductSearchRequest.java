@@ -19,4 +19,6 @@ public class ProductSearchRequest {
     private BigDecimal minPrice;
     private BigDecimal maxPrice;
     private Boolean availableOnly;
+    // Recherche approchée (fautes de frappe) sur le titre et la marque
+    private Boolean fuzzy;
 }
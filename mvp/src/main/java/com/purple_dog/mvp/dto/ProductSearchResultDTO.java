@@ -0,0 +1,25 @@
+package com.purple_dog.mvp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Page de produits paginée par curseur (recherche, produits d'un vendeur),
+ * avec le nombre estimé de résultats et, pour une recherche, leurs décomptes par facette
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchResultDTO {
+
+    private List<ProductResponse> items;
+    // Curseur à renvoyer pour obtenir la page suivante ; null sur la dernière page
+    private String nextCursor;
+    // Null (omis) sur les pages suivantes des produits d'un vendeur : décompté sur la première page seulement
+    private Long estimatedTotal;
+    // Null pour les listes sans facettes (produits d'un vendeur)
+    private ProductFacetsDTO facets;
+}
@@ -0,0 +1,12 @@
+package com.purple_dog.mvp.dto;
+
+/**
+ * Tri des listes de produits ; l'id départage les égalités pour une pagination par curseur stable
+ */
+public enum ProductSort {
+    // Pertinence de la recherche plein texte (sans texte : plus récents d'abord)
+    RELEVANCE,
+    NEWEST,
+    PRICE_ASC,
+    PRICE_DESC
+}
@@ -0,0 +1,23 @@
+package com.purple_dog.mvp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Complétion proposée pendant la saisie d'une recherche : titre de produit, marque ou catégorie
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionDTO {
+
+    private String text;
+    private Type type;
+    // Produit (PRODUCT) ou catégorie (CATEGORY) à ouvrir ; null pour une marque
+    private Long id;
+
+    public enum Type {
+        PRODUCT, BRAND, CATEGORY
+    }
+}
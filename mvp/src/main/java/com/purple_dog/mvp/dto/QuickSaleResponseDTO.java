@@ -1,11 +1,11 @@
 package com.purple_dog.mvp.dto;
 
+import com.purple_dog.mvp.entities.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -19,9 +19,9 @@ public class QuickSaleResponseDTO {
     private String productTitle;
     private String productDescription;
     private String productMainImage;
-    private BigDecimal fixedPrice;
+    private Money fixedPrice;
     private Boolean acceptOffers;
-    private BigDecimal minimumOfferPrice;
+    private Money minimumOfferPrice;
     private Boolean isAvailable;
     private LocalDateTime createdAt;
     private LocalDateTime soldAt;
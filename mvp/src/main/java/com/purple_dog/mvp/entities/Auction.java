@@ -3,21 +3,25 @@ package com.purple_dog.mvp.entities;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import java.math.BigDecimal;
+import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "auctions")
+@Table(name = "auctions", indexes = {
+        @Index(name = "idx_auctions_status_end_date", columnList = "status, end_date")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Auction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auctions_seq")
+    @SequenceGenerator(name = "auctions_seq", sequenceName = "auctions_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -25,16 +29,16 @@ public class Auction {
     private Product product;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal startingPrice;
+    private Money startingPrice;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal reservePrice;
+    private Money reservePrice;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal currentPrice;
+    private Money currentPrice;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal bidIncrement = new BigDecimal("10.00");
+    private Money bidIncrement = Money.ofEuros(10);
 
     @Column(nullable = false)
     private LocalDateTime startDate;
@@ -55,6 +59,22 @@ public class Auction {
 
     private Integer totalBids = 0;
 
+    // Enchère actuellement en tête, maintenue à chaque placement (évite de parcourir l'historique)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winning_bid_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Bid winningBid;
+
+    // Verrouillage optimiste : deux placements concurrents ne peuvent pas s'écraser
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // Séquence du dernier événement écrit dans le journal des enchères (BidEvent)
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long journalSequence;
+
     // Relations
     @OneToMany(mappedBy = "auction", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Bid> bids = new ArrayList<>();
@@ -76,14 +96,14 @@ public class Auction {
             if (this.reservePrice != null) {
                 this.startingPrice = this.reservePrice;
             } else {
-                this.startingPrice = BigDecimal.ZERO;
+                this.startingPrice = Money.ZERO;
             }
         }
         if (this.currentPrice == null) {
             this.currentPrice = this.startingPrice;
         }
         if (this.bidIncrement == null) {
-            this.bidIncrement = new BigDecimal("10.00");
+            this.bidIncrement = Money.ofEuros(10);
         }
         if (this.totalBids == null) {
             this.totalBids = 0;
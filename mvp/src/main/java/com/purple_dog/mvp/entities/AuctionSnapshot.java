@@ -0,0 +1,58 @@
+package com.purple_dog.mvp.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Dernier instantané de l'état d'enchère d'une auction, pris toutes les N entrées du journal.
+ * L'état courant = cet instantané + les BidEvent de séquence supérieure.
+ */
+@Entity
+@Table(name = "auction_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionSnapshot {
+
+    @Id
+    private Long auctionId;
+
+    // Dernier événement du journal inclus dans l'instantané
+    @Column(nullable = false)
+    private long sequence;
+
+    private Long sellerId;
+
+    @Enumerated(EnumType.STRING)
+    private AuctionStatus status;
+
+    private LocalDateTime endDate;
+
+    @Column(precision = 10, scale = 2)
+    private Money currentPrice;
+
+    @Column(precision = 10, scale = 2)
+    private Money reservePrice;
+
+    private boolean reservePriceMet;
+
+    private boolean autoExtendEnabled;
+
+    private Long leaderId;
+
+    @Column(precision = 10, scale = 2)
+    private Money leaderMaxAmount;
+
+    private Long runnerUpId;
+
+    @Column(precision = 10, scale = 2)
+    private Money runnerUpMaxAmount;
+
+    private int totalBids;
+
+    @Column(nullable = false)
+    private LocalDateTime takenAt;
+}
@@ -4,18 +4,22 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        // Historique d'une auction et activité d'un professionnel, paginés par clé (voir BidRepository)
+        @Index(name = "idx_bids_auction_amount_id", columnList = "auction_id, amount, id"),
+        @Index(name = "idx_bids_bidder_date_id", columnList = "bidder_id, bid_date, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Bid {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bids_seq")
+    @SequenceGenerator(name = "bids_seq", sequenceName = "bids_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -27,15 +31,21 @@ public class Bid {
     private Person bidder;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal amount;
+    private Money amount;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal maxAmount; // Pour enchères automatiques
+    private Money maxAmount; // Pour enchères automatiques
 
     private Boolean isAutoBid = false;
 
     @Column(name = "bid_date")
     private LocalDateTime bidDate = LocalDateTime.now();
 
+    // En tête au moment du placement ; l'enchère en tête actuelle est Auction.winningBid
     private Boolean isWinning = false;
+
+    // Verrouillage optimiste : deux placements concurrents ne peuvent pas s'écraser
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
 }
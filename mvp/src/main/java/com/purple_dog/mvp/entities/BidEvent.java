@@ -0,0 +1,60 @@
+package com.purple_dog.mvp.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Journal des enchères : une ligne par événement, jamais modifiée.
+ * Les événements d'une auction sont numérotés sans trou (sequence) ; rejoués dans l'ordre
+ * depuis un AuctionSnapshot, ils redonnent l'état de l'auction.
+ */
+@Entity
+@Table(name = "bid_events", uniqueConstraints = {
+        @UniqueConstraint(name = BidEvent.SEQUENCE_CONSTRAINT, columnNames = {"auction_id", "sequence"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BidEvent {
+
+    public static final String SEQUENCE_CONSTRAINT = "uk_bid_events_auction_sequence";
+
+    // Séquence allouée par blocs : les insertions n'ont pas à relire l'id généré
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bid_events_seq")
+    @SequenceGenerator(name = "bid_events_seq", sequenceName = "bid_events_seq", allocationSize = 50)
+    private Long id;
+
+    // Identifiants simples, sans clé étrangère : le journal ne fait que des insertions
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BidEventType type;
+
+    private Long bidderId;
+
+    @Column(precision = 10, scale = 2)
+    private Money amount;
+
+    @Column(precision = 10, scale = 2)
+    private Money maxAmount; // Max engagé par l'enchérisseur (PLACED)
+
+    private LocalDateTime endDate; // Nouvelle date de fin (EXTENDED)
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private AuctionStatus status; // Statut final (CLOSED)
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,8 @@
+package com.purple_dog.mvp.entities;
+
+public enum BidEventType {
+    PLACED, // Enchère placée par un enchérisseur
+    AUTO_COUNTER, // Contre-enchère automatique du meneur
+    EXTENDED, // Date de fin prolongée (bataille à H-1)
+    CLOSED // Enchère clôturée (statut final)
+}
@@ -18,7 +18,8 @@ import java.util.List;
 public class Carrier {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "carriers_seq")
+    @SequenceGenerator(name = "carriers_seq", sequenceName = "carriers_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -17,7 +17,8 @@ import java.util.List;
 public class Feature {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "features_seq")
+    @SequenceGenerator(name = "features_seq", sequenceName = "features_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -18,7 +18,8 @@ import java.util.List;
 public class Plan {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "plans_seq")
+    @SequenceGenerator(name = "plans_seq", sequenceName = "plans_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -41,6 +42,8 @@ public class Plan {
 
     private Integer maxPhotosPerListing;
 
+    private Integer maxBidsPerMinute; // null = limite par défaut de la plateforme
+
     private Boolean featuredListings = false;
 
     private Boolean prioritySupport = false;
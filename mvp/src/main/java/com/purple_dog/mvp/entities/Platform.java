@@ -20,7 +20,8 @@ import java.util.List;
 public class Platform {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "platform_seq")
+    @SequenceGenerator(name = "platform_seq", sequenceName = "platform_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -22,7 +22,8 @@ import java.time.LocalDateTime;
 public class PlatformReview {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "platform_reviews_seq")
+    @SequenceGenerator(name = "platform_reviews_seq", sequenceName = "platform_reviews_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
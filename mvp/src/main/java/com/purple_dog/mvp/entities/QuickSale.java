@@ -5,7 +5,6 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,7 +18,8 @@ import java.util.List;
 public class QuickSale {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quick_sales_seq")
+    @SequenceGenerator(name = "quick_sales_seq", sequenceName = "quick_sales_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -27,12 +27,12 @@ public class QuickSale {
     private Product product;
 
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal fixedPrice;
+    private Money fixedPrice;
 
     private Boolean acceptOffers = true;
 
     @Column(precision = 10, scale = 2)
-    private BigDecimal minimumOfferPrice;
+    private Money minimumOfferPrice;
 
     private Boolean isAvailable = true;
 
@@ -21,7 +21,8 @@ import java.time.LocalDateTime;
 public class StripeCustomer {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stripe_customers_seq")
+    @SequenceGenerator(name = "stripe_customers_seq", sequenceName = "stripe_customers_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
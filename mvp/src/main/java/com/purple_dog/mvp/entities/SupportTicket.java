@@ -18,7 +18,8 @@ import java.util.List;
 public class SupportTicket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "support_tickets_seq")
+    @SequenceGenerator(name = "support_tickets_seq", sequenceName = "support_tickets_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
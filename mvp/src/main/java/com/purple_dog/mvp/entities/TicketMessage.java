@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class TicketMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_messages_seq")
+    @SequenceGenerator(name = "ticket_messages_seq", sequenceName = "ticket_messages_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,50 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * État en mémoire d'une enchère en cours, tenu par le BiddingEngine.
+ * N'est modifié que par le thread de la voie (lane) à laquelle l'enchère est affectée.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionBook {
+
+    private Long auctionId;
+    private Long sellerId;
+    private AuctionStatus status;
+    private LocalDateTime endDate;
+    private Money currentPrice;
+    private Money reservePrice;
+    private boolean reservePriceMet;
+    private boolean autoExtendEnabled;
+
+    // Enchérisseur en tête et son montant maximum (montant de l'enchère si pas d'enchère automatique)
+    private Long leaderId;
+    private Money leaderMaxAmount;
+
+    // Second enchérisseur le plus offrant (max engagé), pour le calcul au second prix
+    private Long runnerUpId;
+    private Money runnerUpMaxAmount;
+
+    private int totalBids;
+
+    public boolean isOpen() {
+        return status == AuctionStatus.ACTIVE || status == AuctionStatus.EXTENDED;
+    }
+
+    /**
+     * Copie figée transmise au flusher, la voie continuant de modifier l'original
+     */
+    public AuctionBook snapshot() {
+        return new AuctionBook(auctionId, sellerId, status, endDate, currentPrice, reservePrice,
+                reservePriceMet, autoExtendEnabled, leaderId, leaderMaxAmount, runnerUpId, runnerUpMaxAmount, totalBids);
+    }
+}
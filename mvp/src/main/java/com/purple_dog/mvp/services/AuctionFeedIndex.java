@@ -0,0 +1,351 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionFeedEntry;
+import com.purple_dog.mvp.dto.AuctionFeedItemDTO;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.utils.SlidingWindowCounter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Index en mémoire des enchères ouvertes pour les fils de la page d'accueil, servis sans accès base :
+ * - "fin imminente" : liste à enjambements triée par date de fin, parcourue depuis l'instant présent ;
+ * - "plus disputées" : top-K des enchères ayant reçu le plus d'enchères sur une fenêtre glissante,
+ *   recalculé périodiquement par un thread unique.
+ * L'index est alimenté au démarrage, à chaque création, modification ou clôture d'enchère, à chaque
+ * enchère placée, et par une resynchronisation périodique (enchères créées par une autre instance).
+ * L'activité récente ne compte que les enchères placées sur cette instance.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionFeedIndex {
+
+    private static final int VELOCITY_BUCKETS = 60;
+    // Une enchère échue reste indexée le temps qu'une dernière enchère la prolonge éventuellement
+    private static final long EXPIRED_GRACE_MS = 60_000;
+
+    private static final Comparator<Ranked> HOTTEST_FIRST = Comparator
+            .comparingLong(Ranked::recentBids).reversed()
+            .thenComparingLong(r -> r.entry().endMillis)
+            .thenComparingLong(r -> r.entry().auctionId);
+
+    private final AuctionRepository auctionRepository;
+
+    @Value("${auction.feeds.hot-window-minutes:10}")
+    private long hotWindowMinutes;
+
+    @Value("${auction.feeds.hot-size:100}")
+    private int hotSize;
+
+    @Value("${auction.feeds.refresh-ms:1000}")
+    private long refreshMs;
+
+    @Value("${auction.feeds.resync-minutes:5}")
+    private long resyncMinutes;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Deadline> byEndDate = new ConcurrentSkipListSet<>();
+    // Classement publié par le dernier recalcul, du plus disputé au moins disputé
+    private volatile List<Ranked> hottest = List.of();
+
+    private ScheduledExecutorService refresher;
+
+    @PostConstruct
+    public void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "auction-feeds");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.execute(this::resync);
+        refresher.scheduleAtFixedRate(this::refresh, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        long resyncMs = TimeUnit.MINUTES.toMillis(Math.max(1, resyncMinutes));
+        refresher.scheduleWithFixedDelay(this::resync, resyncMs, resyncMs, TimeUnit.MILLISECONDS);
+        log.info("Auction feeds started (hot window {} min, top {})", hotWindowMinutes, hotSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher.awaitTermination(refreshMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Indexe une enchère créée ou modifiée (état relu en base, qui fait foi)
+     */
+    public void track(Auction auction) {
+        if (!isOpen(auction.getStatus())) {
+            remove(auction.getId());
+            return;
+        }
+        Entry entry = entries.computeIfAbsent(auction.getId(), id -> new Entry(id,
+                auction.getProduct().getId(), auction.getProduct().getTitle(), windowMs()));
+        update(entry, auction.getCurrentPrice(), auction.getEndDate(), auction.getTotalBids(), false);
+    }
+
+    /**
+     * Prend en compte une enchère placée : prix, prolongation et activité récente
+     */
+    public void recordBid(AuctionBook state) {
+        Entry entry = entries.get(state.getAuctionId());
+        if (entry == null) {
+            // Enchère créée ailleurs : elle sera indexée à la prochaine resynchronisation
+            return;
+        }
+        update(entry, state.getCurrentPrice(), state.getEndDate(), state.getTotalBids(), true);
+        entry.velocity.increment(System.currentTimeMillis());
+    }
+
+    /**
+     * Retire une enchère clôturée ou supprimée
+     */
+    public void remove(Long auctionId) {
+        Entry entry = entries.remove(auctionId);
+        if (entry != null) {
+            synchronized (entry) {
+                entry.removed = true;
+                byEndDate.remove(new Deadline(entry.endMillis, entry.auctionId));
+            }
+        }
+    }
+
+    /**
+     * Enchères ouvertes se terminant dans l'horizon donné, de la plus proche à la plus lointaine
+     */
+    public Page<AuctionFeedItemDTO> endingSoon(Duration within, int page, int size) {
+        long now = System.currentTimeMillis();
+        NavigableSet<Deadline> window = byEndDate.subSet(
+                new Deadline(now, Long.MIN_VALUE), false,
+                new Deadline(now + within.toMillis(), Long.MAX_VALUE), true);
+
+        long offset = (long) page * size;
+        long total = 0;
+        List<AuctionFeedItemDTO> content = new ArrayList<>(size);
+        for (Deadline deadline : window) {
+            Entry entry = entries.get(deadline.auctionId());
+            if (entry == null) {
+                continue;
+            }
+            if (total >= offset && content.size() < size) {
+                content.add(toItem(entry, null));
+            }
+            total++;
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size), total);
+    }
+
+    /**
+     * Enchères ouvertes ayant reçu le plus d'enchères sur la fenêtre récente (classement du dernier recalcul)
+     */
+    public Page<AuctionFeedItemDTO> hottest(int page, int size) {
+        List<Ranked> ranking = hottest;
+        int from = (int) Math.min((long) page * size, ranking.size());
+        int to = Math.min(from + size, ranking.size());
+        List<AuctionFeedItemDTO> content = new ArrayList<>(to - from);
+        for (Ranked ranked : ranking.subList(from, to)) {
+            content.add(toItem(ranked.entry(), ranked.recentBids()));
+        }
+        return new PageImpl<>(content, PageRequest.of(page, size), ranking.size());
+    }
+
+    /**
+     * Tick : purge les enchères échues et recalcule le top-K des plus disputées.
+     * Exécuté uniquement sur le thread auction-feeds.
+     */
+    void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            purgeExpired(now - EXPIRED_GRACE_MS);
+            hottest = rank(now);
+        } catch (RuntimeException e) {
+            log.error("Failed to refresh auction feeds: {}", e.getMessage(), e);
+        }
+    }
+
+    private void purgeExpired(long before) {
+        Deadline first;
+        while ((first = byEndDate.ceiling(new Deadline(Long.MIN_VALUE, Long.MIN_VALUE))) != null
+                && first.endMillis() < before) {
+            Entry entry = entries.get(first.auctionId());
+            if (entry != null && entry.endMillis == first.endMillis()) {
+                remove(first.auctionId());
+            } else {
+                byEndDate.remove(first);
+            }
+        }
+    }
+
+    private List<Ranked> rank(long now) {
+        int k = Math.max(1, hotSize);
+        // Tas min borné à K : la racine est la moins disputée des K retenues
+        PriorityQueue<Ranked> top = new PriorityQueue<>(k + 1, HOTTEST_FIRST.reversed());
+        for (Entry entry : entries.values()) {
+            if (entry.endMillis <= now || !entry.velocity.isActive(now)) {
+                continue;
+            }
+            long recentBids = entry.velocity.count(now);
+            if (recentBids == 0) {
+                continue;
+            }
+            top.add(new Ranked(entry, recentBids));
+            if (top.size() > k) {
+                top.poll();
+            }
+        }
+        List<Ranked> ranking = new ArrayList<>(top);
+        ranking.sort(HOTTEST_FIRST);
+        return List.copyOf(ranking);
+    }
+
+    /**
+     * Recharge les enchères ouvertes depuis la base et oublie celles qui ne le sont plus
+     */
+    void resync() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<AuctionFeedEntry> open = auctionRepository.findOpenFeedEntries();
+            Set<Long> openIds = new HashSet<>(open.size() * 2);
+            for (AuctionFeedEntry row : open) {
+                openIds.add(row.getId());
+                Entry entry = entries.computeIfAbsent(row.getId(), id -> new Entry(id,
+                        row.getProductId(), row.getProductTitle(), windowMs()));
+                // Une enchère placée pendant la lecture est plus récente que la ligne relue
+                update(entry, row.getCurrentPrice(), row.getEndDate(), row.getTotalBids(), true);
+            }
+            entries.values().stream()
+                    .filter(entry -> entry.trackedAt < startedAt && !openIds.contains(entry.auctionId))
+                    .map(entry -> entry.auctionId)
+                    .toList()
+                    .forEach(this::remove);
+            log.debug("Auction feeds resynced with {} open auctions", open.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to resync auction feeds: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * monotonic : ne jamais faire reculer prix, date de fin et nombre d'enchères (états concurrents)
+     */
+    private void update(Entry entry, Money currentPrice, LocalDateTime endDate, Integer totalBids,
+            boolean monotonic) {
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            if (currentPrice != null && (!monotonic || entry.currentPrice == null
+                    || currentPrice.isGreaterThan(entry.currentPrice))) {
+                entry.currentPrice = currentPrice;
+            }
+            if (totalBids != null && (!monotonic || totalBids > entry.totalBids)) {
+                entry.totalBids = totalBids;
+            }
+            if (endDate == null) {
+                return;
+            }
+            long endMillis = toEpochMilli(endDate);
+            boolean indexed = entry.endDate != null;
+            if (indexed && (endMillis == entry.endMillis || monotonic && endMillis < entry.endMillis)) {
+                return;
+            }
+            if (indexed) {
+                byEndDate.remove(new Deadline(entry.endMillis, entry.auctionId));
+            }
+            entry.endDate = endDate;
+            entry.endMillis = endMillis;
+            byEndDate.add(new Deadline(endMillis, entry.auctionId));
+        }
+    }
+
+    private AuctionFeedItemDTO toItem(Entry entry, Long recentBids) {
+        return AuctionFeedItemDTO.builder()
+                .auctionId(entry.auctionId)
+                .productId(entry.productId)
+                .productTitle(entry.productTitle)
+                .currentPrice(entry.currentPrice)
+                .endDate(entry.endDate)
+                .totalBids(entry.totalBids)
+                .recentBids(recentBids)
+                .build();
+    }
+
+    private long windowMs() {
+        return TimeUnit.MINUTES.toMillis(Math.max(1, hotWindowMinutes));
+    }
+
+    private static boolean isOpen(AuctionStatus status) {
+        return status == AuctionStatus.ACTIVE || status == AuctionStatus.EXTENDED;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Clé de la liste à enjambements : date de fin puis id (plusieurs enchères peuvent finir ensemble)
+     */
+    private record Deadline(long endMillis, long auctionId) implements Comparable<Deadline> {
+
+        @Override
+        public int compareTo(Deadline other) {
+            int byEnd = Long.compare(endMillis, other.endMillis);
+            return byEnd != 0 ? byEnd : Long.compare(auctionId, other.auctionId);
+        }
+    }
+
+    private record Ranked(Entry entry, long recentBids) {
+    }
+
+    /**
+     * État indexé d'une enchère ; les changements de date de fin se font sous son verrou
+     */
+    private static class Entry {
+        private final long auctionId;
+        private final Long productId;
+        private final String productTitle;
+        private final SlidingWindowCounter velocity;
+        private final long trackedAt = System.currentTimeMillis();
+
+        private volatile Money currentPrice;
+        private volatile int totalBids;
+        private volatile LocalDateTime endDate;
+        private volatile long endMillis;
+        private boolean removed;
+
+        private Entry(long auctionId, Long productId, String productTitle, long windowMs) {
+            this.auctionId = auctionId;
+            this.productId = productId;
+            this.productTitle = productTitle;
+            this.velocity = new SlidingWindowCounter(windowMs, VELOCITY_BUCKETS);
+        }
+    }
+}
@@ -1,52 +1,168 @@
 package com.purple_dog.mvp.services;
 
 import com.purple_dog.mvp.dao.AuctionRepository;
-import com.purple_dog.mvp.entities.Auction;
-import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionDeadline;
+import com.purple_dog.mvp.utils.TimingWheel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Clôture automatique des enchères à leur échéance.
+ * Les dates de fin sont rangées dans une roue temporelle hiérarchique tenue par un thread unique :
+ * à chaque tick, seules les enchères échues sont transmises au pipeline de clôture et de règlement.
+ * La roue est alimentée au démarrage, à chaque création ou prolongation d'enchère,
+ * et par une resynchronisation périodique limitée aux échéances proches.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class AuctionScheduler {
 
+    private static final int WHEEL_SIZE = 60;
+
     private final AuctionRepository auctionRepository;
+    private final AuctionSettlementPipeline settlementPipeline;
+
+    @Value("${auction.closer.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${auction.closer.resync-minutes:5}")
+    private long resyncMinutes;
+
+    // Échéance courante de chaque enchère suivie (epoch ms) ; fait foi face aux entrées périmées de la roue
+    private final Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+    // Enchères (re)programmées depuis d'autres threads, intégrées à la roue au prochain tick
+    private final Queue<Long> incoming = new ConcurrentLinkedQueue<>();
+
+    private ScheduledExecutorService closer;
+    private TimingWheel<Long> wheel;
+
+    @PostConstruct
+    public void start() {
+        wheel = new TimingWheel<>(tickMs, WHEEL_SIZE, System.currentTimeMillis());
+        closer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "auction-closer");
+            t.setDaemon(true);
+            return t;
+        });
+        closer.execute(this::seed);
+        closer.scheduleAtFixedRate(this::closeExpiredAuctions, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        long resyncMs = TimeUnit.MINUTES.toMillis(Math.max(1, resyncMinutes));
+        closer.scheduleWithFixedDelay(this::resync, resyncMs, resyncMs, TimeUnit.MILLISECONDS);
+        log.info("Auction closer started (tick {} ms, resync every {} min)", tickMs, resyncMinutes);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        closer.shutdownNow();
+        closer.awaitTermination(tickMs, TimeUnit.MILLISECONDS);
+        log.info("Auction closer stopped");
+    }
+
+    /**
+     * Programme (ou reprogramme) la clôture d'une enchère
+     */
+    public void schedule(Long auctionId, LocalDateTime endDate) {
+        if (auctionId == null || endDate == null) {
+            return;
+        }
+        long deadline = toEpochMilli(endDate);
+        Long previous = deadlines.put(auctionId, deadline);
+        if (previous == null || previous != deadline) {
+            incoming.add(auctionId);
+        }
+    }
+
+    /**
+     * Retire une enchère clôturée ou supprimée par ailleurs
+     */
+    public void cancel(Long auctionId) {
+        deadlines.remove(auctionId);
+    }
+
+    /**
+     * Tick de la roue : clôture les enchères dont l'échéance est atteinte.
+     * Exécuté uniquement sur le thread auction-closer.
+     */
+    void closeExpiredAuctions() {
+        long now = System.currentTimeMillis();
+        Set<Long> due = new LinkedHashSet<>();
+        try {
+            Long auctionId;
+            while ((auctionId = incoming.poll()) != null) {
+                Long deadline = deadlines.get(auctionId);
+                if (deadline != null && !wheel.add(auctionId, deadline)) {
+                    due.add(auctionId);
+                }
+            }
+            wheel.advance(now, due::add);
+
+            // Une enchère prolongée entre-temps a une nouvelle entrée dans la roue
+            due.removeIf(id -> {
+                Long deadline = deadlines.get(id);
+                return deadline == null || deadline > now;
+            });
+            if (!due.isEmpty()) {
+                close(new ArrayList<>(due));
+            }
+        } catch (InterruptedException e) {
+            // Arrêt en cours : les échéances restantes seront reprises au prochain démarrage
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Failed to close {} expired auctions: {}", due.size(), e.getMessage(), e);
+            // Échéances conservées : elles seront reprises au prochain tick
+            incoming.addAll(due);
+        }
+    }
+
+    private void close(List<Long> auctionIds) throws InterruptedException {
+        // La clôture en masse et le règlement sont délégués au pipeline ; bloque s'il est saturé
+        settlementPipeline.submitExpired(auctionIds);
+        auctionIds.forEach(deadlines::remove);
+    }
+
+    private void seed() {
+        try {
+            List<AuctionDeadline> open = auctionRepository.findOpenDeadlines();
+            open.forEach(d -> schedule(d.getId(), d.getEndDate()));
+            log.info("Auction closer seeded with {} open auctions", open.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to seed auction closer: {}", e.getMessage(), e);
+        }
+    }
 
     /**
-     * Clôture automatiquement les enchères expirées
-     * S'exécute toutes les heures
+     * Rattrape les enchères créées ou prolongées sans passer par cette instance
      */
-    @Scheduled(fixedDelay = 3600000) // 1 heure en millisecondes
-    public void closeExpiredAuctions() {
-        log.info("Starting scheduled task to close expired auctions");
-
-        LocalDateTime now = LocalDateTime.now();
-        List<Auction> auctions = auctionRepository.findAll();
-
-        auctions.stream()
-                .filter(a -> a.getStatus() == AuctionStatus.ACTIVE || a.getStatus() == AuctionStatus.EXTENDED)
-                .filter(a -> a.getEndDate().isBefore(now))
-                .forEach(auction -> {
-                    // Déterminer le statut final
-                    if (auction.getReservePriceMet()) {
-                        auction.setStatus(AuctionStatus.SOLD);
-                        log.info("Auction {} has been automatically closed and SOLD", auction.getId());
-                    } else {
-                        auction.setStatus(AuctionStatus.UNSOLD);
-                        log.info("Auction {} has been automatically closed and UNSOLD (reserve price not met)",
-                                auction.getId());
-                    }
-                    auctionRepository.save(auction);
-                });
-
-        log.info("Scheduled task to close expired auctions completed");
+    private void resync() {
+        try {
+            LocalDateTime horizon = LocalDateTime.now().plusMinutes(2 * Math.max(1, resyncMinutes));
+            auctionRepository.findOpenDeadlinesBefore(horizon)
+                    .forEach(d -> schedule(d.getId(), d.getEndDate()));
+        } catch (RuntimeException e) {
+            log.error("Failed to resync auction closer: {}", e.getMessage(), e);
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 }
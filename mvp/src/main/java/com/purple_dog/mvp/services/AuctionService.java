@@ -2,17 +2,23 @@ package com.purple_dog.mvp.services;
 
 import com.purple_dog.mvp.dao.AuctionRepository;
 import com.purple_dog.mvp.dto.AuctionDTO;
+import com.purple_dog.mvp.dto.AuctionFeedItemDTO;
 import com.purple_dog.mvp.dto.AuctionResponse;
+import com.purple_dog.mvp.dto.AuctionUpdateDTO;
 import com.purple_dog.mvp.dto.CreateAuctionRequest;
 import com.purple_dog.mvp.entities.Auction;
 import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
 import com.purple_dog.mvp.entities.Product;
 import com.purple_dog.mvp.exceptions.AuctionException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -24,10 +30,18 @@ public class AuctionService {
 
     private final AuctionRepository auctionRepository;
     private final ProductService productService;
+    private final BiddingEngine biddingEngine;
+    private final BidContentionMetrics bidContentionMetrics;
+    private final AuctionScheduler auctionScheduler;
+    private final AuctionStreamService auctionStreamService;
+    private final AuctionSettlementPipeline settlementPipeline;
+    private final BidJournal bidJournal;
+    private final AuctionFeedIndex auctionFeedIndex;
+    private final ProductDetailCache productDetailCache;
 
     private static final long DEFAULT_AUCTION_DURATION_DAYS = 7;
     private static final BigDecimal DEFAULT_STARTING_PRICE_REDUCTION = new BigDecimal("0.10"); // 10%
-    private static final BigDecimal DEFAULT_BID_INCREMENT = new BigDecimal("10.00");
+    private static final Money DEFAULT_BID_INCREMENT = Money.ofEuros(10);
 
     /**
      * Crée une nouvelle enchère basée sur une demande
@@ -55,16 +69,16 @@ public class AuctionService {
         // Créer l'enchère
         Auction auction = new Auction();
         auction.setProduct(product);
-        auction.setReservePrice(request.getDesiredPrice());
+        auction.setReservePrice(Money.of(request.getDesiredPrice()));
 
         // Calcul du prix de démarrage
-        BigDecimal startingPrice;
+        Money startingPrice;
         if (request.getCustomStartingPrice() != null &&
                 request.getCustomStartingPrice().compareTo(BigDecimal.ZERO) > 0) {
-            startingPrice = request.getCustomStartingPrice();
+            startingPrice = Money.of(request.getCustomStartingPrice());
         } else {
             // Par défaut : -10% du prix souhaité
-            startingPrice = request.getDesiredPrice().multiply(
+            startingPrice = auction.getReservePrice().multiply(
                     BigDecimal.ONE.subtract(DEFAULT_STARTING_PRICE_REDUCTION));
         }
 
@@ -73,7 +87,7 @@ public class AuctionService {
 
         // Incrément d'enchère
         if (request.getBidIncrement() != null && request.getBidIncrement().compareTo(BigDecimal.ZERO) > 0) {
-            auction.setBidIncrement(request.getBidIncrement());
+            auction.setBidIncrement(Money.of(request.getBidIncrement()));
         } else {
             auction.setBidIncrement(DEFAULT_BID_INCREMENT);
         }
@@ -89,6 +103,10 @@ public class AuctionService {
         auction.setIsAutoExtendEnabled(true);
 
         Auction saved = auctionRepository.save(auction);
+        auctionScheduler.schedule(saved.getId(), saved.getEndDate());
+        auctionFeedIndex.track(saved);
+        // La fiche produit embarque l'enchère
+        productDetailCache.invalidate(saved.getProduct().getId());
         return convertToResponse(saved);
     }
 
@@ -115,15 +133,15 @@ public class AuctionService {
 
         Auction auction = new Auction();
         auction.setProduct(product);
-        auction.setReservePrice(desiredPrice);
+        auction.setReservePrice(Money.of(desiredPrice));
 
         // Calcul du prix de démarrage
-        BigDecimal startingPrice;
+        Money startingPrice;
         if (customStartingPrice != null && customStartingPrice.compareTo(BigDecimal.ZERO) > 0) {
-            startingPrice = customStartingPrice;
+            startingPrice = Money.of(customStartingPrice);
         } else {
             // Par défaut : -10% du prix souhaité
-            startingPrice = desiredPrice.multiply(
+            startingPrice = auction.getReservePrice().multiply(
                     BigDecimal.ONE.subtract(DEFAULT_STARTING_PRICE_REDUCTION));
         }
 
@@ -140,7 +158,12 @@ public class AuctionService {
         auction.setTotalBids(0);
         auction.setIsAutoExtendEnabled(true);
 
-        return auctionRepository.save(auction);
+        Auction saved = auctionRepository.save(auction);
+        auctionScheduler.schedule(saved.getId(), saved.getEndDate());
+        auctionFeedIndex.track(saved);
+        // La fiche produit embarque l'enchère
+        productDetailCache.invalidate(saved.getProduct().getId());
+        return saved;
     }
 
     /**
@@ -170,6 +193,22 @@ public class AuctionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Enchères ouvertes se terminant dans les prochaines minutes, servies par l'index en mémoire
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<AuctionFeedItemDTO> getEndingSoonAuctions(long withinMinutes, int page, int size) {
+        return auctionFeedIndex.endingSoon(Duration.ofMinutes(withinMinutes), page, size);
+    }
+
+    /**
+     * Enchères ouvertes les plus disputées sur la fenêtre récente, servies par l'index en mémoire
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<AuctionFeedItemDTO> getHotAuctions(int page, int size) {
+        return auctionFeedIndex.hottest(page, size);
+    }
+
     /**
      * Récupère les enchères clôturées
      */
@@ -179,6 +218,16 @@ public class AuctionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * État courant d'une enchère pour le flux temps réel
+     */
+    @Transactional(readOnly = true)
+    public AuctionUpdateDTO getAuctionUpdate(Long id) {
+        return auctionRepository.findById(id)
+                .map(auctionStreamService::toUpdate)
+                .orElseThrow(() -> new AuctionException("Auction not found with id: " + id));
+    }
+
     /**
      * Met à jour une enchère existante
      */
@@ -188,14 +237,18 @@ public class AuctionService {
 
         if (auctionDTO.getStartingPrice() != null &&
                 auctionDTO.getStartingPrice().compareTo(BigDecimal.ZERO) > 0) {
-            auction.setStartingPrice(auctionDTO.getStartingPrice());
+            auction.setStartingPrice(Money.of(auctionDTO.getStartingPrice()));
         }
         if (auctionDTO.getBidIncrement() != null &&
                 auctionDTO.getBidIncrement().compareTo(BigDecimal.ZERO) > 0) {
-            auction.setBidIncrement(auctionDTO.getBidIncrement());
+            auction.setBidIncrement(Money.of(auctionDTO.getBidIncrement()));
         }
 
         Auction updated = auctionRepository.save(auction);
+        biddingEngine.evict(id);
+        auctionFeedIndex.track(updated);
+        productDetailCache.invalidate(updated.getProduct().getId());
+        auctionStreamService.publish(updated);
         return convertToResponse(updated);
     }
 
@@ -218,7 +271,14 @@ public class AuctionService {
         } else {
             auction.setStatus(AuctionStatus.UNSOLD);
         }
+        bidJournal.recordClosed(auction);
         auctionRepository.save(auction);
+        auctionScheduler.cancel(id);
+        biddingEngine.evict(id);
+        auctionFeedIndex.remove(id);
+        auctionStreamService.publish(auction);
+        productDetailCache.invalidate(auction.getProduct().getId());
+        settlementPipeline.submitClosedAfterCommit(id);
     }
 
     /**
@@ -238,16 +298,26 @@ public class AuctionService {
                 .orElseThrow(() -> new AuctionException("Auction not found with id: " + auctionId));
         auction.setReservePriceMet(isReservePriceMet(auctionId));
         auctionRepository.save(auction);
+        productDetailCache.invalidate(auction.getProduct().getId());
     }
 
     /**
      * Supprime une enchère
      */
     public void deleteAuction(Long id) {
-        if (!auctionRepository.existsById(id)) {
-            throw new AuctionException("Auction not found with id: " + id);
+        Auction auction = auctionRepository.findById(id)
+                .orElseThrow(() -> new AuctionException("Auction not found with id: " + id));
+        // Le pointeur vers l'enchère en tête doit tomber avant la suppression des enchères
+        if (auction.getWinningBid() != null) {
+            auction.setWinningBid(null);
+            auctionRepository.saveAndFlush(auction);
         }
-        auctionRepository.deleteById(id);
+        auctionRepository.delete(auction);
+        auctionScheduler.cancel(id);
+        biddingEngine.evict(id);
+        auctionFeedIndex.remove(id);
+        bidContentionMetrics.forget(id);
+        productDetailCache.invalidate(auction.getProduct().getId());
     }
 
     /**
@@ -267,6 +337,7 @@ public class AuctionService {
                 auction.getStatus(),
                 auction.getReservePriceMet(),
                 auction.getWinner() != null ? auction.getWinner().getId() : null,
-                auction.getTotalBids());
+                auction.getTotalBids(),
+                auction.getWinningBid() != null ? auction.getWinningBid().getId() : null);
     }
 }
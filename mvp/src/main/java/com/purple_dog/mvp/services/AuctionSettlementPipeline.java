@@ -0,0 +1,281 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionSettlement;
+import com.purple_dog.mvp.dao.BidRepository;
+import com.purple_dog.mvp.dao.BidRepository.AuctionBidder;
+import com.purple_dog.mvp.dao.PersonRepository;
+import com.purple_dog.mvp.dto.NotificationCreateDTO;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.NotificationType;
+import com.purple_dog.mvp.entities.Person;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Pipeline de clôture et de règlement des enchères, en trois étapes indépendantes :
+ * 1. clôture en masse des enchères échues (SOLD / UNSOLD), journalisée dans le BidJournal
+ * 2. création par lots des commandes des enchères vendues
+ * 3. notifications par lots (gagnant, vendeur, enchérisseurs perdants)
+ * Chaque étape a sa file bornée et son thread ; chaque lot a sa propre transaction,
+ * un pic de clôtures ne tient donc jamais une transaction géante.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionSettlementPipeline {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final PersonRepository personRepository;
+    private final OrderService orderService;
+    private final InAppNotificationService inAppNotificationService;
+    private final NotificationService notificationService;
+    private final BiddingEngine biddingEngine;
+    private final AuctionStreamService auctionStreamService;
+    private final ProductDetailCache productDetailCache;
+    private final BidJournal bidJournal;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auction.settlement.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${auction.settlement.batch-size:200}")
+    private int batchSize;
+
+    private SettlementStage<Long> closeStage;
+    private SettlementStage<SettledAuction> orderStage;
+    private SettlementStage<SettledAuction> notifyStage;
+
+    @PostConstruct
+    public void start() {
+        closeStage = new SettlementStage<>("close", queueCapacity, batchSize, this::closeBatch, meterRegistry);
+        orderStage = new SettlementStage<>("orders", queueCapacity, batchSize, this::orderBatch, meterRegistry);
+        notifyStage = new SettlementStage<>("notifications", queueCapacity, batchSize, this::notifyBatch, meterRegistry);
+        notifyStage.start();
+        orderStage.start();
+        closeStage.start();
+        log.info("Auction settlement pipeline started (queue capacity {}, batch size {})", queueCapacity, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        // En amont d'abord : chaque étape vide sa file vers la suivante avant l'arrêt de celle-ci
+        closeStage.stop(5000);
+        orderStage.stop(5000);
+        notifyStage.stop(5000);
+        log.info("Auction settlement pipeline stopped");
+    }
+
+    /**
+     * Enchères échues à clôturer puis régler. Bloque si l'étape de clôture est saturée.
+     */
+    public void submitExpired(List<Long> auctionIds) throws InterruptedException {
+        closeStage.submitAll(auctionIds);
+    }
+
+    /**
+     * Enchère clôturée manuellement : réglée après la validation de la transaction en cours
+     */
+    public void submitClosedAfterCommit(Long auctionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    settleClosed(List.of(auctionId));
+                }
+            });
+        } else {
+            settleClosed(List.of(auctionId));
+        }
+    }
+
+    /**
+     * Étape 1 : clôture en masse, puis lecture des données de règlement des enchères clôturées
+     */
+    private void closeBatch(List<Long> auctionIds) {
+        LocalDateTime now = LocalDateTime.now();
+        int sold = auctionRepository.closeExpiredAsSold(auctionIds, now);
+        int unsold = auctionRepository.closeExpiredAsUnsold(auctionIds, now);
+        log.info("Closed {} expired auctions ({} sold, {} unsold)", sold + unsold, sold, unsold);
+
+        for (Long auctionId : auctionIds) {
+            biddingEngine.evict(auctionId);
+        }
+        List<Long> watched = auctionIds.stream()
+                .filter(auctionStreamService::hasSubscribers)
+                .collect(Collectors.toList());
+        // Statut final relu uniquement pour les enchères suivies en direct
+        if (!watched.isEmpty()) {
+            auctionRepository.findAllById(watched).forEach(auctionStreamService::publish);
+        }
+        if (sold + unsold > 0) {
+            List<AuctionSettlement> closed = auctionRepository.findSettlements(auctionIds);
+            // Statut et gagnant affichés sur la fiche produit
+            closed.forEach(settlement -> productDetailCache.invalidate(settlement.getProductId()));
+            forward(closed);
+            try {
+                bidJournal.recordClosed(closed);
+            } catch (RuntimeException e) {
+                // Un trou dans le journal fait seulement retomber la reconstruction sur les lignes Bid
+                log.warn("Failed to journal {} auction closures: {}", closed.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void settleClosed(List<Long> auctionIds) {
+        forward(auctionRepository.findSettlements(auctionIds));
+    }
+
+    private void forward(List<AuctionSettlement> closed) {
+        List<SettledAuction> sold = new ArrayList<>();
+        List<SettledAuction> unsold = new ArrayList<>();
+        for (AuctionSettlement settlement : closed) {
+            SettledAuction auction = toSettledAuction(settlement);
+            if (auction.getStatus() == AuctionStatus.SOLD && auction.getWinnerId() != null) {
+                sold.add(auction);
+            } else {
+                unsold.add(auction);
+            }
+        }
+        try {
+            orderStage.submitAll(sold);
+            notifyStage.submitAll(unsold);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Settlement interrupted, {} auctions not forwarded", closed.size());
+        }
+    }
+
+    /**
+     * Étape 2 : commandes des enchères vendues, en une transaction par lot
+     */
+    private void orderBatch(List<SettledAuction> sold) {
+        Map<Long, String> orderNumbers = orderService.createAuctionOrders(sold);
+        for (SettledAuction auction : sold) {
+            auction.setOrderNumber(orderNumbers.get(auction.getAuctionId()));
+        }
+        try {
+            notifyStage.submitAll(sold);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Settlement interrupted, {} sold auctions not notified", sold.size());
+        }
+    }
+
+    /**
+     * Étape 3 : notifications in-app en une écriture par lot, emails des gagnants en asynchrone
+     */
+    private void notifyBatch(List<SettledAuction> auctions) {
+        List<Long> auctionIds = auctions.stream().map(SettledAuction::getAuctionId).collect(Collectors.toList());
+        Map<Long, List<Long>> biddersByAuction = bidRepository.findBiddersByAuctionIds(auctionIds).stream()
+                .collect(Collectors.groupingBy(AuctionBidder::getAuctionId,
+                        Collectors.mapping(AuctionBidder::getBidderId, Collectors.toList())));
+
+        List<NotificationCreateDTO> notifications = new ArrayList<>();
+        for (SettledAuction auction : auctions) {
+            boolean sold = auction.getStatus() == AuctionStatus.SOLD;
+            notifications.add(sellerNotification(auction, sold));
+            if (sold) {
+                notifications.add(winnerNotification(auction));
+            }
+            for (Long bidderId : biddersByAuction.getOrDefault(auction.getAuctionId(), List.of())) {
+                if (!bidderId.equals(auction.getWinnerId()) || !sold) {
+                    notifications.add(loserNotification(auction, bidderId));
+                }
+            }
+        }
+        inAppNotificationService.createNotifications(notifications);
+
+        List<SettledAuction> won = auctions.stream()
+                .filter(a -> a.getStatus() == AuctionStatus.SOLD && a.getWinnerId() != null)
+                .collect(Collectors.toList());
+        if (!won.isEmpty()) {
+            Map<Long, Person> winners = personRepository.findAllById(
+                            won.stream().map(SettledAuction::getWinnerId).distinct().collect(Collectors.toList()))
+                    .stream()
+                    .collect(Collectors.toMap(Person::getId, Function.identity()));
+            for (SettledAuction auction : won) {
+                Person winner = winners.get(auction.getWinnerId());
+                if (winner != null) {
+                    notificationService.sendAuctionWonEmail(winner, auction.getProductTitle(),
+                            auction.getFinalPrice(), auction.getOrderNumber());
+                }
+            }
+        }
+    }
+
+    private NotificationCreateDTO sellerNotification(SettledAuction auction, boolean sold) {
+        return NotificationCreateDTO.builder()
+                .userId(auction.getSellerId())
+                .type(NotificationType.AUCTION_ENDED)
+                .title(sold ? "🔨 Objet vendu !" : "🔨 Enchère terminée")
+                .message(sold
+                        ? String.format("Votre objet %s a été adjugé %.2f €", auction.getProductTitle(),
+                        auction.getFinalPrice().doubleValue())
+                        : String.format("L'enchère sur %s s'est terminée sans atteindre le prix de réserve",
+                        auction.getProductTitle()))
+                .linkUrl("/product/" + auction.getProductId())
+                .metadata(String.format("{\"auctionId\": %d}", auction.getAuctionId()))
+                .build();
+    }
+
+    private NotificationCreateDTO winnerNotification(SettledAuction auction) {
+        return NotificationCreateDTO.builder()
+                .userId(auction.getWinnerId())
+                .type(NotificationType.BID_WON)
+                .title("🏆 Enchère remportée !")
+                .message(String.format("Vous avez remporté %s pour %.2f €", auction.getProductTitle(),
+                        auction.getFinalPrice().doubleValue()))
+                .linkUrl("/dashboard?tab=orders")
+                .metadata(auction.getOrderNumber() != null
+                        ? String.format("{\"auctionId\": %d, \"orderNumber\": \"%s\"}", auction.getAuctionId(), auction.getOrderNumber())
+                        : String.format("{\"auctionId\": %d}", auction.getAuctionId()))
+                .build();
+    }
+
+    private NotificationCreateDTO loserNotification(SettledAuction auction, Long bidderId) {
+        return NotificationCreateDTO.builder()
+                .userId(bidderId)
+                .type(NotificationType.BID_LOST)
+                .title("Enchère terminée")
+                .message(String.format("L'enchère sur %s est terminée, vous ne l'avez pas remportée",
+                        auction.getProductTitle()))
+                .linkUrl("/product/" + auction.getProductId())
+                .metadata(String.format("{\"auctionId\": %d}", auction.getAuctionId()))
+                .build();
+    }
+
+    private SettledAuction toSettledAuction(AuctionSettlement settlement) {
+        return new SettledAuction(settlement.getAuctionId(), settlement.getStatus(), settlement.getWinnerId(),
+                settlement.getSellerId(), settlement.getProductId(), settlement.getProductTitle(),
+                Money.toBigDecimal(settlement.getFinalPrice()), null);
+    }
+
+    /**
+     * Taille des files par étape (suivi)
+     */
+    public Map<String, Integer> getQueueSizes() {
+        Map<String, Integer> sizes = new HashMap<>();
+        sizes.put("close", closeStage.size());
+        sizes.put("orders", orderStage.size());
+        sizes.put("notifications", notifyStage.size());
+        return sizes;
+    }
+}
@@ -0,0 +1,313 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.AuctionUpdateDTO;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Diffusion en temps réel des changements d'une enchère (prix, meneur, prolongation, statut) en SSE.
+ * Les mises à jour sont regroupées par enchère : seul le dernier état est diffusé, au plus
+ * N fois par seconde, quel que soit le nombre d'enchères placées entre deux diffusions.
+ * Chaque abonné a un tampon borné ; un client lent perd les états les plus anciens, jamais le dernier.
+ */
+@Service
+@Slf4j
+public class AuctionStreamService {
+
+    @Value("${auction.stream.max-updates-per-second:4}")
+    private int maxUpdatesPerSecond;
+
+    @Value("${auction.stream.buffer-size:8}")
+    private int bufferSize;
+
+    @Value("${auction.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${auction.stream.sender-threads:4}")
+    private int senderThreads;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService ticker;
+    private ExecutorService senders;
+
+    @PostConstruct
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(daemon("auction-stream"));
+        AtomicInteger counter = new AtomicInteger();
+        senders = Executors.newFixedThreadPool(Math.max(1, senderThreads),
+                r -> daemon("auction-stream-send-" + counter.getAndIncrement()).newThread(r));
+        long periodMs = Math.max(1, 1000 / Math.max(1, maxUpdatesPerSecond));
+        ticker.scheduleAtFixedRate(this::fanOut, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        log.info("Auction stream started ({} updates/s per auction, buffer {})", maxUpdatesPerSecond, bufferSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        channels.clear();
+    }
+
+    /**
+     * Abonne un client au flux d'une enchère. L'état initial est lu après l'inscription :
+     * une mise à jour publiée entre-temps sera diffusée au tick suivant.
+     */
+    public SseEmitter subscribe(Long auctionId, Supplier<AuctionUpdateDTO> initial) {
+        SseEmitter emitter = newEmitter();
+        Subscriber subscriber = new Subscriber(emitter);
+        Channel channel;
+        do {
+            channel = channels.computeIfAbsent(auctionId, id -> new Channel());
+            channel.subscribers.add(subscriber);
+            // Le canal a pu être retiré par le départ de son dernier abonné
+        } while (channels.get(auctionId) != channel && channel.subscribers.remove(subscriber));
+
+        Channel subscribed = channel;
+        Runnable unsubscribe = () -> unsubscribe(auctionId, subscribed, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        try {
+            AuctionUpdateDTO latest = channel.latest.get();
+            deliver(subscriber, latest != null ? latest : initial.get());
+        } catch (RuntimeException e) {
+            unsubscribe(auctionId, channel, subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * Publie le nouvel état d'une enchère. Ne fait rien s'il n'y a aucun abonné, ni si l'état est plus ancien
+     * que le dernier publié : les threads des requêtes d'enchère publient dans un ordre quelconque.
+     */
+    public void publish(AuctionUpdateDTO update) {
+        Channel channel = channels.get(update.getAuctionId());
+        if (channel == null) {
+            return;
+        }
+        AuctionUpdateDTO current;
+        do {
+            current = channel.latest.get();
+            if (!supersedes(update, current)) {
+                return;
+            }
+        } while (!channel.latest.compareAndSet(current, update));
+        channel.dirty.set(true);
+    }
+
+    public boolean hasSubscribers(Long auctionId) {
+        return channels.containsKey(auctionId);
+    }
+
+    /**
+     * Publie l'état porté par une enchère placée
+     */
+    public void publish(AuctionBook state) {
+        if (!hasSubscribers(state.getAuctionId())) {
+            return;
+        }
+        publish(AuctionUpdateDTO.builder()
+                .auctionId(state.getAuctionId())
+                .currentPrice(state.getCurrentPrice())
+                .leaderId(state.getLeaderId())
+                .endDate(state.getEndDate())
+                .status(state.getStatus())
+                .reservePriceMet(state.isReservePriceMet())
+                .totalBids(state.getTotalBids())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Publie l'état d'une enchère relue en base (clôture, modification)
+     */
+    public void publish(Auction auction) {
+        if (hasSubscribers(auction.getId())) {
+            publish(toUpdate(auction));
+        }
+    }
+
+    public AuctionUpdateDTO toUpdate(Auction auction) {
+        return AuctionUpdateDTO.builder()
+                .auctionId(auction.getId())
+                .currentPrice(auction.getCurrentPrice())
+                .leaderId(auction.getWinner() != null ? auction.getWinner().getId() : null)
+                .endDate(auction.getEndDate())
+                .status(auction.getStatus())
+                .reservePriceMet(auction.getReservePriceMet())
+                .totalBids(auction.getTotalBids())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Tick : envoie le dernier état de chaque enchère modifiée à tous ses abonnés
+     */
+    private void fanOut() {
+        try {
+            for (Map.Entry<Long, Channel> entry : channels.entrySet()) {
+                Channel channel = entry.getValue();
+                if (!channel.dirty.compareAndSet(true, false)) {
+                    continue;
+                }
+                AuctionUpdateDTO update = channel.latest.get();
+                // Dernier état d'une enchère clôturée : le flux se termine après son envoi
+                boolean terminal = isTerminal(update.getStatus());
+                for (Subscriber subscriber : channel.subscribers) {
+                    subscriber.closing |= terminal;
+                    deliver(subscriber, update);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Auction stream fan-out failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void deliver(Subscriber subscriber, AuctionUpdateDTO update) {
+        if (update == null) {
+            return;
+        }
+        synchronized (subscriber.buffer) {
+            if (subscriber.buffer.size() >= Math.max(1, bufferSize)) {
+                // Tampon plein : l'état le plus ancien est obsolète
+                subscriber.buffer.pollFirst();
+                subscriber.dropped++;
+            }
+            subscriber.buffer.addLast(update);
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    /**
+     * Vide le tampon d'un abonné ; une seule tâche d'envoi par abonné à la fois
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                AuctionUpdateDTO next;
+                synchronized (subscriber.buffer) {
+                    next = subscriber.buffer.pollFirst();
+                }
+                if (next == null) {
+                    break;
+                }
+                subscriber.emitter.send(SseEmitter.event().name("auction-update").data(next));
+            }
+            if (subscriber.closing) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client déconnecté : le rappel onError/onCompletion le retire du canal
+            subscriber.emitter.completeWithError(e);
+        } finally {
+            subscriber.sending.set(false);
+        }
+        // Un état a pu arriver entre la fin de la boucle et la libération du drapeau
+        boolean pending;
+        synchronized (subscriber.buffer) {
+            pending = !subscriber.buffer.isEmpty();
+        }
+        if (pending && subscriber.sending.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.sending.set(false);
+            }
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void unsubscribe(Long auctionId, Channel channel, Subscriber subscriber) {
+        channel.subscribers.remove(subscriber);
+        if (subscriber.dropped > 0) {
+            log.debug("Subscriber on auction {} dropped {} stale updates", auctionId, subscriber.dropped);
+        }
+        channels.computeIfPresent(auctionId, (id, current) -> current.subscribers.isEmpty() ? null : current);
+    }
+
+    /**
+     * Une clôture remplace tout état ; sinon l'état le plus récent est celui qui compte le plus d'enchères
+     * (à égalité, une modification relue en base remplace l'état précédent)
+     */
+    private static boolean supersedes(AuctionUpdateDTO update, AuctionUpdateDTO current) {
+        if (current == null || isTerminal(update.getStatus())) {
+            return true;
+        }
+        if (isTerminal(current.getStatus())) {
+            return false;
+        }
+        return bids(update) >= bids(current);
+    }
+
+    private static int bids(AuctionUpdateDTO update) {
+        return update.getTotalBids() != null ? update.getTotalBids() : 0;
+    }
+
+    private static boolean isTerminal(AuctionStatus status) {
+        return status == AuctionStatus.ENDED || status == AuctionStatus.SOLD
+                || status == AuctionStatus.UNSOLD;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static class Channel {
+        private final AtomicReference<AuctionUpdateDTO> latest = new AtomicReference<>();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final Deque<AuctionUpdateDTO> buffer = new ArrayDeque<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean closing;
+        private long dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
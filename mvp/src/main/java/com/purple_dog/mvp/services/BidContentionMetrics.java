@@ -0,0 +1,96 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.BidContentionDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Compteurs de contention sur le placement des enchères (conflits de version, tentatives, abandons).
+ * Les totaux sont publiés dans Micrometer ; le détail par auction reste en mémoire
+ * pour ne pas créer une série de métriques par auction.
+ */
+@Component
+public class BidContentionMetrics {
+
+    private final Counter conflicts;
+    private final Counter retries;
+    private final Counter giveUps;
+
+    private final Map<Long, AuctionCounters> byAuction = new ConcurrentHashMap<>();
+
+    public BidContentionMetrics(MeterRegistry meterRegistry) {
+        this.conflicts = Counter.builder("bids.contention.conflicts")
+                .description("Optimistic lock conflicts while writing bids")
+                .register(meterRegistry);
+        this.retries = Counter.builder("bids.contention.retries")
+                .description("Bid placements retried after a conflict")
+                .register(meterRegistry);
+        this.giveUps = Counter.builder("bids.contention.give-ups")
+                .description("Bid placements abandoned after the last attempt")
+                .register(meterRegistry);
+    }
+
+    public void recordConflict(Long auctionId) {
+        conflicts.increment();
+        countersFor(auctionId).conflicts.increment();
+    }
+
+    public void recordRetry(Long auctionId) {
+        retries.increment();
+        countersFor(auctionId).retries.increment();
+    }
+
+    public void recordGiveUp(Long auctionId) {
+        giveUps.increment();
+        countersFor(auctionId).giveUps.increment();
+    }
+
+    /**
+     * Statistiques d'une auction (zéros si aucune contention observée)
+     */
+    public BidContentionDTO getAuctionStats(Long auctionId) {
+        AuctionCounters counters = byAuction.get(auctionId);
+        return counters != null ? counters.toDTO(auctionId)
+                : new BidContentionDTO(auctionId, 0L, 0L, 0L);
+    }
+
+    /**
+     * Auctions les plus disputées, triées par nombre de conflits
+     */
+    public List<BidContentionDTO> getTopContended(int limit) {
+        return byAuction.entrySet().stream()
+                .map(e -> e.getValue().toDTO(e.getKey()))
+                .sorted(Comparator.comparing(BidContentionDTO::getConflicts).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Oublie les compteurs d'une auction clôturée
+     */
+    public void forget(Long auctionId) {
+        byAuction.remove(auctionId);
+    }
+
+    private AuctionCounters countersFor(Long auctionId) {
+        return byAuction.computeIfAbsent(auctionId, id -> new AuctionCounters());
+    }
+
+    private static class AuctionCounters {
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder giveUps = new LongAdder();
+
+        private BidContentionDTO toDTO(Long auctionId) {
+            return new BidContentionDTO(auctionId, conflicts.sum(), retries.sum(), giveUps.sum());
+        }
+    }
+}
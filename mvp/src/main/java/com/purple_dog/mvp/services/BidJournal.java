@@ -0,0 +1,245 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionSettlement;
+import com.purple_dog.mvp.dao.AuctionSnapshotRepository;
+import com.purple_dog.mvp.dao.BidEventRepository;
+import com.purple_dog.mvp.dto.BidEventDTO;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionSnapshot;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.BidEvent;
+import com.purple_dog.mvp.entities.BidEventType;
+import com.purple_dog.mvp.entities.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Journal des enchères en ajout seul : chaque placement, contre-enchère automatique, prolongation
+ * et clôture devient un BidEvent numéroté par auction (Auction.journalSequence).
+ * Un instantané de l'état (AuctionSnapshot) est pris toutes les N entrées ; l'état d'une auction
+ * se reconstruit à partir du dernier instantané et des quelques événements qui le suivent.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BidJournal {
+
+    private final BidEventRepository bidEventRepository;
+    private final AuctionSnapshotRepository auctionSnapshotRepository;
+
+    @Value("${bidding.journal.snapshot-every:50}")
+    private int snapshotEvery;
+
+    /**
+     * Journalise un lot de placements, dans la transaction qui écrit les enchères.
+     * Doit être appelé avant l'application des nouveaux états : les auctions portent encore
+     * la date de fin d'avant le lot, ce qui permet de détecter les prolongations.
+     */
+    public void recordPlacements(List<PendingBid> batch, Map<Long, Auction> auctions) {
+        Map<Long, Long> sequenceBefore = new HashMap<>();
+        Map<Long, LocalDateTime> endDates = new HashMap<>();
+        Map<Long, AuctionBook> lastStates = new LinkedHashMap<>();
+        List<BidEvent> events = new ArrayList<>(batch.size());
+
+        for (PendingBid pending : batch) {
+            Auction auction = auctions.get(pending.getAuctionId());
+            sequenceBefore.putIfAbsent(auction.getId(), auction.getJournalSequence());
+            endDates.putIfAbsent(auction.getId(), auction.getEndDate());
+
+            BidEvent event = newEvent(auction, pending.isAutoBid() ? BidEventType.AUTO_COUNTER : BidEventType.PLACED,
+                    pending.getBidDate());
+            event.setBidderId(pending.getBidderId());
+            event.setAmount(pending.getAmount());
+            event.setMaxAmount(pending.isAutoBid() ? null : effectiveMax(pending));
+            events.add(event);
+
+            AuctionBook state = pending.getAuctionState();
+            LocalDateTime previousEnd = endDates.get(auction.getId());
+            if (!pending.isAutoBid() && state.getEndDate() != null
+                    && (previousEnd == null || state.getEndDate().isAfter(previousEnd))) {
+                BidEvent extended = newEvent(auction, BidEventType.EXTENDED, pending.getBidDate());
+                extended.setEndDate(state.getEndDate());
+                events.add(extended);
+                endDates.put(auction.getId(), state.getEndDate());
+            }
+            lastStates.put(auction.getId(), state);
+        }
+        bidEventRepository.saveAll(events);
+
+        // Instantané au premier événement journalisé, puis à chaque franchissement d'un multiple de N
+        int every = Math.max(1, snapshotEvery);
+        List<AuctionSnapshot> snapshots = new ArrayList<>();
+        for (Map.Entry<Long, AuctionBook> entry : lastStates.entrySet()) {
+            long before = sequenceBefore.get(entry.getKey());
+            long after = auctions.get(entry.getKey()).getJournalSequence();
+            if (before == 0 || before / every != after / every) {
+                snapshots.add(toSnapshot(entry.getValue(), after));
+            }
+        }
+        if (!snapshots.isEmpty()) {
+            auctionSnapshotRepository.saveAll(snapshots);
+        }
+        log.debug("Journaled {} bid events, {} snapshots", events.size(), snapshots.size());
+    }
+
+    /**
+     * Journalise la clôture manuelle d'une auction (séquence incrémentée sur l'entité)
+     */
+    public void recordClosed(Auction auction) {
+        BidEvent event = newEvent(auction, BidEventType.CLOSED, LocalDateTime.now());
+        event.setStatus(auction.getStatus());
+        bidEventRepository.save(event);
+    }
+
+    /**
+     * Journalise les clôtures en masse ; la séquence a été incrémentée par la requête de clôture
+     */
+    public void recordClosed(List<AuctionSettlement> closed) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BidEvent> events = closed.stream()
+                .map(settlement -> BidEvent.builder()
+                        .auctionId(settlement.getAuctionId())
+                        .sequence(settlement.getJournalSequence())
+                        .type(BidEventType.CLOSED)
+                        .status(settlement.getStatus())
+                        .occurredAt(now)
+                        .build())
+                .collect(Collectors.toList());
+        bidEventRepository.saveAll(events);
+    }
+
+    /**
+     * Reconstruit l'état d'enchère d'une auction jusqu'à une séquence donnée :
+     * dernier instantané + événements suivants. Vide si le journal ne couvre pas
+     * exactement cette séquence (auction antérieure au journal, écriture concurrente).
+     */
+    @Transactional(readOnly = true)
+    public Optional<AuctionBook> rebuild(Long auctionId, long upToSequence) {
+        Optional<AuctionSnapshot> snapshot = auctionSnapshotRepository.findById(auctionId);
+        if (snapshot.isEmpty() || snapshot.get().getSequence() > upToSequence) {
+            return Optional.empty();
+        }
+        AuctionBook book = toBook(snapshot.get());
+        long sequence = snapshot.get().getSequence();
+        for (BidEvent event : bidEventRepository.findByAuctionIdAndSequenceGreaterThanOrderBySequenceAsc(auctionId, sequence)) {
+            if (event.getSequence() > upToSequence) {
+                break;
+            }
+            if (event.getSequence() != sequence + 1) {
+                log.warn("Gap in bid journal of auction {} after sequence {}", auctionId, sequence);
+                return Optional.empty();
+            }
+            apply(book, event);
+            sequence = event.getSequence();
+        }
+        return sequence == upToSequence ? Optional.of(book) : Optional.empty();
+    }
+
+    @Transactional(readOnly = true)
+    public List<BidEventDTO> getEvents(Long auctionId) {
+        return bidEventRepository.findByAuctionIdOrderBySequenceAsc(auctionId).stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Applique un événement à l'état, selon les mêmes règles que BidResolver
+     */
+    void apply(AuctionBook book, BidEvent event) {
+        switch (event.getType()) {
+            case PLACED -> {
+                Long bidderId = event.getBidderId();
+                Money bidderMax = event.getMaxAmount();
+                if (book.getLeaderId() == null || book.getLeaderId().equals(bidderId)) {
+                    book.setLeaderMaxAmount(book.getLeaderId() == null ? bidderMax : bidderMax.max(book.getLeaderMaxAmount()));
+                    book.setLeaderId(bidderId);
+                    book.setCurrentPrice(event.getAmount());
+                } else if (bidderMax.compareTo(book.getLeaderMaxAmount()) > 0) {
+                    book.setRunnerUpId(book.getLeaderId());
+                    book.setRunnerUpMaxAmount(book.getLeaderMaxAmount());
+                    book.setLeaderId(bidderId);
+                    book.setLeaderMaxAmount(bidderMax);
+                    book.setCurrentPrice(event.getAmount());
+                } else if (book.getRunnerUpMaxAmount() == null || bidderMax.compareTo(book.getRunnerUpMaxAmount()) > 0) {
+                    // Le meneur garde la tête : le prix vient de la contre-enchère qui suit
+                    book.setRunnerUpId(bidderId);
+                    book.setRunnerUpMaxAmount(bidderMax);
+                }
+                book.setTotalBids(book.getTotalBids() + 1);
+                updateReserve(book);
+            }
+            case AUTO_COUNTER -> {
+                book.setCurrentPrice(event.getAmount());
+                updateReserve(book);
+            }
+            case EXTENDED -> {
+                book.setEndDate(event.getEndDate());
+                book.setStatus(AuctionStatus.EXTENDED);
+            }
+            case CLOSED -> book.setStatus(event.getStatus());
+        }
+    }
+
+    private static void updateReserve(AuctionBook book) {
+        if (!book.isReservePriceMet() && book.getCurrentPrice().compareTo(
+                book.getReservePrice() != null ? book.getReservePrice() : Money.ZERO) >= 0) {
+            book.setReservePriceMet(true);
+        }
+    }
+
+    private static BidEvent newEvent(Auction auction, BidEventType type, LocalDateTime occurredAt) {
+        auction.setJournalSequence(auction.getJournalSequence() + 1);
+        return BidEvent.builder()
+                .auctionId(auction.getId())
+                .sequence(auction.getJournalSequence())
+                .type(type)
+                .occurredAt(occurredAt != null ? occurredAt : LocalDateTime.now())
+                .build();
+    }
+
+    private static Money effectiveMax(PendingBid pending) {
+        return pending.getMaxAmount() != null ? pending.getMaxAmount().max(pending.getAmount()) : pending.getAmount();
+    }
+
+    private static AuctionSnapshot toSnapshot(AuctionBook state, long sequence) {
+        return new AuctionSnapshot(state.getAuctionId(), sequence, state.getSellerId(), state.getStatus(),
+                state.getEndDate(), state.getCurrentPrice(), state.getReservePrice(), state.isReservePriceMet(),
+                state.isAutoExtendEnabled(), state.getLeaderId(), state.getLeaderMaxAmount(), state.getRunnerUpId(),
+                state.getRunnerUpMaxAmount(), state.getTotalBids(), LocalDateTime.now());
+    }
+
+    private static AuctionBook toBook(AuctionSnapshot snapshot) {
+        return new AuctionBook(snapshot.getAuctionId(), snapshot.getSellerId(), snapshot.getStatus(),
+                snapshot.getEndDate(), snapshot.getCurrentPrice(), snapshot.getReservePrice(),
+                snapshot.isReservePriceMet(), snapshot.isAutoExtendEnabled(), snapshot.getLeaderId(),
+                snapshot.getLeaderMaxAmount(), snapshot.getRunnerUpId(), snapshot.getRunnerUpMaxAmount(),
+                snapshot.getTotalBids());
+    }
+
+    private BidEventDTO toDTO(BidEvent event) {
+        return BidEventDTO.builder()
+                .auctionId(event.getAuctionId())
+                .sequence(event.getSequence())
+                .type(event.getType())
+                .bidderId(event.getBidderId())
+                .amount(event.getAmount())
+                .maxAmount(event.getMaxAmount())
+                .endDate(event.getEndDate())
+                .status(event.getStatus())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionProduct;
+import com.purple_dog.mvp.dto.NotificationCreateDTO;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.NotificationType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Notifications in-app des enchères (enchère dépassée pour l'ancien meneur, nouvelle enchère pour le vendeur),
+ * envoyées hors du chemin de placement.
+ * Les événements sont regroupés par utilisateur, enchère et type : le premier part au prochain tick,
+ * les suivants sont fusionnés (dernier montant, nombre d'enchères) et partent au plus une fois par fenêtre.
+ * Un thread unique écrit les notifications prêtes par lots.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidNotifier {
+
+    private final AuctionRepository auctionRepository;
+    private final InAppNotificationService inAppNotificationService;
+
+    @Value("${bidding.notifications.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bidding.notifications.coalesce-ms:30000}")
+    private long coalesceMs;
+
+    @Value("${bidding.notifications.flush-ms:1000}")
+    private long flushMs;
+
+    @Value("${bidding.notifications.batch-size:200}")
+    private int batchSize;
+
+    private final Map<Key, Slot> slots = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Bid notifications disabled");
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bid-notifier");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(() -> flush(System.currentTimeMillis()), flushMs, flushMs, TimeUnit.MILLISECONDS);
+        log.info("Bid notifier started (coalescing window {} ms, batch size {})", coalesceMs, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(flushMs, TimeUnit.MILLISECONDS);
+        // Les événements encore en attente partent sans attendre la fin de leur fenêtre
+        flush(Long.MAX_VALUE);
+    }
+
+    /**
+     * Publie les événements d'une enchère placée. Ne fait qu'enregistrer en mémoire : sans accès base.
+     */
+    public void publish(PendingBid placed) {
+        if (!enabled) {
+            return;
+        }
+        Long auctionId = placed.getAuctionId();
+        Money currentPrice = placed.getAuctionState().getCurrentPrice();
+        if (placed.getOutbidBidderId() != null) {
+            record(new Key(placed.getOutbidBidderId(), auctionId, NotificationType.BID_OUTBID), currentPrice);
+        }
+        Long sellerId = placed.getAuctionState().getSellerId();
+        if (sellerId != null) {
+            record(new Key(sellerId, auctionId, NotificationType.BID_PLACED), currentPrice);
+        }
+    }
+
+    private void record(Key key, Money amount) {
+        slots.compute(key, (k, slot) -> {
+            Slot current = slot != null ? slot : new Slot();
+            current.latestAmount = amount;
+            current.pending++;
+            return current;
+        });
+    }
+
+    /**
+     * Tick : extrait les regroupements dont la fenêtre est écoulée et les écrit par lots.
+     * Exécuté sur le thread bid-notifier (et à l'arrêt).
+     */
+    void flush(long now) {
+        List<Ready> ready = new ArrayList<>();
+        for (Key key : slots.keySet()) {
+            slots.computeIfPresent(key, (k, slot) -> {
+                boolean windowElapsed = now - slot.lastSentAt >= coalesceMs;
+                if (slot.pending == 0) {
+                    // Plus rien depuis le dernier envoi : la fenêtre suivante repartira à zéro
+                    return windowElapsed ? null : slot;
+                }
+                if (!windowElapsed) {
+                    return slot;
+                }
+                ready.add(new Ready(k, slot.latestAmount, slot.pending));
+                slot.pending = 0;
+                slot.lastSentAt = now;
+                return slot;
+            });
+        }
+        int size = Math.max(1, batchSize);
+        for (int from = 0; from < ready.size(); from += size) {
+            write(ready.subList(from, Math.min(from + size, ready.size())));
+        }
+    }
+
+    private void write(List<Ready> batch) {
+        try {
+            Set<Long> auctionIds = batch.stream().map(r -> r.key().auctionId()).collect(Collectors.toSet());
+            Map<Long, AuctionProduct> products = auctionRepository.findAuctionProducts(auctionIds).stream()
+                    .collect(Collectors.toMap(AuctionProduct::getAuctionId, Function.identity()));
+            List<NotificationCreateDTO> notifications = new ArrayList<>(batch.size());
+            for (Ready event : batch) {
+                AuctionProduct product = products.get(event.key().auctionId());
+                if (product != null) {
+                    notifications.add(toNotification(event, product));
+                }
+            }
+            if (!notifications.isEmpty()) {
+                inAppNotificationService.createNotifications(notifications);
+            }
+        } catch (RuntimeException e) {
+            // Notifications d'information : un lot en échec est abandonné, le placement n'est pas concerné
+            log.error("Failed to write {} bid notifications: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+
+    private NotificationCreateDTO toNotification(Ready event, AuctionProduct product) {
+        double amount = event.latestAmount().toBigDecimal().doubleValue();
+        NotificationCreateDTO.NotificationCreateDTOBuilder notification = NotificationCreateDTO.builder()
+                .userId(event.key().userId())
+                .type(event.key().type())
+                .linkUrl("/product/" + product.getProductId())
+                .metadata(String.format("{\"auctionId\": %d, \"bids\": %d}", event.key().auctionId(), event.count()));
+        if (event.key().type() == NotificationType.BID_OUTBID) {
+            return notification
+                    .title("⚠️ Enchère dépassée")
+                    .message(String.format("Votre enchère sur %s a été dépassée. Nouvelle enchère : %.2f €",
+                            product.getProductTitle(), amount))
+                    .build();
+        }
+        return notification
+                .title("💰 Nouvelle enchère !")
+                .message(event.count() == 1
+                        ? String.format("Nouvelle enchère de %.2f € sur %s", amount, product.getProductTitle())
+                        : String.format("%d nouvelles enchères sur %s, la dernière à %.2f €",
+                        event.count(), product.getProductTitle(), amount))
+                .build();
+    }
+
+    private record Key(Long userId, Long auctionId, NotificationType type) {
+    }
+
+    private record Ready(Key key, Money latestAmount, int count) {
+    }
+
+    /**
+     * Regroupement en cours ; modifié uniquement sous le verrou de sa case dans la map (compute)
+     */
+    private static class Slot {
+        private Money latestAmount;
+        private int pending;
+        private long lastSentAt;
+    }
+}
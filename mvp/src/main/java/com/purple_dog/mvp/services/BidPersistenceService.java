@@ -0,0 +1,221 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.BidRepository;
+import com.purple_dog.mvp.dao.PersonRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Bid;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.exceptions.BidException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Accès base de données du BiddingEngine : chargement de l'état d'une enchère
+ * et écriture par lot des enchères acceptées
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BidPersistenceService {
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final PersonRepository personRepository;
+    private final ProfessionalRepository professionalRepository;
+    private final BidResolver bidResolver;
+    private final BidJournal bidJournal;
+    private final ProductDetailCache productDetailCache;
+
+    /**
+     * Charge l'état courant d'une enchère depuis la base
+     */
+    @Transactional(readOnly = true)
+    public AuctionBook loadBook(Long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new BidException("Auction not found with id: " + auctionId));
+
+        AuctionBook book = new AuctionBook();
+        book.setAuctionId(auction.getId());
+        book.setSellerId(auction.getProduct().getSeller().getId());
+        book.setStatus(auction.getStatus());
+        book.setEndDate(auction.getEndDate());
+        book.setCurrentPrice(auction.getCurrentPrice() != null ? auction.getCurrentPrice() : Money.ZERO);
+        book.setReservePrice(auction.getReservePrice());
+        book.setReservePriceMet(Boolean.TRUE.equals(auction.getReservePriceMet()));
+        book.setAutoExtendEnabled(Boolean.TRUE.equals(auction.getIsAutoExtendEnabled()));
+        book.setTotalBids(auction.getTotalBids() != null ? auction.getTotalBids() : 0);
+
+        // Meneur et second relus depuis le journal (instantané + fin du journal) s'il couvre l'auction,
+        // sinon depuis les lignes Bid
+        Optional<AuctionBook> journaled = bidJournal.rebuild(auctionId, auction.getJournalSequence());
+        if (journaled.isPresent()) {
+            book.setLeaderId(journaled.get().getLeaderId());
+            book.setLeaderMaxAmount(journaled.get().getLeaderMaxAmount());
+            book.setRunnerUpId(journaled.get().getRunnerUpId());
+            book.setRunnerUpMaxAmount(journaled.get().getRunnerUpMaxAmount());
+            log.debug("Loaded auction book for auction {} from the bid journal", auctionId);
+            return book;
+        }
+
+        findWinningBid(auction).ifPresent(winning -> {
+            book.setLeaderId(winning.getBidder().getId());
+            book.setLeaderMaxAmount(effectiveMax(winning));
+            bidRepository.findTopRivalBids(auctionId, winning.getBidder().getId(), PageRequest.of(0, 1))
+                    .stream().findFirst().ifPresent(rival -> {
+                        book.setRunnerUpId(rival.getBidder().getId());
+                        book.setRunnerUpMaxAmount(effectiveMax(rival));
+                    });
+        });
+
+        log.debug("Loaded auction book for auction {}", auctionId);
+        return book;
+    }
+
+    /**
+     * Enchère en tête d'une auction, via le pointeur winningBid.
+     * Les enchères antérieures à ce pointeur retombent sur le drapeau isWinning.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Bid> findWinningBid(Auction auction) {
+        if (auction.getWinningBid() != null) {
+            return Optional.of(auction.getWinningBid());
+        }
+        if (auction.getTotalBids() == null || auction.getTotalBids() == 0) {
+            return Optional.empty();
+        }
+        return bidRepository.findFlaggedWinningBid(auction.getId());
+    }
+
+    /**
+     * Place une enchère en une transaction : relecture de l'auction, application des règles,
+     * écriture. Un placement concurrent sur la même auction fait échouer la validation
+     * (version de l'auction) avec une OptimisticLockingFailureException.
+     */
+    public PendingBid placeBidAttempt(PlaceBidRequest request, Long bidderId) {
+        AuctionBook book = loadBook(request.getAuctionId());
+        List<PendingBid> resolved = bidResolver.resolve(book, request, bidderId, LocalDateTime.now());
+        List<Long> ids = persistBatch(resolved);
+
+        PendingBid placed = resolved.get(0);
+        if (ids.get(0) == null) {
+            // Auction clôturée depuis la lecture : le future porte le refus
+            throw (BidException) placed.getPersisted().exceptionNow();
+        }
+        placed.getPersisted().complete(ids.get(0));
+        return placed;
+    }
+
+    /**
+     * Écrit un lot d'enchères et applique le dernier état connu de chaque enchère concernée.
+     * Retourne les ids des lignes Bid créées, dans l'ordre du lot (null pour une enchère refusée
+     * parce que son auction a été clôturée entre-temps).
+     */
+    public List<Long> persistBatch(List<PendingBid> batch) {
+        // Dernier placement de chaque enchère du lot
+        Map<Long, PendingBid> lastByAuction = new HashMap<>();
+        for (PendingBid pending : batch) {
+            lastByAuction.put(pending.getAuctionId(), pending);
+        }
+
+        Map<Long, Auction> auctions = new HashMap<>();
+        for (Long auctionId : lastByAuction.keySet()) {
+            auctions.put(auctionId, auctionRepository.findById(auctionId)
+                    .orElseThrow(() -> new BidException("Auction not found with id: " + auctionId)));
+        }
+
+        // Enchère clôturée entre le placement et l'écriture : son prix et son gagnant sont déjà figés
+        // (et la commande créée), rien n'est écrit pour elle et ses enchères sont refusées
+        List<PendingBid> accepted = new ArrayList<>(batch.size());
+        Map<Long, AuctionStatus> closed = new HashMap<>();
+        for (PendingBid pending : batch) {
+            Auction auction = auctions.get(pending.getAuctionId());
+            if (isOpen(auction)) {
+                accepted.add(pending);
+            } else {
+                closed.put(pending.getAuctionId(), auction.getStatus());
+            }
+        }
+        auctions.keySet().removeAll(closed.keySet());
+        lastByAuction.keySet().retainAll(auctions.keySet());
+
+        // Journal d'abord : il compare les dates de fin d'avant le lot pour détecter les prolongations
+        bidJournal.recordPlacements(accepted, auctions);
+
+        for (Map.Entry<Long, PendingBid> entry : lastByAuction.entrySet()) {
+            Auction auction = auctions.get(entry.getKey());
+            AuctionBook state = entry.getValue().getAuctionState();
+            auction.setCurrentPrice(state.getCurrentPrice());
+            // Nouveau prix affiché sur la fiche produit
+            productDetailCache.invalidate(auction.getProduct().getId());
+            auction.setStatus(state.getStatus());
+            auction.setEndDate(state.getEndDate());
+            auction.setReservePriceMet(state.isReservePriceMet());
+            auction.setTotalBids(state.getTotalBids());
+            if (state.getLeaderId() != null) {
+                auction.setWinner(professionalRepository.getReferenceById(state.getLeaderId()));
+            }
+        }
+
+        List<Bid> bids = new ArrayList<>(accepted.size());
+        for (PendingBid pending : accepted) {
+            Bid bid = new Bid();
+            bid.setAuction(auctions.get(pending.getAuctionId()));
+            bid.setBidder(personRepository.getReferenceById(pending.getBidderId()));
+            bid.setAmount(pending.getAmount());
+            bid.setMaxAmount(pending.getMaxAmount());
+            bid.setIsAutoBid(pending.isAutoBid());
+            bid.setBidDate(pending.getBidDate());
+            bid.setIsWinning(pending.isWinning());
+            bids.add(bid);
+        }
+        List<Bid> saved = bidRepository.saveAll(bids);
+
+        // Pointeur vers la dernière enchère gagnante : les anciennes lignes ne sont pas modifiées
+        for (Bid bid : saved) {
+            if (Boolean.TRUE.equals(bid.getIsWinning())) {
+                bid.getAuction().setWinningBid(bid);
+            }
+        }
+        auctionRepository.saveAll(auctions.values());
+
+        List<Long> ids = new ArrayList<>(batch.size());
+        int next = 0;
+        for (PendingBid pending : batch) {
+            AuctionStatus status = closed.get(pending.getAuctionId());
+            if (status == null) {
+                ids.add(saved.get(next++).getId());
+                continue;
+            }
+            ids.add(null);
+            if (pending.getPersisted() != null) {
+                pending.getPersisted().completeExceptionally(
+                        new BidException("Auction is not active. Current status: " + status));
+            }
+        }
+        log.debug("Persisted {} bids for {} auctions", saved.size(), auctions.size());
+        return ids;
+    }
+
+    private static boolean isOpen(Auction auction) {
+        return auction.getStatus() == AuctionStatus.ACTIVE || auction.getStatus() == AuctionStatus.EXTENDED;
+    }
+
+    private static Money effectiveMax(Bid bid) {
+        return bid.getMaxAmount() != null ? bid.getMaxAmount().max(bid.getAmount()) : bid.getAmount();
+    }
+}
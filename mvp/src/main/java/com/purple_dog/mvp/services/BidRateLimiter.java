@@ -0,0 +1,212 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limitation du débit de placement d'enchères par enchérisseur, avant tout accès base du BidService.
+ * Seau à jetons sans verrou (variante GCRA) : un seul AtomicLong par seau, mis à jour par CAS.
+ * Les seaux sont répartis sur des segments (stripes) par id d'enchérisseur ; un segment plein
+ * est purgé de ses seaux inactifs (seaux pleins) au moment d'en créer un nouveau.
+ * Le débit vient du plan du professionnel (Plan.maxBidsPerMinute), lu une fois à la création du seau.
+ */
+@Component
+@Slf4j
+public class BidRateLimiter {
+
+    private final ProfessionalRepository professionalRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter throttledByBidder;
+    private final Counter throttledByAuction;
+
+    @Value("${bidding.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bidding.rate-limit.default-per-minute:30}")
+    private int defaultPerMinute;
+
+    @Value("${bidding.rate-limit.burst:5}")
+    private int burst;
+
+    // Limite par enchérisseur et par auction (0 = désactivée)
+    @Value("${bidding.rate-limit.per-auction-per-minute:0}")
+    private int perAuctionPerMinute;
+
+    @Value("${bidding.rate-limit.stripes:64}")
+    private int stripeCount;
+
+    @Value("${bidding.rate-limit.max-buckets-per-stripe:4096}")
+    private int maxBucketsPerStripe;
+
+    private Map<Long, Bucket>[] bidderStripes;
+    private Map<Long, Bucket>[] auctionStripes;
+
+    public BidRateLimiter(ProfessionalRepository professionalRepository, MeterRegistry meterRegistry) {
+        this.professionalRepository = professionalRepository;
+        this.meterRegistry = meterRegistry;
+        this.throttledByBidder = Counter.builder("bids.throttled")
+                .tag("scope", "bidder")
+                .description("Bid placements rejected by the per-bidder rate limit")
+                .register(meterRegistry);
+        this.throttledByAuction = Counter.builder("bids.throttled")
+                .tag("scope", "auction")
+                .description("Bid placements rejected by the per-bidder, per-auction rate limit")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        // Nombre de segments arrondi à une puissance de deux (sélection par masque)
+        int stripes = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        bidderStripes = newStripes(stripes);
+        auctionStripes = newStripes(stripes);
+        Gauge.builder("bids.rate-limit.buckets", this, BidRateLimiter::bucketCount)
+                .description("Rate limit buckets held in memory")
+                .register(meterRegistry);
+        log.info("Bid rate limiter {} ({} bids/min by default, burst {}, {} stripes)",
+                enabled ? "enabled" : "disabled", defaultPerMinute, burst, stripes);
+    }
+
+    /**
+     * Consomme un jeton pour un placement d'enchère.
+     * Retourne 0 si le placement est autorisé, sinon le délai d'attente conseillé en millisecondes.
+     */
+    public long tryAcquire(Long bidderId, Long auctionId) {
+        return tryAcquire(bidderId, auctionId, System.nanoTime());
+    }
+
+    long tryAcquire(Long bidderId, Long auctionId, long nowNanos) {
+        if (!enabled || bidderId == null) {
+            return 0;
+        }
+        Bucket bidderBucket = bucket(bidderStripes, bidderId, bidderId, nowNanos);
+        long wait = bidderBucket.tryAcquire(nowNanos);
+        if (wait > 0) {
+            throttledByBidder.increment();
+            return toRetryMillis(wait);
+        }
+        if (perAuctionPerMinute > 0 && auctionId != null) {
+            // Clé combinée : exacte tant que les ids d'auction tiennent sur 32 bits
+            long key = (bidderId << 32) ^ (auctionId & 0xFFFFFFFFL);
+            wait = bucket(auctionStripes, key, null, nowNanos).tryAcquire(nowNanos);
+            if (wait > 0) {
+                // Placement refusé : le jeton de l'enchérisseur reste disponible pour ses autres auctions
+                bidderBucket.release();
+                throttledByAuction.increment();
+                return toRetryMillis(wait);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Oublie tous les seaux, pour relire les limites après une modification de plan
+     */
+    public void invalidate() {
+        Arrays.stream(bidderStripes).forEach(Map::clear);
+        Arrays.stream(auctionStripes).forEach(Map::clear);
+    }
+
+    private Bucket bucket(Map<Long, Bucket>[] stripes, long key, Long bidderId, long nowNanos) {
+        Map<Long, Bucket> stripe = stripes[Long.hashCode(key * 0x9E3779B97F4A7C15L) & (stripes.length - 1)];
+        Bucket bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        // Limite du plan lue hors de la map : deux créations concurrentes gardent le premier seau
+        int perMinute = bidderId != null ? planLimit(bidderId) : perAuctionPerMinute;
+        if (stripe.size() >= maxBucketsPerStripe) {
+            stripe.values().removeIf(b -> b.isIdle(nowNanos));
+        }
+        // Rafale plafonnée au débit par minute (une limite à 1/min n'autorise pas 5 placements d'affilée)
+        Bucket created = new Bucket(perMinute, Math.max(1, Math.min(burst, perMinute)), nowNanos);
+        Bucket existing = stripe.putIfAbsent(key, created);
+        return existing != null ? existing : created;
+    }
+
+    private int planLimit(Long bidderId) {
+        try {
+            return professionalRepository.findMaxBidsPerMinute(bidderId)
+                    .filter(limit -> limit > 0)
+                    .orElse(defaultPerMinute);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read bid limit of bidder {}, using default: {}", bidderId, e.getMessage());
+            return defaultPerMinute;
+        }
+    }
+
+    private double bucketCount() {
+        return Arrays.stream(bidderStripes).mapToInt(Map::size).sum()
+                + Arrays.stream(auctionStripes).mapToInt(Map::size).sum();
+    }
+
+    private static long toRetryMillis(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Bucket>[] newStripes(int count) {
+        Map<Long, Bucket>[] stripes = new Map[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        return stripes;
+    }
+
+    /**
+     * Seau à jetons exprimé en « heure d'arrivée théorique » (TAT) : un jeton tous les intervalNanos,
+     * rafale de burst placements. Équivalent à un seau de burst jetons rempli au débit du plan.
+     */
+    private static final class Bucket {
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final AtomicLong theoreticalArrival;
+
+        private Bucket(int perMinute, int burst, long nowNanos) {
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, perMinute);
+            this.toleranceNanos = intervalNanos * (burst - 1);
+            this.theoreticalArrival = new AtomicLong(nowNanos);
+        }
+
+        /**
+         * Retourne 0 si un jeton a été pris, sinon l'attente avant le prochain jeton (ns)
+         */
+        private long tryAcquire(long nowNanos) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long base = Math.max(current, nowNanos);
+                long wait = base - nowNanos - toleranceNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (theoreticalArrival.compareAndSet(current, base + intervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Rend un jeton pris par tryAcquire : l'heure d'arrivée théorique recule d'un intervalle
+         */
+        private void release() {
+            theoreticalArrival.addAndGet(-intervalNanos);
+        }
+
+        // Seau de nouveau plein : peut être recréé à l'identique
+        private boolean isIdle(long nowNanos) {
+            return theoreticalArrival.get() <= nowNanos;
+        }
+    }
+}
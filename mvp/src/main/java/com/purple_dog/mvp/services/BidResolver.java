@@ -0,0 +1,147 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.exceptions.BidException;
+import com.purple_dog.mvp.utils.BidIncrementLadder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Règles de placement d'une enchère, appliquées à l'état d'une auction (AuctionBook).
+ * Partagé par le BiddingEngine (état en mémoire) et le chemin transactionnel optimiste (état relu en base).
+ */
+@Component
+public class BidResolver {
+
+    /**
+     * Valide l'enchère, met à jour l'état de l'auction et retourne les lignes à écrire :
+     * l'enchère principale en premier, suivie de l'éventuelle contre-enchère automatique.
+     * Enchères automatiques au second prix : seuls les max du meneur et du second comptent,
+     * la résolution est donc en temps constant quel que soit le nombre d'enchérisseurs.
+     */
+    public List<PendingBid> resolve(AuctionBook book, PlaceBidRequest request, Long bidderId, LocalDateTime now) {
+        // Vérifier que l'enchère est active
+        if (!book.isOpen()) {
+            throw new BidException("Auction is not active. Current status: " + book.getStatus());
+        }
+
+        // Vérifier que l'enchère n'est pas terminée
+        if (now.isAfter(book.getEndDate())) {
+            throw new BidException("Auction has ended");
+        }
+
+        // Vérifier que le vendeur ne peut pas enchérir sur sa propre enchère
+        if (book.getSellerId().equals(bidderId)) {
+            throw new BidException("Seller cannot bid on their own auction");
+        }
+
+        Money currentPrice = book.getCurrentPrice();
+        Money minBidIncrement = BidIncrementLadder.incrementFor(currentPrice);
+        Money minimumBid = currentPrice.add(minBidIncrement);
+
+        // Vérifier que le montant respecte le palier minimum
+        if (request.getAmount().isLessThan(minimumBid)) {
+            throw new BidException(String.format(
+                    "Bid amount must be at least %s (current price: %s + increment: %s)",
+                    minimumBid, currentPrice, minBidIncrement));
+        }
+
+        // Montant maximum engagé : le max de l'enchère automatique, sinon le montant lui-même
+        Money bidderMax = request.getMaxAmount() != null
+                ? request.getMaxAmount().max(request.getAmount()) : request.getAmount();
+
+        PendingBid newBid = new PendingBid();
+        newBid.setAuctionId(book.getAuctionId());
+        newBid.setBidderId(bidderId);
+        newBid.setAmount(request.getAmount());
+        newBid.setMaxAmount(request.getMaxAmount());
+        newBid.setAutoBid(false);
+        newBid.setBidDate(now);
+        newBid.setPersisted(new CompletableFuture<>());
+
+        PendingBid autoBid = null;
+        Money leaderMax = book.getLeaderMaxAmount();
+
+        if (book.getLeaderId() == null) {
+            // Première enchère : prix au montant proposé
+            newBid.setWinning(true);
+            book.setCurrentPrice(request.getAmount());
+            book.setLeaderId(bidderId);
+            book.setLeaderMaxAmount(bidderMax);
+        } else if (book.getLeaderId().equals(bidderId)) {
+            // Le meneur surenchérit sur lui-même ou relève son maximum
+            newBid.setWinning(true);
+            book.setCurrentPrice(request.getAmount());
+            book.setLeaderMaxAmount(bidderMax.max(leaderMax));
+        } else if (bidderMax.isGreaterThan(leaderMax)) {
+            // Nouveau meneur : il paie un palier au-dessus du max de l'ancien meneur, dans la limite de son propre max
+            Money price = leaderMax.add(BidIncrementLadder.incrementFor(leaderMax)).min(bidderMax)
+                    .max(request.getAmount());
+            newBid.setAmount(price);
+            newBid.setWinning(true);
+            newBid.setOutbidBidderId(book.getLeaderId());
+            book.setCurrentPrice(price);
+            book.setRunnerUpId(book.getLeaderId());
+            book.setRunnerUpMaxAmount(leaderMax);
+            book.setLeaderId(bidderId);
+            book.setLeaderMaxAmount(bidderMax);
+        } else {
+            // Le meneur garde la tête (antériorité en cas d'égalité) : son enchère automatique
+            // répond un palier au-dessus du max du challenger, dans la limite de son propre max
+            newBid.setAmount(bidderMax);
+            Money price = bidderMax.add(BidIncrementLadder.incrementFor(bidderMax)).min(leaderMax);
+            autoBid = counterBid(book, price, now);
+            book.setCurrentPrice(price);
+            if (book.getRunnerUpMaxAmount() == null || bidderMax.isGreaterThan(book.getRunnerUpMaxAmount())) {
+                book.setRunnerUpId(bidderId);
+                book.setRunnerUpMaxAmount(bidderMax);
+            }
+        }
+        book.setTotalBids(book.getTotalBids() + 1);
+
+        // Vérifier si le prix de réserve est atteint
+        if (!book.isReservePriceMet() && !book.getCurrentPrice().isLessThan(
+                book.getReservePrice() != null ? book.getReservePrice() : Money.ZERO)) {
+            book.setReservePriceMet(true);
+        }
+
+        // Gérer l'extension automatique (bataille à H-1)
+        if (book.isAutoExtendEnabled()) {
+            long minutesUntilEnd = ChronoUnit.MINUTES.between(now, book.getEndDate());
+            if (minutesUntilEnd <= 60 && minutesUntilEnd > 0) {
+                // Prolonger de 10 minutes
+                book.setEndDate(book.getEndDate().plusMinutes(10));
+                book.setStatus(AuctionStatus.EXTENDED);
+            }
+        }
+
+        AuctionBook state = book.snapshot();
+        List<PendingBid> bids = new ArrayList<>(2);
+        newBid.setAuctionState(state);
+        bids.add(newBid);
+        if (autoBid != null) {
+            autoBid.setAuctionState(state);
+            bids.add(autoBid);
+        }
+        return bids;
+    }
+
+    private PendingBid counterBid(AuctionBook book, Money amount, LocalDateTime now) {
+        PendingBid autoBid = new PendingBid();
+        autoBid.setAuctionId(book.getAuctionId());
+        autoBid.setBidderId(book.getLeaderId());
+        autoBid.setAmount(amount);
+        autoBid.setMaxAmount(book.getLeaderMaxAmount());
+        autoBid.setAutoBid(true);
+        autoBid.setBidDate(now);
+        autoBid.setWinning(true);
+        return autoBid;
+    }
+}
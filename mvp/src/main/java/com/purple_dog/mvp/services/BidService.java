@@ -2,219 +2,152 @@ package com.purple_dog.mvp.services;
 
 import com.purple_dog.mvp.dao.AuctionRepository;
 import com.purple_dog.mvp.dao.BidRepository;
+import com.purple_dog.mvp.dao.BidRepository.BidRow;
 import com.purple_dog.mvp.dao.ProfessionalRepository;
 import com.purple_dog.mvp.dto.BidResponse;
+import com.purple_dog.mvp.dto.CursorPageDTO;
 import com.purple_dog.mvp.dto.PlaceBidRequest;
 import com.purple_dog.mvp.entities.*;
 import com.purple_dog.mvp.exceptions.BidException;
+import com.purple_dog.mvp.utils.BidIncrementLadder;
+import com.purple_dog.mvp.utils.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Transactional
 public class BidService {
 
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
     private final ProfessionalRepository professionalRepository;
+    private final BiddingEngine biddingEngine;
+    private final BidPersistenceService bidPersistenceService;
+    private final BidContentionMetrics bidContentionMetrics;
+    private final AuctionScheduler auctionScheduler;
+    private final AuctionStreamService auctionStreamService;
+    private final AuctionFeedIndex auctionFeedIndex;
+    private final BidNotifier bidNotifier;
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
+    @Value("${bidding.engine.enabled:true}")
+    private boolean engineEnabled;
+
+    @Value("${bidding.optimistic.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${bidding.optimistic.backoff-ms:10}")
+    private long backoffMs;
 
     /**
-     * Calcule le palier d'enchère selon le prix actuel
-     * < 100€ → paliers de 10€
-     * 100-500€ → paliers de 50€
-     * 500-1000€ → paliers de 100€
-     * 1000-5000€ → paliers de 200€
-     * > 5000€ → paliers de 500€
+     * Calcule le palier d'enchère selon le prix actuel (voir {@link BidIncrementLadder})
      */
-    public BigDecimal calculateBidIncrement(BigDecimal currentPrice) {
-        // Defensive: treat null as zero to avoid NPEs
-        BigDecimal price = currentPrice != null ? currentPrice : BigDecimal.ZERO;
-
-        if (price.compareTo(new BigDecimal("100")) < 0) {
-            return new BigDecimal("10");
-        } else if (price.compareTo(new BigDecimal("500")) < 0) {
-            return new BigDecimal("50");
-        } else if (price.compareTo(new BigDecimal("1000")) < 0) {
-            return new BigDecimal("100");
-        } else if (price.compareTo(new BigDecimal("5000")) < 0) {
-            return new BigDecimal("200");
-        } else {
-            return new BigDecimal("500");
-        }
+    public Money calculateBidIncrement(Money currentPrice) {
+        return BidIncrementLadder.incrementFor(currentPrice);
     }
 
     /**
-     * Place une enchère (manuelle ou automatique)
+     * Place une enchère (manuelle ou automatique).
+     * La décision est prise en mémoire par le BiddingEngine, sans transaction ouverte ici.
+     * Moteur désactivé (plusieurs instances), chaque tentative relit l'auction en transaction
+     * et l'écriture est protégée par la version de l'auction.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BidResponse placeBid(PlaceBidRequest request) {
         // Validation
         if (request.getAuctionId() == null || request.getBidderId() == null || request.getAmount() == null) {
             throw new BidException("Auction ID, Bidder ID and Amount are required");
         }
 
-        Auction auction = auctionRepository.findById(request.getAuctionId())
-                .orElseThrow(() -> new BidException("Auction not found with id: " + request.getAuctionId()));
-
         Professional bidder = professionalRepository.findById(request.getBidderId())
                 .orElseThrow(() -> new BidException("Professional not found with id: " + request.getBidderId()));
 
-        // Vérifier que l'enchère est active
-        if (auction.getStatus() != AuctionStatus.ACTIVE && auction.getStatus() != AuctionStatus.EXTENDED) {
-            throw new BidException("Auction is not active. Current status: " + auction.getStatus());
-        }
-
-        // Vérifier que l'enchère n'est pas terminée
-        if (LocalDateTime.now().isAfter(auction.getEndDate())) {
-            throw new BidException("Auction has ended");
-        }
-
-        // Vérifier que le vendeur ne peut pas enchérir sur sa propre enchère
-        if (auction.getProduct().getSeller().getId().equals(bidder.getId())) {
-            throw new BidException("Seller cannot bid on their own auction");
-        }
-
-        // Defensive: ensure currentPrice is not null to avoid BigDecimal NPEs
-        BigDecimal currentPrice = auction.getCurrentPrice() != null ? auction.getCurrentPrice() : BigDecimal.ZERO;
-        BigDecimal minBidIncrement = calculateBidIncrement(currentPrice);
-        BigDecimal minimumBid = currentPrice.add(minBidIncrement);
-
-        // Vérifier que le montant respecte le palier minimum
-        if (request.getAmount() == null) {
-            throw new BidException("Amount is required");
-        }
-
-        if (request.getAmount().compareTo(minimumBid) < 0) {
-            throw new BidException(String.format(
-                    "Bid amount must be at least %s (current price: %s + increment: %s)",
-                    minimumBid, currentPrice, minBidIncrement));
-        }
-
-        // Gérer les enchères automatiques existantes
-        List<Bid> existingBids = bidRepository.findByAuctionIdOrderByAmountDesc(auction.getId());
-
-        // Trouver l'enchère gagnante actuelle
-        Bid currentWinningBid = existingBids.stream()
-                .filter(Bid::getIsWinning)
-                .findFirst()
-                .orElse(null);
-
-        // Créer la nouvelle enchère
-        Bid newBid = new Bid();
-        newBid.setAuction(auction);
-        newBid.setBidder(bidder);
-        newBid.setAmount(request.getAmount());
-        newBid.setMaxAmount(request.getMaxAmount());
-        newBid.setIsAutoBid(false);
-        newBid.setBidDate(LocalDateTime.now());
-        newBid.setIsWinning(false);
-
-        // Logique des enchères automatiques
-        if (currentWinningBid != null && currentWinningBid.getMaxAmount() != null) {
-            // Il y a une enchère automatique en cours
-            BigDecimal competitorMaxAmount = currentWinningBid.getMaxAmount();
-
-            if (request.getMaxAmount() != null) {
-                // Bataille d'enchères automatiques
-                if (request.getMaxAmount().compareTo(competitorMaxAmount) > 0) {
-                    // Le nouvel enchérisseur a un max plus élevé
-                    BigDecimal newWinningAmount = competitorMaxAmount.add(minBidIncrement);
-                    newBid.setAmount(newWinningAmount);
-                    newBid.setIsWinning(true);
-                    currentWinningBid.setIsWinning(false);
-                } else if (request.getMaxAmount().compareTo(competitorMaxAmount) < 0) {
-                    // L'enchérisseur actuel a un max plus élevé
-                    BigDecimal competitorNewAmount = request.getMaxAmount().add(minBidIncrement);
-
-                    // Créer une contre-enchère automatique
-                    Bid autoBid = new Bid();
-                    autoBid.setAuction(auction);
-                    autoBid.setBidder(currentWinningBid.getBidder());
-                    autoBid.setAmount(competitorNewAmount);
-                    autoBid.setMaxAmount(competitorMaxAmount);
-                    autoBid.setIsAutoBid(true);
-                    autoBid.setBidDate(LocalDateTime.now());
-                    autoBid.setIsWinning(true);
+        PendingBid placed = engineEnabled
+                ? biddingEngine.place(request, bidder.getId())
+                : placeWithRetry(request, bidder.getId());
+        // Sans effet si la date de fin n'a pas bougé ; reprogramme la clôture après une prolongation
+        auctionScheduler.schedule(placed.getAuctionId(), placed.getAuctionState().getEndDate());
+        auctionStreamService.publish(placed.getAuctionState());
+        auctionFeedIndex.recordBid(placed.getAuctionState());
+        bidNotifier.publish(placed);
+        return toBidResponse(placed, bidder);
+    }
 
-                    currentWinningBid.setIsWinning(false);
-                    bidRepository.save(autoBid);
-                } else {
-                    // Montants max égaux - premier arrivé gagne
-                    newBid.setIsWinning(true);
-                    currentWinningBid.setIsWinning(false);
+    /**
+     * Boucle bornée de tentatives optimistes : en cas de conflit de version on rejoue
+     * le placement sur l'état relu, après une courte attente aléatoire.
+     */
+    private PendingBid placeWithRetry(PlaceBidRequest request, Long bidderId) {
+        Long auctionId = request.getAuctionId();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return bidPersistenceService.placeBidAttempt(request, bidderId);
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+                // Les insertions du journal passent avant la mise à jour versionnée de l'auction :
+                // un placement concurrent se manifeste d'abord par un numéro de séquence déjà pris
+                if (e instanceof DataIntegrityViolationException violation && !isJournalSequenceClash(violation)) {
+                    throw e;
                 }
-            } else {
-                // Enchère manuelle contre enchère automatique
-                if (request.getAmount().compareTo(competitorMaxAmount) >= 0) {
-                    // L'enchère manuelle dépasse le max automatique
-                    newBid.setIsWinning(true);
-                    currentWinningBid.setIsWinning(false);
-                } else {
-                    // L'enchère automatique contre-attaque
-                    BigDecimal competitorNewAmount = request.getAmount().add(minBidIncrement);
-                    if (competitorNewAmount.compareTo(competitorMaxAmount) <= 0) {
-                        Bid autoBid = new Bid();
-                        autoBid.setAuction(auction);
-                        autoBid.setBidder(currentWinningBid.getBidder());
-                        autoBid.setAmount(competitorNewAmount);
-                        autoBid.setMaxAmount(competitorMaxAmount);
-                        autoBid.setIsAutoBid(true);
-                        autoBid.setBidDate(LocalDateTime.now());
-                        autoBid.setIsWinning(true);
-
-                        currentWinningBid.setIsWinning(false);
-                        bidRepository.save(autoBid);
-                        auction.setCurrentPrice(competitorNewAmount);
-                    } else {
-                        newBid.setIsWinning(true);
-                        currentWinningBid.setIsWinning(false);
-                    }
+                bidContentionMetrics.recordConflict(auctionId);
+                if (attempt >= maxAttempts) {
+                    bidContentionMetrics.recordGiveUp(auctionId);
+                    log.warn("Giving up bid on auction {} after {} conflicting attempts", auctionId, attempt);
+                    throw new BidException("Auction is receiving too many bids, please retry", e);
                 }
-            }
-        } else {
-            // Pas d'enchère automatique en cours
-            newBid.setIsWinning(true);
-            if (currentWinningBid != null) {
-                currentWinningBid.setIsWinning(false);
+                bidContentionMetrics.recordRetry(auctionId);
+                backoff(attempt);
             }
         }
+    }
 
-        // Sauvegarder l'enchère
-        Bid savedBid = bidRepository.save(newBid);
-
-        // Mettre à jour l'enchère
-        if (newBid.getIsWinning()) {
-            auction.setCurrentPrice(newBid.getAmount());
-            auction.setWinner(bidder);
+    /**
+     * Violation de la contrainte d'unicité (auction, séquence) du journal, reconnue par le nom de contrainte
+     * que Hibernate extrait de l'erreur du driver. Le nom est comparé sans casse, sans schéma ni guillemets ;
+     * H2 remonte l'index qui porte la contrainte (suffixe _INDEX_n).
+     */
+    private static boolean isJournalSequenceClash(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String name = violation.getConstraintName().replace("\"", "");
+                name = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+                return name.equals(BidEvent.SEQUENCE_CONSTRAINT)
+                        || name.matches(Pattern.quote(BidEvent.SEQUENCE_CONSTRAINT) + "_index_\\d+");
+            }
         }
-        auction.setTotalBids(auction.getTotalBids() + 1);
+        return false;
+    }
 
-        // Vérifier si le prix de réserve est atteint
-        if (!auction.getReservePriceMet() &&
-                auction.getCurrentPrice().compareTo(auction.getReservePrice() != null ? auction.getReservePrice() : BigDecimal.ZERO) >= 0) {
-            auction.setReservePriceMet(true);
+    private void backoff(int attempt) {
+        long bound = backoffMs * attempt;
+        if (bound <= 0) {
+            return;
         }
-
-        // Gérer l'extension automatique (bataille à H-1)
-        if (auction.getIsAutoExtendEnabled()) {
-            long minutesUntilEnd = ChronoUnit.MINUTES.between(LocalDateTime.now(), auction.getEndDate());
-            if (minutesUntilEnd <= 60 && minutesUntilEnd > 0) {
-                // Prolonger de 10 minutes
-                auction.setEndDate(auction.getEndDate().plusMinutes(10));
-                auction.setStatus(AuctionStatus.EXTENDED);
-            }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BidException("Bid placement interrupted", e);
         }
-
-        auctionRepository.save(auction);
-
-        return toBidResponse(savedBid);
     }
 
     /**
@@ -222,8 +155,12 @@ public class BidService {
      */
     public List<BidResponse> getAuctionBids(Long auctionId) {
         List<Bid> bids = bidRepository.findByAuctionIdOrderByAmountDesc(auctionId);
+        Long winningBidId = auctionRepository.findById(auctionId)
+                .map(Auction::getWinningBid)
+                .map(Bid::getId)
+                .orElse(null);
         return bids.stream()
-                .map(this::toBidResponse)
+                .map(bid -> toBidResponse(bid, winningBidId))
                 .collect(Collectors.toList());
     }
 
@@ -233,33 +170,137 @@ public class BidService {
     public List<BidResponse> getBidderBids(Long bidderId) {
         List<Bid> bids = bidRepository.findByBidderIdOrderByBidDateDesc(bidderId);
         return bids.stream()
-                .map(this::toBidResponse)
+                .map(bid -> toBidResponse(bid, bid.getAuction().getWinningBid() != null
+                        ? bid.getAuction().getWinningBid().getId() : null))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Historique d'une auction paginé par curseur (montant décroissant).
+     * Une requête par page, sans chargement des entités Bid ni Person.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BidResponse> getAuctionBidHistory(Long auctionId, String cursor, int size) {
+        int limit = historyPageSize(size);
+        List<BidRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = bidRepository.findAuctionHistory(auctionId, PageRequest.of(0, limit + 1));
+        } else {
+            String[] keys = decodeCursor(cursor);
+            rows = bidRepository.findAuctionHistoryAfter(auctionId,
+                    cursorKey(keys[0], Money::of), cursorKey(keys[1], Long::valueOf),
+                    PageRequest.of(0, limit + 1));
+        }
+        return toCursorPage(rows, limit, last -> KeysetCursor.encode(last.getAmount(), last.getId()));
+    }
+
+    /**
+     * Activité d'un professionnel paginée par curseur (plus récentes d'abord)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<BidResponse> getBidderActivity(Long bidderId, String cursor, int size) {
+        int limit = historyPageSize(size);
+        List<BidRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = bidRepository.findBidderActivity(bidderId, PageRequest.of(0, limit + 1));
+        } else {
+            String[] keys = decodeCursor(cursor);
+            rows = bidRepository.findBidderActivityAfter(bidderId,
+                    cursorKey(keys[0], LocalDateTime::parse), cursorKey(keys[1], Long::valueOf),
+                    PageRequest.of(0, limit + 1));
+        }
+        return toCursorPage(rows, limit, last -> KeysetCursor.encode(last.getBidDate(), last.getId()));
+    }
+
+    /**
+     * Une ligne de plus que la page est lue : sa présence indique qu'une page suivante existe
+     */
+    private static CursorPageDTO<BidResponse> toCursorPage(List<BidRow> rows, int limit,
+            Function<BidRow, String> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<BidRow> page = hasMore ? rows.subList(0, limit) : rows;
+        List<BidResponse> items = page.stream()
+                .map(BidService::toBidResponse)
                 .collect(Collectors.toList());
+        return new CursorPageDTO<>(items, hasMore ? cursorOf.apply(page.get(limit - 1)) : null);
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor, 2);
+        } catch (IllegalArgumentException e) {
+            throw new BidException("Invalid cursor");
+        }
+    }
+
+    private static <K> K cursorKey(String value, Function<String, K> parser) {
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BidException("Invalid cursor");
+        }
+    }
+
+    private static int historyPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
     }
 
     /**
      * Récupère l'enchère gagnante actuelle
      */
     public BidResponse getCurrentWinningBid(Long auctionId) {
-        return bidRepository.findCurrentWinningBid(auctionId)
-                .map(this::toBidResponse)
+        return auctionRepository.findById(auctionId)
+                .flatMap(bidPersistenceService::findWinningBid)
+                .map(bid -> toBidResponse(bid, bid.getId()))
                 .orElse(null);
     }
 
     /**
      * Calcule le prochain montant d'enchère suggéré
      */
-    public BigDecimal getNextBidAmount(Long auctionId) {
+    public Money getNextBidAmount(Long auctionId) {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new BidException("Auction not found"));
 
         // Defensive: ensure current price is not null
-        BigDecimal currentPrice = auction.getCurrentPrice() != null ? auction.getCurrentPrice() : BigDecimal.ZERO;
-        BigDecimal increment = calculateBidIncrement(currentPrice);
+        Money currentPrice = auction.getCurrentPrice() != null ? auction.getCurrentPrice() : Money.ZERO;
+        Money increment = calculateBidIncrement(currentPrice);
         return currentPrice.add(increment);
     }
 
-    private BidResponse toBidResponse(Bid bid) {
+    // Visibilité paquet : mesuré par BidResponseMappingBenchmark (profil jmh)
+    static BidResponse toBidResponse(PendingBid bid, Person bidder) {
+        BidResponse response = new BidResponse();
+        response.setId(bid.getPersisted().join());
+        response.setAuctionId(bid.getAuctionId());
+        response.setBidderId(bidder.getId());
+        response.setBidderName(bidder.getFirstName() + " " + bidder.getLastName());
+        response.setAmount(bid.getAmount());
+        response.setMaxAmount(bid.getMaxAmount());
+        response.setIsAutoBid(bid.isAutoBid());
+        response.setIsWinning(bid.isWinning());
+        response.setBidDate(bid.getBidDate());
+        return response;
+    }
+
+    static BidResponse toBidResponse(BidRow row) {
+        BidResponse response = new BidResponse();
+        response.setId(row.getId());
+        response.setAuctionId(row.getAuctionId());
+        response.setBidderId(row.getBidderId());
+        response.setBidderName(row.getBidderFirstName() + " " + row.getBidderLastName());
+        response.setAmount(row.getAmount());
+        response.setMaxAmount(row.getMaxAmount());
+        response.setIsAutoBid(row.getIsAutoBid());
+        response.setIsWinning(row.getWinningBidId() != null ? row.getId().equals(row.getWinningBidId()) : row.getIsWinning());
+        response.setBidDate(row.getBidDate());
+        return response;
+    }
+
+    /**
+     * winningBidId : enchère en tête de l'auction (null pour les enchères antérieures au pointeur)
+     */
+    static BidResponse toBidResponse(Bid bid, Long winningBidId) {
         BidResponse response = new BidResponse();
         response.setId(bid.getId());
         response.setAuctionId(bid.getAuction().getId());
@@ -268,7 +309,7 @@ public class BidService {
         response.setAmount(bid.getAmount());
         response.setMaxAmount(bid.getMaxAmount());
         response.setIsAutoBid(bid.getIsAutoBid());
-        response.setIsWinning(bid.getIsWinning());
+        response.setIsWinning(winningBidId != null ? bid.getId().equals(winningBidId) : bid.getIsWinning());
         response.setBidDate(bid.getBidDate());
         return response;
     }
@@ -0,0 +1,229 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.exceptions.BidException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Moteur d'enchères en mémoire.
+ * Chaque enchère est affectée à une voie (un thread unique) selon son id : toutes les enchères
+ * d'une même vente sont donc traitées séquentiellement, sans verrou ni relecture en base.
+ * Les enchères acceptées sont écrites par lots par un thread dédié ; l'appelant attend la
+ * validation du lot qui contient son enchère.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BiddingEngine {
+
+    private final BidPersistenceService bidPersistenceService;
+    private final BidResolver bidResolver;
+    private final BidContentionMetrics bidContentionMetrics;
+
+    @Value("${bidding.engine.lanes:4}")
+    private int laneCount;
+
+    @Value("${bidding.engine.batch-size:200}")
+    private int batchSize;
+
+    @Value("${bidding.engine.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    private final Map<Long, AuctionBook> books = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingBid> writeQueue = new LinkedBlockingQueue<>();
+
+    private ExecutorService[] lanes;
+    private Thread flusher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        lanes = new ExecutorService[Math.max(1, laneCount)];
+        for (int i = 0; i < lanes.length; i++) {
+            String name = "bid-lane-" + i;
+            lanes[i] = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, name);
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "bid-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Bidding engine started with {} lanes (batch size {})", lanes.length, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            lane.awaitTermination(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        running = false;
+        flusher.join(ackTimeoutMs);
+        log.info("Bidding engine stopped");
+    }
+
+    /**
+     * Place une enchère dans la voie de l'auction et attend son écriture en base.
+     * Retourne l'enchère principale, dont le future {@code persisted} est complété.
+     */
+    public PendingBid place(PlaceBidRequest request, Long bidderId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ackTimeoutMs);
+        try {
+            PendingBid placed = CompletableFuture
+                    .supplyAsync(() -> apply(request, bidderId), laneFor(request.getAuctionId()))
+                    .get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+            placed.getPersisted().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return placed;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BidException bidException) {
+                throw bidException;
+            }
+            throw new BidException("Bid could not be placed, please retry", e.getCause());
+        } catch (TimeoutException e) {
+            throw new BidException("Bid placement timed out, please retry");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BidException("Bid placement interrupted", e);
+        } catch (RejectedExecutionException e) {
+            throw new BidException("Bidding engine is shutting down", e);
+        }
+    }
+
+    /**
+     * Oublie l'état en mémoire d'une enchère (modifiée ou clôturée hors du moteur).
+     * Passe par la voie de l'enchère pour rester ordonné avec les placements en cours.
+     */
+    public void evict(Long auctionId) {
+        ExecutorService lane = laneFor(auctionId);
+        if (lane.isShutdown()) {
+            books.remove(auctionId);
+            return;
+        }
+        try {
+            lane.execute(() -> books.remove(auctionId));
+        } catch (RejectedExecutionException e) {
+            books.remove(auctionId);
+        }
+    }
+
+    private ExecutorService laneFor(Long auctionId) {
+        return lanes[Math.floorMod(Long.hashCode(auctionId), lanes.length)];
+    }
+
+    /**
+     * Applique une enchère à l'état en mémoire. Exécuté uniquement sur la voie de l'auction.
+     */
+    private PendingBid apply(PlaceBidRequest request, Long bidderId) {
+        AuctionBook book = books.get(request.getAuctionId());
+        if (book == null) {
+            book = bidPersistenceService.loadBook(request.getAuctionId());
+            books.put(request.getAuctionId(), book);
+        }
+
+        List<PendingBid> resolved = bidResolver.resolve(book, request, bidderId, LocalDateTime.now());
+        synchronized (writeQueue) {
+            // Lot en échec pendant la résolution : l'état sur lequel l'enchère a été décidée est abandonné
+            if (books.get(request.getAuctionId()) != book) {
+                throw new BidException("Bid could not be recorded, please retry");
+            }
+            writeQueue.addAll(resolved);
+        }
+        return resolved.get(0);
+    }
+
+    private void runFlusher() {
+        List<PendingBid> batch = new ArrayList<>(batchSize);
+        while (running || !writeQueue.isEmpty()) {
+            try {
+                PendingBid first = writeQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                writeQueue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingBid> batch) {
+        try {
+            List<Long> ids = bidPersistenceService.persistBatch(batch);
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<Long> persisted = batch.get(i).getPersisted();
+                // Pas d'id : auction clôturée avant l'écriture, le future porte déjà le refus
+                if (persisted != null && ids.get(i) != null) {
+                    persisted.complete(ids.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to persist a batch of {} bids: {}", batch.size(), e.getMessage(), e);
+            Set<Long> auctionIds = new LinkedHashSet<>();
+            for (PendingBid pending : batch) {
+                if (auctionIds.add(pending.getAuctionId()) && e instanceof OptimisticLockingFailureException) {
+                    bidContentionMetrics.recordConflict(pending.getAuctionId());
+                }
+                if (pending.getPersisted() != null) {
+                    pending.getPersisted().completeExceptionally(
+                            new BidException("Bid could not be recorded, please retry", e));
+                }
+            }
+            discard(auctionIds, e);
+        }
+    }
+
+    /**
+     * L'état en mémoire a avancé sans la base : il est oublié tout de suite (rechargé au prochain placement)
+     * et les enchères déjà résolues sur cet état, en file ou en cours sur une voie, sont refusées
+     * avant que le flusher ne prenne le lot suivant.
+     */
+    private void discard(Set<Long> auctionIds, RuntimeException cause) {
+        List<PendingBid> dropped = new ArrayList<>();
+        synchronized (writeQueue) {
+            auctionIds.forEach(books::remove);
+            writeQueue.removeIf(pending -> auctionIds.contains(pending.getAuctionId()) && dropped.add(pending));
+        }
+        for (PendingBid pending : dropped) {
+            if (pending.getPersisted() != null) {
+                pending.getPersisted().completeExceptionally(
+                        new BidException("Bid could not be recorded, please retry", cause));
+            }
+        }
+        if (!dropped.isEmpty()) {
+            log.warn("Dropped {} queued bids resolved against the state of a failed batch", dropped.size());
+        }
+    }
+}
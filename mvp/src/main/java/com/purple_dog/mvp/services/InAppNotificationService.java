@@ -14,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -56,6 +57,30 @@ public class InAppNotificationService {
         return mapToResponseDTO(notification);
     }
 
+    /**
+     * Créer un lot de notifications en une seule écriture (sans relire les utilisateurs)
+     */
+    public int createNotifications(List<NotificationCreateDTO> dtos) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> notifications = new ArrayList<>(dtos.size());
+        for (NotificationCreateDTO dto : dtos) {
+            notifications.add(Notification.builder()
+                    .user(personRepository.getReferenceById(dto.getUserId()))
+                    .type(dto.getType())
+                    .title(dto.getTitle())
+                    .message(dto.getMessage())
+                    .linkUrl(dto.getLinkUrl())
+                    .isRead(false)
+                    .emailSent(false)
+                    .metadata(dto.getMetadata())
+                    .createdAt(now)
+                    .build());
+        }
+        notificationRepository.saveAll(notifications);
+        log.info("✅ {} notifications created", notifications.size());
+        return notifications.size();
+    }
+
     /**
      * Créer une notification pour un match d'alerte
      */
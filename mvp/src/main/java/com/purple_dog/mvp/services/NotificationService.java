@@ -19,6 +19,7 @@ import java.util.Map;
  * - Création de commande
  * - Paiement confirmé
  * - Paiement échoué
+ * - Enchère remportée
  */
 @Service
 @RequiredArgsConstructor
@@ -395,6 +396,43 @@ public class NotificationService {
         }
     }
 
+    /**
+     * Notifier le gagnant d'une enchère
+     */
+    @Async
+    public void sendAuctionWonEmail(Person winner, String productTitle, BigDecimal finalPrice, String orderNumber) {
+        try {
+            log.info("📧 Envoi email d'enchère remportée à: {}", winner.getEmail());
+
+            String subject = "🏆 Vous avez remporté l'enchère : " + productTitle;
+
+            String text = String.format("""
+                Bonjour %s %s,
+                
+                Félicitations ! Vous avez remporté l'enchère pour : %s
+                
+                Prix final : %s
+                Commande : %s
+                
+                Rendez-vous dans votre espace pour finaliser le paiement.
+                
+                Cordialement,
+                L'équipe Purple Dog
+                """,
+                winner.getFirstName(),
+                winner.getLastName(),
+                productTitle,
+                formatPrice(finalPrice),
+                orderNumber != null ? orderNumber : "en cours de création"
+            );
+
+            emailSenderService.sendSimpleEmail(winner.getEmail(), subject, text);
+
+        } catch (Exception e) {
+            log.error("❌ Erreur lors de l'envoi de l'email d'enchère remportée: {}", e.getMessage());
+        }
+    }
+
     // ========== MÉTHODES UTILITAIRES ==========
 
     /**
@@ -52,19 +52,20 @@ public class OfferService {
             throw new InvalidOperationException("Seller cannot make an offer on their own product");
         }
 
+        Money amount = Money.of(dto.getAmount());
         if (quickSale.getMinimumOfferPrice() != null &&
-            dto.getAmount().compareTo(quickSale.getMinimumOfferPrice()) < 0) {
+            amount.compareTo(quickSale.getMinimumOfferPrice()) < 0) {
             throw new InvalidOperationException("Offer amount is below minimum offer price");
         }
 
-        if (dto.getAmount().compareTo(quickSale.getFixedPrice()) > 0) {
+        if (amount.compareTo(quickSale.getFixedPrice()) > 0) {
             throw new InvalidOperationException("Offer amount cannot exceed fixed price");
         }
 
         Offer offer = Offer.builder()
                 .quickSale(quickSale)
                 .buyer(buyer)
-                .amount(dto.getAmount())
+                .amount(amount)
                 .message(dto.getMessage())
                 .status(OfferStatus.PENDING)
                 .createdAt(LocalDateTime.now())
@@ -265,7 +266,7 @@ public class OfferService {
                 buyer.getFirstName(),
                 buyer.getLastName(),
                 offer.getQuickSale().getProduct().getTitle(),
-                offer.getAmount(),
+                offer.getAmount().toBigDecimal(),
                 offer.getMessage() != null ? offer.getMessage() : "Aucun message"
             )
         );
@@ -284,7 +285,7 @@ public class OfferService {
                 "Cordialement,\n" +
                 "L'équipe Purple Dog",
                 buyer.getFirstName(),
-                offer.getAmount(),
+                offer.getAmount().toBigDecimal(),
                 offer.getQuickSale().getProduct().getTitle()
             )
         );
@@ -303,7 +304,7 @@ public class OfferService {
                 "Cordialement,\n" +
                 "L'équipe Purple Dog",
                 buyer.getFirstName(),
-                offer.getAmount(),
+                offer.getAmount().toBigDecimal(),
                 offer.getQuickSale().getProduct().getTitle()
             )
         );
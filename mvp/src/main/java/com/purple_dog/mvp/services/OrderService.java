@@ -13,7 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -109,7 +114,7 @@ public class OrderService {
                         } else if (product.getSaleType() == SaleType.QUICK_SALE) {
                             QuickSale newQs = new QuickSale();
                             newQs.setProduct(product);
-                            newQs.setFixedPrice(product.getEstimatedValue());
+                            newQs.setFixedPrice(Money.ofNullable(product.getEstimatedValue()));
                             newQs.setIsAvailable(false); // immediately reserved for this order
                             newQs.setCreatedAt(LocalDateTime.now());
                             quickSaleRepository.save(newQs);
@@ -166,6 +171,56 @@ public class OrderService {
         return mapToResponseDTO(savedOrder);
     }
 
+    /**
+     * Crée en un lot les commandes des enchères vendues (gagnant = acheteur).
+     * Les enchères ayant déjà une commande sont ignorées ; l'adresse par défaut du gagnant
+     * sert d'adresse de livraison et de facturation.
+     * Retourne le numéro de commande par id d'enchère.
+     */
+    public Map<Long, String> createAuctionOrders(List<SettledAuction> sold) {
+        List<Long> auctionIds = sold.stream().map(SettledAuction::getAuctionId).collect(Collectors.toList());
+        Set<Long> alreadyOrdered = new HashSet<>(orderRepository.findAuctionIdsWithOrder(auctionIds));
+
+        List<Long> winnerIds = sold.stream().map(SettledAuction::getWinnerId).distinct().collect(Collectors.toList());
+        Map<Long, Address> addressByPerson = new HashMap<>();
+        for (Address address : addressRepository.findByPersonIdsPreferDefault(winnerIds)) {
+            addressByPerson.putIfAbsent(address.getPerson().getId(), address);
+        }
+
+        List<Order> orders = new ArrayList<>(sold.size());
+        for (SettledAuction settled : sold) {
+            if (alreadyOrdered.contains(settled.getAuctionId())) {
+                continue;
+            }
+            Address address = addressByPerson.get(settled.getWinnerId());
+            if (address == null) {
+                log.warn("No address for winner {} of auction {}, order not created",
+                        settled.getWinnerId(), settled.getAuctionId());
+                continue;
+            }
+
+            Order order = new Order();
+            order.setOrderNumber(generateOrderNumber());
+            order.setBuyer(personRepository.getReferenceById(settled.getWinnerId()));
+            order.setSeller(personRepository.getReferenceById(settled.getSellerId()));
+            order.setAuction(auctionRepository.getReferenceById(settled.getAuctionId()));
+            order.setProductPrice(settled.getFinalPrice());
+            order.setShippingCost(BigDecimal.ZERO);
+            order.setPlatformFee(BigDecimal.ZERO);
+            order.setTotalAmount(settled.getFinalPrice());
+            order.setShippingAddress(address);
+            order.setBillingAddress(address);
+            orders.add(order);
+        }
+
+        Map<Long, String> orderNumbers = new HashMap<>();
+        for (Order saved : orderRepository.saveAll(orders)) {
+            orderNumbers.put(saved.getAuction().getId(), saved.getOrderNumber());
+        }
+        log.info("Created {} auction orders ({} already existed)", orderNumbers.size(), alreadyOrdered.size());
+        return orderNumbers;
+    }
+
     @Transactional(readOnly = true)
     public OrderResponseDTO getOrderById(Long id) {
         log.debug("Fetching order with ID: {}", id);
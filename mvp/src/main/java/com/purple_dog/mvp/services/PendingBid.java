@@ -0,0 +1,35 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.entities.Money;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Enchère acceptée par le BiddingEngine, en attente d'écriture en base par lot
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingBid {
+
+    private Long auctionId;
+    private Long bidderId;
+    private Money amount;
+    private Money maxAmount;
+    private boolean autoBid;
+    private LocalDateTime bidDate;
+    private boolean winning;
+
+    // Meneur dépassé par cette enchère (null si la tête n'a pas changé de main)
+    private Long outbidBidderId;
+
+    // État de l'enchère juste après ce placement
+    private AuctionBook auctionState;
+
+    // Complété avec l'id de la ligne Bid une fois le lot validé (null pour les contre-enchères automatiques)
+    private CompletableFuture<Long> persisted;
+}
@@ -26,6 +26,7 @@ public class PlanService {
 
     private final PlanRepository planRepository;
     private final FeatureRepository featureRepository;
+    private final BidRateLimiter bidRateLimiter;
 
     /**
      * Créer un nouveau plan
@@ -50,6 +51,7 @@ public class PlanService {
                 .annualPrice(dto.getAnnualPrice())
                 .maxListings(dto.getMaxListings())
                 .maxPhotosPerListing(dto.getMaxPhotosPerListing())
+                .maxBidsPerMinute(dto.getMaxBidsPerMinute())
                 .featuredListings(dto.getFeaturedListings() != null ? dto.getFeaturedListings() : false)
                 .prioritySupport(dto.getPrioritySupport() != null ? dto.getPrioritySupport() : false)
                 .analyticsAccess(dto.getAnalyticsAccess() != null ? dto.getAnalyticsAccess() : false)
@@ -154,6 +156,10 @@ public class PlanService {
         if (dto.getMaxPhotosPerListing() != null) {
             plan.setMaxPhotosPerListing(dto.getMaxPhotosPerListing());
         }
+        if (dto.getMaxBidsPerMinute() != null) {
+            plan.setMaxBidsPerMinute(dto.getMaxBidsPerMinute());
+            bidRateLimiter.invalidate();
+        }
         if (dto.getFeaturedListings() != null) {
             plan.setFeaturedListings(dto.getFeaturedListings());
         }
@@ -288,6 +294,7 @@ public class PlanService {
                 .annualPrice(plan.getAnnualPrice())
                 .maxListings(plan.getMaxListings())
                 .maxPhotosPerListing(plan.getMaxPhotosPerListing())
+                .maxBidsPerMinute(plan.getMaxBidsPerMinute())
                 .featuredListings(plan.getFeaturedListings())
                 .prioritySupport(plan.getPrioritySupport())
                 .analyticsAccess(plan.getAnalyticsAccess())
@@ -0,0 +1,207 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.ProductResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache des fiches produit assemblées (GET /products/{id}), borné en taille (LRU) et en durée de vie.
+ * Les entrées sont réparties sur des segments par id de produit, chacun protégé par son propre verrou.
+ * Les écritures qui changent une fiche (produit, photos, prix d'enchère, vente rapide) l'invalident,
+ * immédiatement puis à la validation de leur transaction ; un chargement commencé avant une invalidation
+ * n'est pas mis en cache, la valeur lue pouvant déjà être périmée.
+ * Le nombre de vues n'est pas figé : les vues comptées depuis le chargement s'ajoutent à chaque lecture.
+ */
+@Component
+@Slf4j
+public class ProductDetailCache {
+
+    private final ProductViewCounter productViewCounter;
+    private final MeterRegistry meterRegistry;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+    private final Counter invalidations;
+
+    @Value("${products.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${products.cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${products.cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${products.cache.stripes:16}")
+    private int stripeCount;
+
+    private Stripe[] stripes;
+    private long ttlNanos;
+
+    public ProductDetailCache(ProductViewCounter productViewCounter, MeterRegistry meterRegistry) {
+        this.productViewCounter = productViewCounter;
+        this.meterRegistry = meterRegistry;
+        this.hits = Counter.builder("products.cache.requests")
+                .tag("result", "hit")
+                .description("Product detail reads served from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("products.cache.requests")
+                .tag("result", "miss")
+                .description("Product detail reads loaded from the database")
+                .register(meterRegistry);
+        this.sizeEvictions = Counter.builder("products.cache.evictions")
+                .tag("cause", "size")
+                .description("Least recently used product details dropped to stay under the size bound")
+                .register(meterRegistry);
+        this.expirations = Counter.builder("products.cache.evictions")
+                .tag("cause", "expired")
+                .description("Product details dropped after their time to live")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("products.cache.evictions")
+                .tag("cause", "invalidated")
+                .description("Product details dropped after a write")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        // Nombre de segments arrondi à une puissance de deux (sélection par masque)
+        int count = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        int capacity = Math.max(1, maxSize / count);
+        stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacity);
+        }
+        ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        Gauge.builder("products.cache.size", this, ProductDetailCache::size)
+                .description("Product details held in the cache")
+                .register(meterRegistry);
+        log.info("Product detail cache {} ({} entries max, ttl {} s, {} stripes)",
+                enabled ? "enabled" : "disabled", capacity * count, ttlSeconds, count);
+    }
+
+    /**
+     * Fiche du produit, depuis le cache ou chargée par {@code loader}. Retourne toujours une copie.
+     */
+    public ProductResponse get(Long productId, Function<Long, ProductResponse> loader) {
+        return get(productId, loader, System.nanoTime());
+    }
+
+    ProductResponse get(Long productId, Function<Long, ProductResponse> loader, long nowNanos) {
+        if (!enabled) {
+            return loader.apply(productId);
+        }
+        Stripe stripe = stripe(productId);
+        long generation;
+        synchronized (stripe) {
+            Entry entry = stripe.entries.get(productId);
+            if (entry != null && nowNanos - entry.loadedAt() < ttlNanos) {
+                hits.increment();
+                return withLiveViews(productId, entry);
+            }
+            if (entry != null) {
+                stripe.entries.remove(productId);
+                expirations.increment();
+            }
+            generation = stripe.generation;
+        }
+
+        // Chargement hors verrou : deux lectures simultanées d'une fiche absente la chargent chacune
+        misses.increment();
+        Entry loaded = new Entry(loader.apply(productId), nowNanos, productViewCounter.recorded(productId));
+        synchronized (stripe) {
+            if (stripe.generation == generation) {
+                stripe.entries.put(productId, loaded);
+            }
+        }
+        return loaded.response().toBuilder().build();
+    }
+
+    /**
+     * Retire la fiche du produit, puis de nouveau à la validation de la transaction en cours :
+     * une lecture faite entre-temps a pu remettre en cache l'état d'avant l'écriture.
+     */
+    public void invalidate(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        evict(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(productId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return stripes == null ? 0 : Arrays.stream(stripes).mapToInt(Stripe::size).sum();
+    }
+
+    private void evict(Long productId) {
+        Stripe stripe = stripe(productId);
+        synchronized (stripe) {
+            stripe.generation++;
+            if (stripe.entries.remove(productId) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    private ProductResponse withLiveViews(Long productId, Entry entry) {
+        long base = entry.response().getViewCount() != null ? entry.response().getViewCount() : 0;
+        return entry.response().toBuilder()
+                .viewCount(base + productViewCounter.recorded(productId) - entry.recordedViews())
+                .build();
+    }
+
+    private Stripe stripe(Long productId) {
+        return stripes[Long.hashCode(productId * 0x9E3779B97F4A7C15L) & (stripes.length - 1)];
+    }
+
+    /**
+     * Réponse assemblée, instant du chargement, vues comptées par l'instance à ce moment-là
+     */
+    private record Entry(ProductResponse response, long loadedAt, long recordedViews) {
+    }
+
+    private final class Stripe {
+        // Ordre d'accès : l'entrée la moins récemment lue part en premier
+        private final Map<Long, Entry> entries;
+        // Avancé à chaque invalidation du segment : un chargement concurrent n'est pas mis en cache
+        private long generation;
+
+        private Stripe(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    if (size() <= capacity) {
+                        return false;
+                    }
+                    sizeEvictions.increment();
+                    return true;
+                }
+            };
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.dto.ProductImportEventDTO;
+import com.purple_dog.mvp.dto.ProductImportEventDTO.Type;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.exceptions.ProductException;
+import com.purple_dog.mvp.utils.CsvParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Import en masse de produits (tableau JSON ou CSV), pour l'arrivée des collections des vendeurs professionnels.
+ * Les lignes sont validées en parallèle, avec les règles de la création unitaire (vendeurs professionnels et
+ * catégories vérifiés en une requête chacun), puis les lignes valides sont écrites par lots, une transaction
+ * par lot (voir {@link ProductImportWriter}). Hors administrateur, le vendeur de chaque ligne doit être
+ * l'importateur. Chaque ligne rejetée, chaque lot écrit et le bilan sont remontés au fil de l'eau ; un lot
+ * en échec est signalé sur chacune de ses lignes et n'empêche pas l'écriture des suivants.
+ * En CSV, une colonne par champ de {@link ProductCreateRequest} (photoUrls séparées par des |), sans documents.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportService {
+
+    // En-tête normalisé (minuscules, sans _ ni espace) -> affectation du champ
+    private static final Map<String, BiConsumer<ProductCreateRequest, String>> CSV_COLUMNS = Map.ofEntries(
+            Map.entry("sellerid", (r, v) -> r.setSellerId(Long.valueOf(v))),
+            Map.entry("categoryid", (r, v) -> r.setCategoryId(Long.valueOf(v))),
+            Map.entry("title", ProductCreateRequest::setTitle),
+            Map.entry("description", ProductCreateRequest::setDescription),
+            Map.entry("productcondition", (r, v) -> r.setProductCondition(ProductCondition.valueOf(v.toUpperCase(Locale.ROOT)))),
+            Map.entry("saletype", (r, v) -> r.setSaleType(SaleType.valueOf(v.toUpperCase(Locale.ROOT)))),
+            Map.entry("estimatedvalue", (r, v) -> r.setEstimatedValue(new BigDecimal(v))),
+            Map.entry("brand", ProductCreateRequest::setBrand),
+            Map.entry("yearofmanufacture", (r, v) -> r.setYearOfManufacture(Integer.valueOf(v))),
+            Map.entry("origin", ProductCreateRequest::setOrigin),
+            Map.entry("authenticitycertificate", ProductCreateRequest::setAuthenticityCertificate),
+            Map.entry("hasdocumentation", (r, v) -> r.setHasDocumentation(Boolean.valueOf(v))),
+            Map.entry("widthcm", (r, v) -> r.setWidthCm(new BigDecimal(v))),
+            Map.entry("heightcm", (r, v) -> r.setHeightCm(new BigDecimal(v))),
+            Map.entry("depthcm", (r, v) -> r.setDepthCm(new BigDecimal(v))),
+            Map.entry("weightkg", (r, v) -> r.setWeightKg(new BigDecimal(v))),
+            Map.entry("photourls", (r, v) -> r.setPhotoUrls(Arrays.stream(v.split("\\|"))
+                    .map(String::strip)
+                    .filter(url -> !url.isEmpty())
+                    .toList())));
+
+    private final ProfessionalRepository professionalRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductImportWriter productImportWriter;
+    private final AuctionScheduler auctionScheduler;
+    private final AuctionFeedIndex auctionFeedIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestIndex productSuggestIndex;
+
+    @Value("${products.import.max-rows:5000}")
+    private int maxRows;
+
+    @Value("${products.import.chunk-size:250}")
+    private int chunkSize;
+
+    /**
+     * Lignes d'un import JSON, numérotées à partir de 1
+     */
+    public List<ImportRow> fromJson(List<ProductCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ProductException("Nothing to import");
+        }
+        checkSize(requests.size());
+        return IntStream.range(0, requests.size())
+                .mapToObj(i -> new ImportRow(i + 1, requests.get(i), requests.get(i) == null ? "Empty row" : null))
+                .toList();
+    }
+
+    /**
+     * Lignes d'un import CSV (en-tête obligatoire). Une valeur illisible rejette sa ligne, pas l'import.
+     */
+    public List<ImportRow> fromCsv(String csv) {
+        List<List<String>> records;
+        try {
+            records = CsvParser.parse(csv);
+        } catch (IllegalArgumentException e) {
+            throw new ProductException("Invalid CSV: " + e.getMessage());
+        }
+        if (records.size() < 2) {
+            throw new ProductException("Nothing to import");
+        }
+        checkSize(records.size() - 1);
+        List<String> header = records.get(0).stream()
+                .map(name -> name.strip().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", ""))
+                .toList();
+        for (int c = 0; c < header.size(); c++) {
+            if (!CSV_COLUMNS.containsKey(header.get(c))) {
+                throw new ProductException("Unknown CSV column: " + records.get(0).get(c).strip());
+            }
+        }
+
+        List<ImportRow> rows = new ArrayList<>(records.size() - 1);
+        for (int i = 1; i < records.size(); i++) {
+            rows.add(csvRow(i, header, records.get(i)));
+        }
+        return rows;
+    }
+
+    /**
+     * Valide et écrit les lignes, en remontant la progression à {@code listener} (appelé depuis ce thread)
+     *
+     * @param ownerId id du vendeur importateur, seul vendeur accepté sur les lignes ; null pour un administrateur
+     * @return le bilan, aussi remonté en dernier événement
+     */
+    public ProductImportEventDTO importRows(List<ImportRow> rows, Long ownerId,
+                                            Consumer<ProductImportEventDTO> listener) {
+        long startedAt = System.nanoTime();
+        int total = rows.size();
+        Set<Long> sellers = existing(rows, ProductCreateRequest::getSellerId, ids ->
+                professionalRepository.findAllById(ids).stream().map(Professional::getId).collect(Collectors.toSet()));
+        Set<Long> categories = existing(rows, ProductCreateRequest::getCategoryId, ids ->
+                categoryRepository.findAllById(ids).stream().map(Category::getId).collect(Collectors.toSet()));
+
+        // Validation sans état partagé : en parallèle
+        String[] errors = new String[total];
+        IntStream.range(0, total).parallel()
+                .forEach(i -> errors[i] = validate(rows.get(i), ownerId, sellers, categories));
+
+        Progress progress = new Progress(total, listener);
+        List<ImportRow> valid = new ArrayList<>(total);
+        for (int i = 0; i < total; i++) {
+            if (errors[i] != null) {
+                progress.failed(rows.get(i), errors[i]);
+            } else {
+                valid.add(rows.get(i));
+            }
+        }
+        progress.report();
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<ImportRow> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            List<Product> saved;
+            try {
+                saved = productImportWriter.insert(chunk.stream().map(ImportRow::request).toList());
+            } catch (RuntimeException e) {
+                log.error("Product import chunk of {} rows failed: {}", chunk.size(), e.getMessage(), e);
+                chunk.forEach(row -> progress.failed(row, "Import failed: " + e.getMessage()));
+                progress.report();
+                continue;
+            }
+            // Après validation de la transaction du lot : planification des clôtures et indexation
+            for (Product product : saved) {
+                if (product.getAuction() != null) {
+                    auctionScheduler.schedule(product.getAuction().getId(), product.getAuction().getEndDate());
+                    auctionFeedIndex.track(product.getAuction());
+                }
+                productSearchIndex.index(product);
+                productSuggestIndex.index(product);
+            }
+            progress.imported(saved.size());
+            progress.report();
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        log.info("Product import: {} of {} rows imported, {} rejected, in {} ms",
+                progress.imported, total, progress.failed, elapsedMs);
+        return progress.complete(elapsedMs);
+    }
+
+    private void checkSize(int rows) {
+        if (rows > maxRows) {
+            throw new ProductException("Too many rows: " + rows + " (maximum " + maxRows + ")");
+        }
+    }
+
+    private static ImportRow csvRow(int number, List<String> header, List<String> cells) {
+        if (cells.size() != header.size()) {
+            return new ImportRow(number, null, "Expected " + header.size() + " columns, found " + cells.size());
+        }
+        ProductCreateRequest request = new ProductCreateRequest();
+        for (int c = 0; c < header.size(); c++) {
+            String value = cells.get(c).strip();
+            if (value.isEmpty()) {
+                continue;
+            }
+            try {
+                CSV_COLUMNS.get(header.get(c)).accept(request, value);
+            } catch (IllegalArgumentException e) {
+                return new ImportRow(number, null, "Invalid " + header.get(c) + ": " + value);
+            }
+        }
+        return new ImportRow(number, request, null);
+    }
+
+    /**
+     * Ids référencés par les lignes qui existent en base, en une requête
+     */
+    private static Set<Long> existing(List<ImportRow> rows, Function<ProductCreateRequest, Long> id,
+                                      Function<Set<Long>, Set<Long>> lookup) {
+        Set<Long> ids = rows.stream()
+                .map(ImportRow::request)
+                .filter(Objects::nonNull)
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return ids.isEmpty() ? Set.of() : lookup.apply(ids);
+    }
+
+    /**
+     * Motif de rejet de la ligne, null si elle peut être importée
+     */
+    private static String validate(ImportRow row, Long ownerId, Set<Long> sellers, Set<Long> categories) {
+        if (row.error() != null) {
+            return row.error();
+        }
+        try {
+            ProductService.validateCreateRequest(row.request());
+        } catch (ProductException e) {
+            return e.getMessage();
+        }
+        if (ownerId != null && !ownerId.equals(row.request().getSellerId())) {
+            return "Seller must be the authenticated user";
+        }
+        if (!sellers.contains(row.request().getSellerId())) {
+            return "Professional seller not found with id: " + row.request().getSellerId();
+        }
+        if (!categories.contains(row.request().getCategoryId())) {
+            return "Category not found with id: " + row.request().getCategoryId();
+        }
+        return null;
+    }
+
+    /**
+     * Ligne à importer : numéro, requête (null si illisible) et motif de rejet déjà connu
+     */
+    public record ImportRow(int number, ProductCreateRequest request, String error) {
+    }
+
+    private static final class Progress {
+        private final int total;
+        private final Consumer<ProductImportEventDTO> listener;
+        private int imported;
+        private int failed;
+
+        private Progress(int total, Consumer<ProductImportEventDTO> listener) {
+            this.total = total;
+            this.listener = listener;
+        }
+
+        void failed(ImportRow row, String message) {
+            failed++;
+            listener.accept(event(Type.ERROR).row(row.number()).message(message).build());
+        }
+
+        void imported(int count) {
+            imported += count;
+        }
+
+        void report() {
+            listener.accept(event(Type.PROGRESS).build());
+        }
+
+        ProductImportEventDTO complete(long elapsedMs) {
+            ProductImportEventDTO summary = event(Type.COMPLETED).elapsedMs(elapsedMs).build();
+            listener.accept(summary);
+            return summary;
+        }
+
+        private ProductImportEventDTO.ProductImportEventDTOBuilder event(Type type) {
+            return ProductImportEventDTO.builder()
+                    .type(type)
+                    .total(total)
+                    .processed(imported + failed)
+                    .imported(imported)
+                    .failed(failed);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.DocumentRepository;
+import com.purple_dog.mvp.dao.PersonRepository;
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.QuickSaleRepository;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Document;
+import com.purple_dog.mvp.entities.Photo;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.QuickSale;
+import com.purple_dog.mvp.entities.SaleType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Écriture d'un lot de produits importés, en une transaction.
+ * Tous les produits sont persistés d'abord, puis toutes les photos, tous les documents et toutes les ventes :
+ * les INSERT d'une même table se suivent et Hibernate les envoie en lots JDBC, les ids venant des séquences.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ProductImportWriter {
+
+    private final ProductRepository productRepository;
+    private final PersonRepository personRepository;
+    private final CategoryRepository categoryRepository;
+    private final DocumentRepository documentRepository;
+    private final QuickSaleRepository quickSaleRepository;
+    private final AuctionRepository auctionRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${products.import.batch-size:50}")
+    private int batchSize;
+
+    /**
+     * Insère les produits de requêtes déjà validées (vendeurs et catégories existants)
+     *
+     * @return les produits créés, dans l'ordre des requêtes, avec leurs photos, documents et vente
+     */
+    public List<Product> insert(List<ProductCreateRequest> requests) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        // Catégories chargées (et non de simples références) : leur nom sert à l'index d'autocomplétion
+        Map<Long, Category> categories = categoryRepository.findAllById(requests.stream()
+                        .map(ProductCreateRequest::getCategoryId)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        List<Product> products = new ArrayList<>(requests.size());
+        for (ProductCreateRequest request : requests) {
+            products.add(ProductService.newProduct(request,
+                    personRepository.getReferenceById(request.getSellerId()), categories.get(request.getCategoryId())));
+        }
+        productRepository.saveAll(products);
+
+        List<Photo> photos = new ArrayList<>();
+        List<Document> documents = new ArrayList<>();
+        List<QuickSale> quickSales = new ArrayList<>();
+        List<Auction> auctions = new ArrayList<>();
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            ProductCreateRequest request = requests.get(i);
+            product.getPhotos().addAll(ProductService.newPhotos(product, request.getPhotoUrls()));
+            product.getDocuments().addAll(ProductService.newDocuments(product, request.getDocuments()));
+            photos.addAll(product.getPhotos());
+            documents.addAll(product.getDocuments());
+            if (product.getSaleType() == SaleType.QUICK_SALE) {
+                product.setQuickSale(ProductService.newQuickSale(product));
+                quickSales.add(product.getQuickSale());
+            } else if (product.getSaleType() == SaleType.AUCTION) {
+                product.setAuction(ProductService.newAuction(product));
+                auctions.add(product.getAuction());
+            }
+        }
+        // Pas de dépôt des photos : persistées directement
+        photos.forEach(entityManager::persist);
+        documentRepository.saveAll(documents);
+        quickSaleRepository.saveAll(quickSales);
+        auctionRepository.saveAll(auctions);
+        return products;
+    }
+}
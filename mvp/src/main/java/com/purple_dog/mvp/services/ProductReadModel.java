@@ -0,0 +1,166 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProductRepository.DocumentRow;
+import com.purple_dog.mvp.dao.ProductRepository.PhotoRow;
+import com.purple_dog.mvp.dao.ProductRepository.ProductRow;
+import com.purple_dog.mvp.dto.AuctionResponse;
+import com.purple_dog.mvp.dto.DocumentResponseDTO;
+import com.purple_dog.mvp.dto.PhotoResponse;
+import com.purple_dog.mvp.dto.ProductResponse;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.ProductStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Chemin de lecture des produits : un lot de produits est converti en {@link ProductResponse} en trois requêtes
+ * de projection, quel que soit sa taille (produits avec vendeur, catégorie et vente ; photos ; documents).
+ * Aucune entité n'est chargée, donc ni chargement paresseux ni relation un-à-un inverse lue produit par produit.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductReadModel {
+
+    private final ProductRepository productRepository;
+    private final ProductViewCounter productViewCounter;
+
+    /**
+     * Réponses des produits dans l'ordre des ids donnés ; les ids inconnus sont ignorés
+     */
+    public List<ProductResponse> load(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProductRow> rows = productRepository.findRows(ids).stream()
+                .collect(Collectors.toMap(ProductRow::getId, Function.identity()));
+        Map<Long, List<PhotoResponse>> photos = productRepository.findPhotoRows(ids).stream()
+                .collect(Collectors.groupingBy(PhotoRow::getProductId,
+                        Collectors.mapping(ProductReadModel::toPhoto, Collectors.toList())));
+        Map<Long, List<DocumentRow>> documents = productRepository.findDocumentRows(ids).stream()
+                .collect(Collectors.groupingBy(DocumentRow::getProductId));
+
+        List<ProductResponse> responses = new ArrayList<>(rows.size());
+        for (Long id : ids) {
+            ProductRow row = rows.get(id);
+            if (row != null) {
+                ProductResponse response = toResponse(row, photos.getOrDefault(id, List.of()),
+                        documents.getOrDefault(id, List.of()));
+                long persisted = row.getViewCount() != null ? row.getViewCount() : 0;
+                response.setViewCount(persisted + productViewCounter.pending(id));
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+    public Optional<ProductResponse> load(Long id) {
+        return load(List.of(id)).stream().findFirst();
+    }
+
+    private static ProductResponse toResponse(ProductRow row, List<PhotoResponse> photos, List<DocumentRow> documents) {
+        // Prix affiché : prix fixe de la vente rapide disponible, sinon prix courant de l'enchère, sinon estimation
+        BigDecimal price = row.getEstimatedValue();
+        ProductStatus status = row.getStatus();
+        if (row.getQuickSaleId() != null && row.getQuickSaleAvailable() != null) {
+            if (row.getQuickSaleAvailable()) {
+                price = Money.toBigDecimal(row.getQuickSalePrice());
+            } else {
+                // Vente rapide conclue : le produit est vendu, au dernier prix fixe
+                status = ProductStatus.SOLD;
+                if (row.getQuickSalePrice() != null) {
+                    price = row.getQuickSalePrice().toBigDecimal();
+                }
+            }
+        }
+        AuctionResponse auction = null;
+        if (row.getAuctionId() != null) {
+            if (row.getCurrentPrice() != null) {
+                price = row.getCurrentPrice().toBigDecimal();
+            }
+            auction = new AuctionResponse(
+                    row.getAuctionId(),
+                    row.getId(),
+                    row.getReservePrice(),
+                    row.getStartingPrice(),
+                    row.getReservePrice(),
+                    row.getCurrentPrice(),
+                    row.getBidIncrement(),
+                    row.getStartDate(),
+                    row.getEndDate(),
+                    row.getAuctionStatus(),
+                    row.getReservePriceMet(),
+                    row.getWinnerId(),
+                    row.getTotalBids(),
+                    row.getWinningBidId());
+        }
+
+        return new ProductResponse(
+                row.getId(),
+                row.getSellerId(),
+                row.getCategoryId(),
+                row.getTitle(),
+                row.getDescription(),
+                row.getProductCondition(),
+                status,
+                row.getSaleType(),
+                price,
+                row.getEstimatedValue(),
+                row.getBrand(),
+                row.getYearOfManufacture(),
+                row.getOrigin(),
+                row.getAuthenticityCertificate(),
+                row.getHasDocumentation(),
+                row.getWidthCm(),
+                row.getHeightCm(),
+                row.getDepthCm(),
+                row.getWeightKg(),
+                row.getCreatedAt(),
+                row.getUpdatedAt(),
+                photos,
+                documents.stream().map(d -> toDocument(d, row.getSellerId())).collect(Collectors.toList()),
+                new ProductResponse.SellerInfo(row.getSellerId(), row.getSellerFirstName(), row.getSellerLastName(),
+                        row.getSellerEmail()),
+                new ProductResponse.CategoryInfo(row.getCategoryId(), row.getCategoryName(),
+                        row.getCategoryDescription()),
+                row.getQuickSaleId(),
+                row.getAuctionId(),
+                auction,
+                null);
+    }
+
+    private static PhotoResponse toPhoto(PhotoRow photo) {
+        return new PhotoResponse(photo.getId(), photo.getUrl(), photo.getDisplayOrder(), photo.getIsPrimary());
+    }
+
+    private static DocumentResponseDTO toDocument(DocumentRow document, Long sellerId) {
+        return new DocumentResponseDTO(
+                document.getId(),
+                sellerId,
+                document.getDocumentType(),
+                document.getFileName(),
+                document.getFileUrl(),
+                document.getFileType(),
+                document.getFileSize(),
+                document.getDescription(),
+                document.getStatus(),
+                document.getRejectionReason(),
+                document.getVerifiedAt(),
+                document.getVerifiedById(),
+                document.getVerifiedById() != null
+                        ? document.getVerifiedByFirstName() + " " + document.getVerifiedByLastName()
+                        : null,
+                document.getUploadedAt());
+    }
+}
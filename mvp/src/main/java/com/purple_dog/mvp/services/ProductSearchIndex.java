@@ -0,0 +1,495 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProductRepository.ProductSearchEntry;
+import com.purple_dog.mvp.dto.ProductFacetsDTO;
+import com.purple_dog.mvp.dto.ProductFacetsDTO.FacetCount;
+import com.purple_dog.mvp.dto.ProductFacetsDTO.PriceBucket;
+import com.purple_dog.mvp.dto.ProductSearchRequest;
+import com.purple_dog.mvp.dto.ProductSort;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.ProductStatus;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.utils.TextAnalyzer;
+import com.purple_dog.mvp.utils.TrigramIndex;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Index inversé en mémoire des produits pour la recherche plein texte (titre et description).
+ * Chaque terme (voir {@link TextAnalyzer}) pointe vers les produits qui le contiennent avec sa fréquence,
+ * les occurrences du titre comptant davantage. Une requête retient les produits contenant tous ses termes,
+ * filtrés sur les critères de {@link ProductSearchRequest}, classés par pertinence (BM25).
+ * L'index est chargé au démarrage, mis à jour à chaque création, modification ou suppression de produit,
+ * et resynchronisé périodiquement sur les produits modifiés ailleurs (autre instance, changement de statut).
+ * En mode approché, les termes de la requête sont rapprochés des mots des titres et marques par similarité
+ * de trigrammes (voir {@link TrigramIndex}) : tolère les fautes de frappe sans parcourir les descriptions.
+ * Les filtres sont revérifiés en base sur les résultats : un index en retard ne renvoie jamais de produit
+ * qui ne correspond plus.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private static final Comparator<Hit> WORST_FIRST = Comparator
+            .comparingDouble(Hit::rank)
+            .thenComparingLong(Hit::productId);
+
+    private final ProductRepository productRepository;
+
+    @Value("${products.search.title-boost:3}")
+    private int titleBoost;
+
+    @Value("${products.search.fuzzy-threshold:0.3}")
+    private double fuzzyThreshold;
+
+    // Bornes des tranches de prix des facettes (valeur estimée, en euros)
+    @Value("${products.search.price-buckets:100,500,1000,5000,10000}")
+    private BigDecimal[] priceBuckets;
+
+    @Value("${products.search.resync-minutes:1}")
+    private long resyncMinutes;
+
+    // Terme -> (produit -> fréquence pondérée du terme dans le produit)
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+    // Mot des titres et marques -> produits, et dictionnaire de ces mots par trigrammes (mode approché)
+    private final Map<String, Set<Long>> names = new HashMap<>();
+    private final TrigramIndex nameTrigrams = new TrigramIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile LocalDateTime lastSync;
+
+    private ScheduledExecutorService resyncer;
+
+    @PostConstruct
+    public void start() {
+        resyncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "product-search");
+            t.setDaemon(true);
+            return t;
+        });
+        resyncer.execute(this::load);
+        long resyncMs = TimeUnit.MINUTES.toMillis(Math.max(1, resyncMinutes));
+        resyncer.scheduleWithFixedDelay(this::resync, resyncMs, resyncMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (resyncer != null) {
+            resyncer.shutdownNow();
+            resyncer.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Indexe un produit créé ou modifié (remplace son entrée précédente)
+     */
+    public void index(Product product) {
+        put(product.getId(), product.getTitle(), product.getBrand(), product.getDescription(),
+                product.getCategory() != null ? product.getCategory().getId() : null,
+                product.getProductCondition(), product.getSaleType(), product.getStatus(), product.getEstimatedValue(),
+                product.getCreatedAt());
+    }
+
+    /**
+     * Retire un produit supprimé
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            unindex(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Produits respectant les filtres de la requête et, si elle a un texte, contenant tous ses termes
+     * (ou, en mode approché, un mot proche de chacun dans le titre ou la marque).
+     * En un seul parcours : les {@code limit} premiers résultats dans l'ordre du tri, situés après
+     * {@code after} (null pour la première page), le nombre total de résultats et leurs décomptes par facette.
+     * Les tris par prix écartent des résultats classés les produits sans valeur estimée.
+     */
+    public SearchResult search(ProductSearchRequest request, ProductSort sort, Hit after, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.terms(request.getText())));
+        Collector collector = new Collector(request, sort, after, Math.max(0, limit), priceBuckets);
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                documents.forEach((productId, document) -> collector.offer(productId, document, 0));
+            } else if (Boolean.TRUE.equals(request.getFuzzy())) {
+                fuzzyMatches(terms, collector);
+            } else {
+                exactMatches(terms, collector);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return collector.result();
+    }
+
+    private void exactMatches(List<String> terms, Collector collector) {
+        List<Map<Long, Float>> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Float> list = postings.get(term);
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+        // Parcours de la liste la plus courte, les autres ne servent qu'aux tests d'appartenance
+        lists.sort(Comparator.comparingInt(Map::size));
+        double averageLength = (double) totalLength / documents.size();
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            int df = lists.get(i).size();
+            idf[i] = Math.log(1 + (documents.size() - df + 0.5) / (df + 0.5));
+        }
+        candidates:
+        for (Map.Entry<Long, Float> candidate : lists.get(0).entrySet()) {
+            Long productId = candidate.getKey();
+            Document document = documents.get(productId);
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            double score = 0;
+            for (int i = 0; i < lists.size(); i++) {
+                Float frequency = i == 0 ? candidate.getValue() : lists.get(i).get(productId);
+                if (frequency == null) {
+                    continue candidates;
+                }
+                score += idf[i] * frequency * (K1 + 1) / (frequency + norm);
+            }
+            collector.offer(productId, document, score);
+        }
+    }
+
+    /**
+     * Score d'un produit : somme, pour chaque terme de la requête, de la meilleure similarité
+     * parmi les mots de son titre et de sa marque
+     */
+    private void fuzzyMatches(List<String> terms, Collector collector) {
+        Map<Long, Double> scores = null;
+        for (String term : terms) {
+            Map<Long, Double> best = new HashMap<>();
+            for (Map.Entry<String, Double> word : nameTrigrams.similar(term, fuzzyThreshold).entrySet()) {
+                for (Long productId : names.get(word.getKey())) {
+                    if (scores == null || scores.containsKey(productId)) {
+                        best.merge(productId, word.getValue(), Math::max);
+                    }
+                }
+            }
+            if (scores != null) {
+                Map<Long, Double> previous = scores;
+                best.replaceAll((productId, similarity) -> similarity + previous.get(productId));
+            }
+            scores = best;
+            if (scores.isEmpty()) {
+                return;
+            }
+        }
+        scores.forEach((productId, score) -> collector.offer(productId, documents.get(productId), score));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Chargement complet, par tranches d'id pour ne pas monopoliser le verrou en écriture
+     */
+    void load() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long afterId = 0;
+            List<ProductSearchEntry> page;
+            do {
+                page = productRepository.findSearchEntries(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+                page.forEach(this::put);
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == LOAD_PAGE_SIZE);
+            lastSync = startedAt;
+            log.info("Product search index loaded ({} products)", size());
+        } catch (RuntimeException e) {
+            log.error("Product search index load failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Réindexe les produits créés ou modifiés depuis la dernière synchronisation
+     */
+    void resync() {
+        if (lastSync == null) {
+            load();
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            // Recouvrement d'une période : les transactions en cours au passage précédent sont reprises
+            LocalDateTime since = lastSync.minusMinutes(Math.max(1, resyncMinutes));
+            List<ProductSearchEntry> changed = productRepository.findSearchEntriesChangedSince(since);
+            changed.forEach(this::put);
+            lastSync = startedAt;
+            log.debug("Product search index resynced ({} products changed)", changed.size());
+        } catch (RuntimeException e) {
+            log.error("Product search index resync failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void put(ProductSearchEntry entry) {
+        put(entry.getId(), entry.getTitle(), entry.getBrand(), entry.getDescription(), entry.getCategoryId(),
+                entry.getProductCondition(), entry.getSaleType(), entry.getStatus(), entry.getEstimatedValue(),
+                entry.getCreatedAt());
+    }
+
+    private void put(Long productId, String title, String brand, String description, Long categoryId,
+                     ProductCondition condition, SaleType saleType, ProductStatus status,
+                     BigDecimal estimatedValue, LocalDateTime createdAt) {
+        // Analyse hors verrou : seule la mise à jour des listes est exclusive
+        Map<String, Float> frequencies = new HashMap<>();
+        List<String> titleTerms = TextAnalyzer.terms(title);
+        List<String> descriptionTerms = TextAnalyzer.terms(description);
+        titleTerms.forEach(term -> frequencies.merge(term, (float) titleBoost, Float::sum));
+        descriptionTerms.forEach(term -> frequencies.merge(term, 1f, Float::sum));
+        int length = titleTerms.size() * titleBoost + descriptionTerms.size();
+        Set<String> nameTerms = new HashSet<>(titleTerms);
+        nameTerms.addAll(TextAnalyzer.terms(brand));
+        long created = createdAt != null ? createdAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+        Document document = new Document(categoryId, condition, saleType, status, estimatedValue, created, length,
+                frequencies.keySet().toArray(String[]::new), nameTerms.toArray(String[]::new));
+
+        lock.writeLock().lock();
+        try {
+            unindex(productId);
+            documents.put(productId, document);
+            totalLength += length;
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(productId, frequency));
+            for (String name : nameTerms) {
+                names.computeIfAbsent(name, n -> {
+                    nameTrigrams.add(n);
+                    return new HashSet<>();
+                }).add(productId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindex(Long productId) {
+        Document previous = documents.remove(productId);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            Map<Long, Float> list = postings.get(term);
+            if (list != null && list.remove(productId) != null && list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        for (String name : previous.names()) {
+            Set<Long> products = names.get(name);
+            if (products != null && products.remove(productId) && products.isEmpty()) {
+                names.remove(name);
+                nameTrigrams.remove(name);
+            }
+        }
+    }
+
+    /**
+     * Mêmes critères que la spécification de {@link ProductService#search}
+     */
+    private static boolean matches(Document document, ProductSearchRequest request) {
+        if (request.getCategoryId() != null && !request.getCategoryId().equals(document.categoryId())) {
+            return false;
+        }
+        if (request.getSaleType() != null && request.getSaleType() != document.saleType()) {
+            return false;
+        }
+        if (request.getStatus() != null && request.getStatus() != document.status()) {
+            return false;
+        }
+        if (Boolean.TRUE.equals(request.getAvailableOnly()) && document.status() != ProductStatus.ACTIVE) {
+            return false;
+        }
+        BigDecimal value = document.estimatedValue();
+        if (request.getMinPrice() != null && (value == null || value.compareTo(request.getMinPrice()) < 0)) {
+            return false;
+        }
+        return request.getMaxPrice() == null || (value != null && value.compareTo(request.getMaxPrice()) <= 0);
+    }
+
+    /**
+     * Résultat d'une recherche : ids classés (au plus la limite demandée), total et facettes de tous les résultats.
+     * Les facettes de catégorie n'ont pas de libellé (ids seuls).
+     */
+    public record SearchResult(List<Hit> hits, long total, ProductFacetsDTO facets) {
+
+        public List<Long> ids() {
+            return hits.stream().map(Hit::productId).toList();
+        }
+    }
+
+    /**
+     * Position d'un produit dans un tri : rang (score, date ou prix, plus grand d'abord) puis id décroissant
+     */
+    public record Hit(long productId, double rank) {
+
+        boolean isAfter(Hit other) {
+            return rank < other.rank || (rank == other.rank && productId < other.productId);
+        }
+    }
+
+    private record Document(Long categoryId, ProductCondition condition, SaleType saleType, ProductStatus status,
+                            BigDecimal estimatedValue, long createdAt, int length, String[] terms, String[] names) {
+    }
+
+
+    /**
+     * Accumulateur d'une recherche : filtre chaque candidat, le compte dans les facettes et garde le top-K
+     */
+    private static final class Collector {
+
+        private final ProductSearchRequest request;
+        private final ProductSort sort;
+        private final Hit after;
+        private final int limit;
+        private final BigDecimal[] bucketBounds;
+        private final PriorityQueue<Hit> top = new PriorityQueue<>(WORST_FIRST);
+        private final Map<Long, Long> categories = new HashMap<>();
+        private final long[] conditions = new long[ProductCondition.values().length];
+        private final long[] saleTypes = new long[SaleType.values().length];
+        private final long[] buckets;
+        private long total;
+
+        private Collector(ProductSearchRequest request, ProductSort sort, Hit after, int limit,
+                          BigDecimal[] bucketBounds) {
+            this.request = request;
+            this.sort = sort;
+            this.after = after;
+            this.limit = limit;
+            this.bucketBounds = bucketBounds;
+            this.buckets = new long[bucketBounds.length + 1];
+        }
+
+        void offer(Long productId, Document document, double score) {
+            if (!matches(document, request)) {
+                return;
+            }
+            total++;
+            if (document.categoryId() != null) {
+                categories.merge(document.categoryId(), 1L, Long::sum);
+            }
+            if (document.condition() != null) {
+                conditions[document.condition().ordinal()]++;
+            }
+            if (document.saleType() != null) {
+                saleTypes[document.saleType().ordinal()]++;
+            }
+            if (document.estimatedValue() != null) {
+                buckets[bucketOf(document.estimatedValue())]++;
+            }
+            if (limit == 0 || (isPriceSort() && document.estimatedValue() == null)) {
+                return;
+            }
+            Hit hit = new Hit(productId, rank(document, score));
+            if (after != null && !hit.isAfter(after)) {
+                return;
+            }
+            top.add(hit);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        private double rank(Document document, double score) {
+            return switch (sort) {
+                case RELEVANCE -> score;
+                case NEWEST -> document.createdAt();
+                case PRICE_DESC -> document.estimatedValue().doubleValue();
+                case PRICE_ASC -> -document.estimatedValue().doubleValue();
+            };
+        }
+
+        private boolean isPriceSort() {
+            return sort == ProductSort.PRICE_ASC || sort == ProductSort.PRICE_DESC;
+        }
+
+        private int bucketOf(BigDecimal value) {
+            int bucket = 0;
+            while (bucket < bucketBounds.length && value.compareTo(bucketBounds[bucket]) >= 0) {
+                bucket++;
+            }
+            return bucket;
+        }
+
+        SearchResult result() {
+            List<Hit> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                ranked.add(top.poll());
+            }
+            return new SearchResult(ranked.reversed(), total, facets());
+        }
+
+        private ProductFacetsDTO facets() {
+            List<FacetCount> categoryCounts = categories.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                    .map(e -> new FacetCount(e.getKey().toString(), null, e.getValue()))
+                    .toList();
+            List<PriceBucket> priceBuckets = new ArrayList<>(buckets.length);
+            for (int i = 0; i < buckets.length; i++) {
+                priceBuckets.add(new PriceBucket(i == 0 ? BigDecimal.ZERO : bucketBounds[i - 1],
+                        i < bucketBounds.length ? bucketBounds[i] : null, buckets[i]));
+            }
+            return new ProductFacetsDTO(categoryCounts, enumCounts(ProductCondition.values(), conditions),
+                    enumCounts(SaleType.values(), saleTypes), priceBuckets);
+        }
+
+        private static List<FacetCount> enumCounts(Enum<?>[] values, long[] counts) {
+            List<FacetCount> result = new ArrayList<>();
+            for (Enum<?> value : values) {
+                if (counts[value.ordinal()] > 0) {
+                    result.add(new FacetCount(value.name(), null, counts[value.ordinal()]));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -4,13 +4,25 @@ import com.purple_dog.mvp.dao.*;
 import com.purple_dog.mvp.dto.*;
 import com.purple_dog.mvp.entities.*;
 import com.purple_dog.mvp.exceptions.ProductException;
+import com.purple_dog.mvp.utils.KeysetCursor;
+import com.purple_dog.mvp.utils.TextAnalyzer;
+import jakarta.persistence.criteria.Path;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.net.URLConnection;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,6 +36,15 @@ public class ProductService {
     private final FavoriteRepository favoriteRepository;
     private final QuickSaleRepository quickSaleRepository;
     private final AuctionRepository auctionRepository;
+    private final AuctionScheduler auctionScheduler;
+    private final AuctionFeedIndex auctionFeedIndex;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadModel productReadModel;
+    private final ProductViewCounter productViewCounter;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSuggestIndex productSuggestIndex;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
 
     /**
      * Crée un produit et prépare les photos/documents.
@@ -37,74 +58,30 @@ public class ProductService {
         Category category = categoryRepository.findById(request.getCategoryId())
                 .orElseThrow(() -> new ProductException("Category not found with id: " + request.getCategoryId()));
 
-        Product product = new Product();
-        product.setSeller(seller);
-        product.setCategory(category);
-        product.setTitle(request.getTitle());
-        product.setDescription(request.getDescription());
-        product.setProductCondition(request.getProductCondition());
-        product.setSaleType(request.getSaleType());
-        product.setEstimatedValue(request.getEstimatedValue());
-        product.setBrand(request.getBrand());
-        product.setYearOfManufacture(request.getYearOfManufacture());
-        product.setOrigin(request.getOrigin());
-        product.setAuthenticityCertificate(request.getAuthenticityCertificate());
-        product.setHasDocumentation(Boolean.TRUE.equals(request.getHasDocumentation()));
-        product.setWidthCm(request.getWidthCm());
-        product.setHeightCm(request.getHeightCm());
-        product.setDepthCm(request.getDepthCm());
-        product.setWeightKg(request.getWeightKg());
-        product.setStatus(ProductStatus.ACTIVE);
-
-        // Photos
-        int order = 0;
-        for (String url : request.getPhotoUrls()) {
-            Photo photo = new Photo();
-            photo.setProduct(product);
-            photo.setUrl(url);
-            photo.setDisplayOrder(order++);
-            photo.setIsPrimary(order == 1);
-            product.getPhotos().add(photo);
-        }
-
-        // Documents
-        if (request.getDocuments() != null) {
-            for (DocumentUploadDTO docReq : request.getDocuments()) {
-                Document doc = new Document();
-                doc.setProduct(product);
-                doc.setFileName(docReq.getFileName());
-                doc.setFileUrl(docReq.getFileUrl());
-                doc.setDocumentType(docReq.getDocumentType());
-                doc.setDescription(docReq.getDescription());
-                product.getDocuments().add(doc);
-            }
-        }
+        Product product = newProduct(request, seller, category);
+        product.getPhotos().addAll(newPhotos(product, request.getPhotoUrls()));
+        product.getDocuments().addAll(newDocuments(product, request.getDocuments()));
 
         Product saved = productRepository.save(product);
 
         // Create QuickSale or Auction based on saleType
         if (saved.getSaleType() == SaleType.QUICK_SALE) {
-            QuickSale quickSale = QuickSale.builder()
-                    .product(saved)
-                    .fixedPrice(saved.getEstimatedValue())
-                    .isAvailable(true)
-                    .build();
+            QuickSale quickSale = newQuickSale(saved);
             quickSaleRepository.save(quickSale);
             saved.setQuickSale(quickSale);
             productRepository.save(saved);
         } else if (saved.getSaleType() == SaleType.AUCTION) {
-            // For auction, create Auction entity if needed
-            Auction auction = new Auction();
-            auction.setProduct(saved);
-            auction.setStartingPrice(saved.getEstimatedValue());
-            auction.setCurrentPrice(saved.getEstimatedValue());
-            auction.setStatus(AuctionStatus.ACTIVE);
+            Auction auction = newAuction(saved);
             auctionRepository.save(auction);
+            auctionScheduler.schedule(auction.getId(), auction.getEndDate());
+            auctionFeedIndex.track(auction);
             saved.setAuction(auction);
             productRepository.save(saved);
         }
 
-        return toResponse(saved);
+        productSearchIndex.index(saved);
+        productSuggestIndex.index(saved);
+        return read(saved.getId());
     }
 
     /**
@@ -156,7 +133,10 @@ public class ProductService {
         }
 
         Product saved = productRepository.save(product);
-        return toResponse(saved);
+        productSearchIndex.index(saved);
+        productSuggestIndex.index(saved);
+        productDetailCache.invalidate(id);
+        return read(saved.getId());
     }
 
     /**
@@ -171,41 +151,190 @@ public class ProductService {
             throw new ProductException("Cannot delete a sold product");
         }
 
+        // Le pointeur de l'enchère vers son enchère en tête doit tomber avant la suppression en cascade
+        if (product.getAuction() != null && product.getAuction().getWinningBid() != null) {
+            product.getAuction().setWinningBid(null);
+            productRepository.saveAndFlush(product);
+        }
+
         // Supprimer les photos et documents associés (cascade devrait gérer ça)
         productRepository.delete(product);
+        productSearchIndex.remove(id);
+        productSuggestIndex.remove(id);
+        productDetailCache.invalidate(id);
+        productViewCounter.forget(id);
     }
 
     /**
-     * Récupération d'un produit par id.
+     * Récupération d'un produit par id, depuis le cache des fiches (sans transaction sur un succès de cache).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProductResponse getProduct(Long id) {
-        return productRepository.findById(id)
-                .map(this::toResponse)
-                .orElseThrow(() -> new ProductException("Product not found with id: " + id));
+        return productDetailCache.get(id, this::read);
     }
 
     /**
-     * Produits d'un vendeur.
+     * Consultation d'une fiche produit par un visiteur (email si authentifié, sinon adresse IP) : la vue est comptée.
      */
-    public List<ProductResponse> getProductsBySeller(Long sellerId, ProductStatus status) {
-        List<Product> products = status == null
-                ? productRepository.findAllBySellerId(sellerId)
-                : productRepository.findAllBySellerIdAndStatus(sellerId, status);
-        return products.stream().map(this::toResponse).collect(Collectors.toList());
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductResponse viewProduct(Long id, String viewer) {
+        ProductResponse product = getProduct(id);
+        if (productViewCounter.record(id, viewer)) {
+            product.setViewCount(product.getViewCount() + 1);
+        }
+        return product;
     }
 
     /**
-     * Recherche avec filtres.
+     * Complétions de la saisie d'une recherche (titres, marques, catégories), servies par l'index en mémoire.
      */
-    public List<ProductResponse> search(ProductSearchRequest req) {
-        Specification<Product> spec = (root, query, cb) -> cb.conjunction();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductSuggestionDTO> suggest(String query, int limit) {
+        return productSuggestIndex.suggest(query, limit);
+    }
+
+    /**
+     * Produits d'un vendeur, paginés par curseur (plus récents d'abord par défaut).
+     * Le nombre de produits n'est calculé que pour la première page (sans curseur).
+     */
+    @Transactional(readOnly = true)
+    public ProductSearchResultDTO getProductsBySeller(Long sellerId, ProductStatus status, ProductSort sort,
+                                                      String cursor, int size) {
+        Specification<Product> spec = (root, q, cb) -> cb.equal(root.get("seller").get("id"), sellerId);
+        if (status != null) {
+            spec = spec.and((root, q, cb) -> cb.equal(root.get("status"), status));
+        }
+        ProductSort order = sort == null || sort == ProductSort.RELEVANCE ? ProductSort.NEWEST : sort;
+        CursorPageDTO<ProductResponse> page = keysetPage(spec, order, cursor, pageSize(size));
+        // Décompte servi par l'index (seller_id, ...), sur la première page seulement : les pages suivantes
+        // le reprennent de la première au lieu de relancer un COUNT à chaque défilement
+        Long total = cursor == null || cursor.isBlank() ? productRepository.count(spec) : null;
+        return new ProductSearchResultDTO(page.getItems(), page.getNextCursor(), total, null);
+    }
+
+    /**
+     * Recherche avec filtres : une page de résultats par curseur, le nombre estimé de résultats et leurs
+     * décomptes par facette. Le texte passe par l'index plein texte (tri par pertinence par défaut) ;
+     * sans texte, la page vient de la base (plus récents d'abord par défaut).
+     * Total et facettes viennent de l'index en mémoire, d'où un total estimé.
+     */
+    @Transactional(readOnly = true)
+    public ProductSearchResultDTO search(ProductSearchRequest req, ProductSort sort, String cursor, int size) {
+        int limit = pageSize(size);
+        Specification<Product> spec = filters(req);
+        boolean hasText = !TextAnalyzer.terms(req.getText()).isEmpty();
+        ProductSort order = sort != null ? sort : ProductSort.RELEVANCE;
+
+        if (!hasText) {
+            ProductSort dbOrder = order == ProductSort.RELEVANCE ? ProductSort.NEWEST : order;
+            ProductSearchIndex.SearchResult counts = productSearchIndex.search(req, dbOrder, null, 0);
+            CursorPageDTO<ProductResponse> page = keysetPage(spec, dbOrder, cursor, limit);
+            return new ProductSearchResultDTO(page.getItems(), page.getNextCursor(), counts.total(),
+                    withCategoryLabels(counts.facets()));
+        }
+
+        ProductSearchIndex.Hit after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = decodeCursor(cursor);
+            after = new ProductSearchIndex.Hit(cursorKey(keys[1], Long::valueOf), cursorKey(keys[0], Double::valueOf));
+        }
+        ProductSearchIndex.SearchResult result = productSearchIndex.search(req, order, after, limit + 1);
+        boolean hasMore = result.hits().size() > limit;
+        List<ProductSearchIndex.Hit> hits = hasMore ? result.hits().subList(0, limit) : result.hits();
+        List<Long> ids = hits.stream().map(ProductSearchIndex.Hit::productId).toList();
+        List<ProductResponse> items = List.of();
+        if (!ids.isEmpty()) {
+            // Les filtres sont revérifiés en base : l'index peut avoir un statut ou un prix en retard
+            Set<Long> valid = productRepository
+                    .findKeys(spec.and((root, q, cb) -> root.get("id").in(ids)), "id", Sort.Direction.DESC, ids.size())
+                    .stream()
+                    .map(ProductKeysetRepository.ProductKey::id)
+                    .collect(Collectors.toSet());
+            items = productReadModel.load(ids.stream().filter(valid::contains).toList());
+        }
+        ProductSearchIndex.Hit last = hasMore ? hits.get(limit - 1) : null;
+        return new ProductSearchResultDTO(items, last != null ? KeysetCursor.encode(last.rank(), last.productId()) : null,
+                result.total(), withCategoryLabels(result.facets()));
+    }
+
+    /**
+     * Page par clé (date de création ou valeur estimée, puis id) sans COUNT ni OFFSET :
+     * une ligne de plus que la page est lue pour savoir s'il existe une page suivante.
+     * Les tris par prix écartent les produits sans valeur estimée.
+     */
+    private CursorPageDTO<ProductResponse> keysetPage(Specification<Product> spec, ProductSort sort, String cursor,
+                                                      int limit) {
+        boolean byDate = sort == ProductSort.NEWEST;
+        boolean ascending = sort == ProductSort.PRICE_ASC;
+        String attribute = byDate ? "createdAt" : "estimatedValue";
+        Specification<Product> pageSpec = byDate ? spec : spec.and((root, q, cb) -> cb.isNotNull(root.get(attribute)));
+        if (cursor != null && !cursor.isBlank()) {
+            String[] keys = decodeCursor(cursor);
+            Long id = cursorKey(keys[1], Long::valueOf);
+            pageSpec = pageSpec.and(byDate
+                    ? after(attribute, cursorKey(keys[0], LocalDateTime::parse), id, false)
+                    : after(attribute, cursorKey(keys[0], BigDecimal::new), id, ascending));
+        }
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        List<ProductKeysetRepository.ProductKey> keys =
+                productRepository.findKeys(pageSpec, attribute, direction, limit + 1);
+
+        boolean hasMore = keys.size() > limit;
+        List<ProductKeysetRepository.ProductKey> page = hasMore ? keys.subList(0, limit) : keys;
+        String nextCursor = null;
+        if (hasMore) {
+            ProductKeysetRepository.ProductKey last = page.get(limit - 1);
+            nextCursor = KeysetCursor.encode(last.sortKey(), last.id());
+        }
+        List<Long> ids = page.stream().map(ProductKeysetRepository.ProductKey::id).toList();
+        return new CursorPageDTO<>(productReadModel.load(ids), nextCursor);
+    }
+
+    private static <K extends Comparable<? super K>> Specification<Product> after(String attribute, K key, Long id,
+                                                                                    boolean ascending) {
+        return (root, q, cb) -> {
+            Path<K> path = root.get(attribute);
+            Path<Long> productId = root.get("id");
+            return ascending
+                    ? cb.or(cb.greaterThan(path, key), cb.and(cb.equal(path, key), cb.greaterThan(productId, id)))
+                    : cb.or(cb.lessThan(path, key), cb.and(cb.equal(path, key), cb.lessThan(productId, id)));
+        };
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            return KeysetCursor.decode(cursor, 2);
+        } catch (IllegalArgumentException e) {
+            throw new ProductException("Invalid cursor");
+        }
+    }
 
-        if (req.getText() != null && !req.getText().isBlank()) {
-            String like = "%" + req.getText().toLowerCase() + "%";
-            spec = spec.and((root, query, cb) -> cb.or(
-                    cb.like(cb.lower(root.get("title")), like),
-                    cb.like(cb.lower(root.get("description")), like)));
+    private static <K> K cursorKey(String value, Function<String, K> parser) {
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ProductException("Invalid cursor");
+        }
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE);
+    }
+
+    private ProductFacetsDTO withCategoryLabels(ProductFacetsDTO facets) {
+        if (facets.getCategories().isEmpty()) {
+            return facets;
         }
+        List<Long> ids = facets.getCategories().stream().map(c -> Long.valueOf(c.getValue())).toList();
+        Map<Long, String> names = categoryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Category::getName));
+        facets.getCategories().forEach(c -> c.setLabel(names.get(Long.valueOf(c.getValue()))));
+        return facets;
+    }
+
+    private Specification<Product> filters(ProductSearchRequest req) {
+        Specification<Product> spec = (root, query, cb) -> cb.conjunction();
+
         if (req.getCategoryId() != null) {
             spec = spec.and((root, q, cb) -> cb.equal(root.get("category").get("id"), req.getCategoryId()));
         }
@@ -224,10 +353,7 @@ public class ProductService {
         if (Boolean.TRUE.equals(req.getAvailableOnly())) {
             spec = spec.and((root, q, cb) -> cb.equal(root.get("status"), ProductStatus.ACTIVE));
         }
-
-        return productRepository.findAll(spec).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return spec;
     }
 
     /**
@@ -245,26 +371,108 @@ public class ProductService {
         fav.setUser(user);
         fav.setProduct(product);
         favoriteRepository.save(fav);
+        productSuggestIndex.favorited(productId, 1);
     }
 
     /**
      * Supprime un favori.
      */
     public void removeFavorite(Long userId, Long productId) {
-        favoriteRepository.deleteByUserIdAndProductId(userId, productId);
+        if (favoriteRepository.existsByUserIdAndProductId(userId, productId)) {
+            favoriteRepository.deleteByUserIdAndProductId(userId, productId);
+            productSuggestIndex.favorited(productId, -1);
+        }
     }
 
     /**
      * Liste les produits favoris d'un utilisateur.
      */
+    @Transactional(readOnly = true)
     public List<ProductResponse> listFavorites(Long userId) {
-        return favoriteRepository.findByUserIdWithProducts(userId).stream()
-                .map(Favorite::getProduct)
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return productReadModel.load(favoriteRepository.findProductIdsByUserId(userId));
+    }
+
+    /**
+     * Produit actif construit depuis la requête, sans photos ni documents
+     */
+    static Product newProduct(ProductCreateRequest request, Person seller, Category category) {
+        Product product = new Product();
+        product.setSeller(seller);
+        product.setCategory(category);
+        product.setTitle(request.getTitle());
+        product.setDescription(request.getDescription());
+        product.setProductCondition(request.getProductCondition());
+        product.setSaleType(request.getSaleType());
+        product.setEstimatedValue(request.getEstimatedValue());
+        product.setBrand(request.getBrand());
+        product.setYearOfManufacture(request.getYearOfManufacture());
+        product.setOrigin(request.getOrigin());
+        product.setAuthenticityCertificate(request.getAuthenticityCertificate());
+        product.setHasDocumentation(Boolean.TRUE.equals(request.getHasDocumentation()));
+        product.setWidthCm(request.getWidthCm());
+        product.setHeightCm(request.getHeightCm());
+        product.setDepthCm(request.getDepthCm());
+        product.setWeightKg(request.getWeightKg());
+        product.setStatus(ProductStatus.ACTIVE);
+        return product;
+    }
+
+    /**
+     * Photos dans l'ordre des URL, la première étant la photo principale
+     */
+    static List<Photo> newPhotos(Product product, List<String> urls) {
+        List<Photo> photos = new ArrayList<>(urls.size());
+        int order = 0;
+        for (String url : urls) {
+            Photo photo = new Photo();
+            photo.setProduct(product);
+            photo.setUrl(url);
+            photo.setDisplayOrder(order++);
+            photo.setIsPrimary(order == 1);
+            photos.add(photo);
+        }
+        return photos;
+    }
+
+    static List<Document> newDocuments(Product product, List<DocumentUploadDTO> requests) {
+        if (requests == null) {
+            return List.of();
+        }
+        List<Document> documents = new ArrayList<>(requests.size());
+        for (DocumentUploadDTO docReq : requests) {
+            Document doc = new Document();
+            doc.setProduct(product);
+            doc.setFileName(docReq.getFileName());
+            doc.setFileUrl(docReq.getFileUrl());
+            doc.setDocumentType(docReq.getDocumentType());
+            doc.setDescription(docReq.getDescription());
+            // Document référencé par URL, pas téléversé : type déduit du nom, taille inconnue
+            String fileType = docReq.getFileName() != null ? URLConnection.guessContentTypeFromName(docReq.getFileName()) : null;
+            doc.setFileType(fileType != null ? fileType : "application/octet-stream");
+            doc.setFileSize(0L);
+            documents.add(doc);
+        }
+        return documents;
+    }
+
+    static QuickSale newQuickSale(Product product) {
+        return QuickSale.builder()
+                .product(product)
+                .fixedPrice(Money.ofNullable(product.getEstimatedValue()))
+                .isAvailable(true)
+                .build();
     }
 
-    private void validateCreateRequest(ProductCreateRequest request) {
+    static Auction newAuction(Product product) {
+        Auction auction = new Auction();
+        auction.setProduct(product);
+        auction.setStartingPrice(Money.ofNullable(product.getEstimatedValue()));
+        auction.setCurrentPrice(Money.ofNullable(product.getEstimatedValue()));
+        auction.setStatus(AuctionStatus.ACTIVE);
+        return auction;
+    }
+
+    static void validateCreateRequest(ProductCreateRequest request) {
         if (request.getSellerId() == null) {
             throw new ProductException("Seller id is required");
         }
@@ -310,128 +518,8 @@ public class ProductService {
         return productRepository.existsById(id);
     }
 
-    private ProductResponse toResponse(Product product) {
-        List<PhotoResponse> photos = product.getPhotos().stream()
-                .map(p -> new PhotoResponse(p.getId(), p.getUrl(), p.getDisplayOrder(), p.getIsPrimary()))
-                .collect(Collectors.toList());
-
-        List<DocumentResponseDTO> docs = product.getDocuments().stream()
-                .map(d -> new DocumentResponseDTO(
-                        d.getId(),
-                        d.getProduct().getSeller().getId(),
-                        d.getDocumentType(),
-                        d.getFileName(),
-                        d.getFileUrl(),
-                        d.getFileType(),
-                        d.getFileSize(),
-                        d.getDescription(),
-                        d.getStatus(),
-                        d.getRejectionReason(),
-                        d.getVerifiedAt(),
-                        d.getVerifiedBy() != null ? d.getVerifiedBy().getId() : null,
-                        d.getVerifiedBy() != null
-                                ? d.getVerifiedBy().getFirstName() + " " + d.getVerifiedBy().getLastName()
-                                : null,
-                        d.getUploadedAt()))
-                .collect(Collectors.toList());
-
-        // Seller info
-        ProductResponse.SellerInfo seller = new ProductResponse.SellerInfo(
-                product.getSeller().getId(),
-                product.getSeller().getFirstName(),
-                product.getSeller().getLastName(),
-                product.getSeller().getEmail()
-        );
-
-        // Category info
-        ProductResponse.CategoryInfo category = new ProductResponse.CategoryInfo(
-                product.getCategory().getId(),
-                product.getCategory().getName(),
-                product.getCategory().getDescription()
-        );
-
-        // Determine price: prefer QuickSale.fixedPrice when available
-        java.math.BigDecimal responsePrice = product.getEstimatedValue();
-        ProductStatus responseStatus = product.getStatus();
-
-        Long quickSaleId = null;
-        Long auctionId = null;
-        AuctionResponse auctionDto = null; // DTO to include in product response
-
-        try {
-            QuickSale qs = product.getQuickSale();
-            if (qs != null) {
-                quickSaleId = qs.getId();
-                if (qs.getIsAvailable() != null && qs.getIsAvailable()) {
-                    responsePrice = qs.getFixedPrice();
-                } else if (qs.getIsAvailable() != null && !qs.getIsAvailable()) {
-                    // If quick sale exists but is not available, ensure product reported as SOLD
-                    responseStatus = ProductStatus.SOLD;
-                    // If there was a fixed price, still expose it as last price
-                    if (qs.getFixedPrice() != null) {
-                        responsePrice = qs.getFixedPrice();
-                    }
-                }
-            }
-
-            Auction auction = product.getAuction();
-            if (auction != null) {
-                auctionId = auction.getId();
-                // For auctions, price is currentPrice if available
-                if (auction.getCurrentPrice() != null) {
-                    responsePrice = auction.getCurrentPrice();
-                }
-                // Build AuctionResponse DTO for frontend use
-                auctionDto = new AuctionResponse(
-                        auction.getId(),
-                        product.getId(),
-                        auction.getReservePrice(),
-                        auction.getStartingPrice(),
-                        auction.getReservePrice(),
-                        auction.getCurrentPrice(),
-                        auction.getBidIncrement(),
-                        auction.getStartDate(),
-                        auction.getEndDate(),
-                        auction.getStatus(),
-                        auction.getReservePriceMet(),
-                        auction.getWinner() != null ? auction.getWinner().getId() : null,
-                        auction.getTotalBids()
-                );
-            }
-        } catch (Exception e) {
-            // In case lazy loading or other issue occurs, fallback silently
-            // log could be added here if desired
-        }
-
-        return new ProductResponse(
-                product.getId(),
-                product.getSeller().getId(),
-                product.getCategory().getId(),
-                product.getTitle(),
-                product.getDescription(),
-                product.getProductCondition(),
-                responseStatus,
-                product.getSaleType(),
-                responsePrice, // price
-                product.getEstimatedValue(), // estimatedValue
-                product.getBrand(),
-                product.getYearOfManufacture(),
-                product.getOrigin(),
-                product.getAuthenticityCertificate(),
-                product.getHasDocumentation(),
-                product.getWidthCm(),
-                product.getHeightCm(),
-                product.getDepthCm(),
-                product.getWeightKg(),
-                product.getCreatedAt(),
-                product.getUpdatedAt(),
-                photos,
-                docs,
-                seller,
-                category,
-                quickSaleId,
-                auctionId,
-                auctionDto
-        );
+    private ProductResponse read(Long id) {
+        return productReadModel.load(id)
+                .orElseThrow(() -> new ProductException("Product not found with id: " + id));
     }
 }
@@ -0,0 +1,364 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProductRepository.ProductSuggestEntry;
+import com.purple_dog.mvp.dto.ProductSuggestionDTO;
+import com.purple_dog.mvp.dto.ProductSuggestionDTO.Type;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductStatus;
+import com.purple_dog.mvp.utils.PrefixIndex;
+import com.purple_dog.mvp.utils.TextAnalyzer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+/**
+ * Index d'autocomplétion en mémoire (GET /products/suggest) : titres des produits actifs, leurs marques
+ * et leurs catégories, dans un arbre ternaire pondéré (voir {@link PrefixIndex}).
+ * Un produit pèse 1 + ses vues + un poids par favori ; une marque ou une catégorie, la somme de ses produits.
+ * Les clés sont normalisées comme la recherche (minuscules, sans accents) et tronquées : l'empreinte est bornée
+ * par le nombre de titres indexés, les plus consultés étant gardés en priorité.
+ * Mis à jour à chaque création, modification ou suppression de produit et à chaque favori ; reconstruit
+ * périodiquement pour reprendre les vues reportées et les changements faits ailleurs (vente, catégorie renommée).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductSuggestIndex {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+    // Suffixes des clés : distinguent un titre, une marque et une catégorie de même texte
+    private static final char TITLE = '\u0001';
+    private static final char BRAND = '\u0002';
+    private static final char CATEGORY = '\u0003';
+    private static final Pattern SEPARATORS = Pattern.compile("[\\s\\p{Cntrl}]+");
+
+    private final ProductRepository productRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${products.suggest.favorite-weight:10}")
+    private long favoriteWeight;
+
+    @Value("${products.suggest.max-titles:100000}")
+    private int maxTitles;
+
+    @Value("${products.suggest.max-key-length:40}")
+    private int maxKeyLength;
+
+    @Value("${products.suggest.max-limit:20}")
+    private int maxLimit;
+
+    @Value("${products.suggest.rebuild-minutes:10}")
+    private long rebuildMinutes;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private State state = new State();
+    // Modifications reçues pendant une reconstruction, rejouées sur le nouvel état avant l'échange
+    private List<Consumer<State>> replay;
+
+    private ScheduledExecutorService rebuilder;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("products.suggest.entries", this, index -> index.read(s -> s.tree.size()))
+                .description("Titles, brands and categories held in the suggestion index")
+                .register(meterRegistry);
+        Gauge.builder("products.suggest.nodes", this, index -> index.read(s -> s.tree.nodeCount()))
+                .description("Nodes of the suggestion index tree")
+                .register(meterRegistry);
+        rebuilder = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "product-suggest");
+            t.setDaemon(true);
+            return t;
+        });
+        rebuilder.execute(this::rebuild);
+        long rebuildMs = TimeUnit.MINUTES.toMillis(Math.max(1, rebuildMinutes));
+        rebuilder.scheduleWithFixedDelay(this::rebuild, rebuildMs, rebuildMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+            rebuilder.awaitTermination(1, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Indexe un produit créé ou modifié (retiré s'il n'est plus actif). Ses favoris déjà comptés sont conservés.
+     */
+    public void index(Product product) {
+        if (product.getStatus() != ProductStatus.ACTIVE) {
+            remove(product.getId());
+            return;
+        }
+        Long productId = product.getId();
+        long views = product.getViewCount() != null ? product.getViewCount() : 0;
+        Long categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        String categoryName = product.getCategory() != null ? product.getCategory().getName() : null;
+        apply(s -> s.put(new Item(productId, product.getTitle(), product.getBrand(), categoryId, categoryName,
+                views, s.favorites(productId))));
+    }
+
+    /**
+     * Retire un produit supprimé
+     */
+    public void remove(Long productId) {
+        apply(s -> s.remove(productId));
+    }
+
+    /**
+     * Ajoute ({@code delta} > 0) ou retire des favoris au poids d'un produit indexé
+     */
+    public void favorited(Long productId, int delta) {
+        apply(s -> s.addFavorites(productId, delta));
+    }
+
+    /**
+     * Au plus {@code limit} complétions de la saisie (plafonnées), de la plus demandée à la moins demandée
+     */
+    public List<ProductSuggestionDTO> suggest(String query, int limit) {
+        String prefix = key(query);
+        int count = Math.min(limit, maxLimit);
+        if (prefix.isEmpty() || count <= 0) {
+            return List.of();
+        }
+        List<Suggestion> found;
+        lock.readLock().lock();
+        try {
+            found = state.tree.complete(prefix, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found.stream()
+                .map(s -> new ProductSuggestionDTO(s.text(), s.type(), s.id()))
+                .toList();
+    }
+
+    /**
+     * Nombre d'entrées (titres, marques et catégories)
+     */
+    public int size() {
+        return read(s -> s.tree.size());
+    }
+
+    /**
+     * Reconstruction complète hors verrou, puis échange avec l'état courant
+     */
+    void rebuild() {
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        State fresh = null;
+        try {
+            fresh = build();
+        } catch (RuntimeException e) {
+            log.error("Product suggestion index rebuild failed: {}", e.getMessage(), e);
+        }
+        lock.writeLock().lock();
+        try {
+            if (fresh != null) {
+                for (Consumer<State> change : replay) {
+                    change.accept(fresh);
+                }
+                state = fresh;
+            }
+            replay = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (fresh != null) {
+            log.info("Product suggestion index rebuilt ({} entries, {} nodes)", fresh.tree.size(), fresh.tree.nodeCount());
+        }
+    }
+
+    private State build() {
+        List<Item> items = new ArrayList<>();
+        long afterId = 0;
+        List<ProductSuggestEntry> page;
+        do {
+            page = productRepository.findSuggestEntries(ProductStatus.ACTIVE, afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (ProductSuggestEntry entry : page) {
+                items.add(new Item(entry.getId(), entry.getTitle(), entry.getBrand(), entry.getCategoryId(),
+                        entry.getCategoryName(), entry.getViewCount() != null ? entry.getViewCount() : 0,
+                        entry.getFavoriteCount() != null ? entry.getFavoriteCount() : 0));
+            }
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+
+        // Les plus lourds d'abord : au-delà du plafond de titres, ce sont les moins demandés qui manquent
+        items.sort(Comparator.comparingLong(this::weight).reversed());
+        State fresh = new State();
+        items.forEach(fresh::put);
+        return fresh;
+    }
+
+    private void apply(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (replay != null) {
+                replay.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int read(ToIntFunction<State> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.applyAsInt(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long weight(Item item) {
+        return 1 + item.views() + favoriteWeight * item.favorites();
+    }
+
+    /**
+     * Texte normalisé comme la recherche, espaces réduits, tronqué ; identique pour les clés et les saisies
+     */
+    private String key(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String key = SEPARATORS.matcher(TextAnalyzer.normalize(text)).replaceAll(" ").strip();
+        return key.length() > maxKeyLength ? key.substring(0, maxKeyLength).strip() : key;
+    }
+
+    /**
+     * Contenu de l'index, remplacé en bloc à chaque reconstruction. Accès sous le verrou.
+     */
+    private final class State {
+        private final PrefixIndex<Suggestion> tree = new PrefixIndex<>();
+        private final Map<Long, Indexed> products = new HashMap<>();
+        // Clé de marque ou de catégorie -> entrée partagée par ses produits
+        private final Map<String, Group> groups = new HashMap<>();
+        private int titles;
+
+        void put(Item item) {
+            remove(item.id());
+            long weight = weight(item);
+            String title = key(item.title());
+            String titleKey = null;
+            if (!title.isEmpty() && titles < maxTitles) {
+                titleKey = title + TITLE + item.id();
+                tree.put(titleKey, new Suggestion(Type.PRODUCT, item.title().strip(), item.id()), weight);
+                titles++;
+            }
+            String brand = key(item.brand());
+            String brandKey = brand.isEmpty() ? null
+                    : join(brand + BRAND, new Suggestion(Type.BRAND, item.brand().strip(), null), weight);
+            String category = key(item.categoryName());
+            String categoryKey = category.isEmpty() ? null
+                    : join(category + CATEGORY + item.categoryId(),
+                    new Suggestion(Type.CATEGORY, item.categoryName().strip(), item.categoryId()), weight);
+            products.put(item.id(), new Indexed(item, titleKey, brandKey, categoryKey));
+        }
+
+        void remove(Long productId) {
+            Indexed previous = products.remove(productId);
+            if (previous == null) {
+                return;
+            }
+            long weight = weight(previous.item());
+            if (previous.titleKey() != null) {
+                tree.remove(previous.titleKey());
+                titles--;
+            }
+            leave(previous.brandKey(), weight);
+            leave(previous.categoryKey(), weight);
+        }
+
+        void addFavorites(Long productId, int delta) {
+            Indexed indexed = products.get(productId);
+            if (indexed != null) {
+                Item item = indexed.item();
+                put(new Item(item.id(), item.title(), item.brand(), item.categoryId(), item.categoryName(),
+                        item.views(), Math.max(0, item.favorites() + delta)));
+            }
+        }
+
+        long favorites(Long productId) {
+            Indexed indexed = products.get(productId);
+            return indexed != null ? indexed.item().favorites() : 0;
+        }
+
+        private String join(String key, Suggestion suggestion, long weight) {
+            Group group = groups.computeIfAbsent(key, k -> new Group(suggestion));
+            group.products++;
+            group.weight += weight;
+            tree.put(key, group.suggestion, group.weight);
+            return key;
+        }
+
+        private void leave(String key, long weight) {
+            if (key == null) {
+                return;
+            }
+            Group group = groups.get(key);
+            group.products--;
+            group.weight -= weight;
+            if (group.products == 0) {
+                groups.remove(key);
+                tree.remove(key);
+            } else {
+                tree.put(key, group.suggestion, group.weight);
+            }
+        }
+    }
+
+    private record Item(Long id, String title, String brand, Long categoryId, String categoryName,
+                        long views, long favorites) {
+    }
+
+    /**
+     * Produit indexé et clés de ses entrées (titre absent au-delà du plafond)
+     */
+    private record Indexed(Item item, String titleKey, String brandKey, String categoryKey) {
+    }
+
+    private record Suggestion(Type type, String text, Long id) {
+    }
+
+    /**
+     * Marque ou catégorie : libellé du premier produit rencontré, nombre et poids cumulé de ses produits
+     */
+    private static final class Group {
+        private final Suggestion suggestion;
+        private int products;
+        private long weight;
+
+        private Group(Suggestion suggestion) {
+            this.suggestion = suggestion;
+        }
+    }
+}
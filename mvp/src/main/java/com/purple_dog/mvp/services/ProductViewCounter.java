@@ -0,0 +1,176 @@
+package com.purple_dog.mvp.services;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteur de vues des fiches produit, hors du chemin de lecture.
+ * Chaque vue incrémente un LongAdder par produit (sans verrou ni accès base) ; les vues répétées d'un même
+ * visiteur sur un même produit ne comptent qu'une fois par fenêtre.
+ * Un thread unique reporte les deltas (vues comptées - part déjà reportée) dans products.view_count
+ * par un UPDATE en lot, toutes les quelques secondes. Les compteurs ne sont jamais remis à zéro :
+ * une vue comptée pendant un report part simplement au report suivant.
+ * Le nombre exposé est la valeur en base plus le delta non encore reporté.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductViewCounter {
+
+    private static final String ADD_VIEWS = "UPDATE products SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${products.views.enabled:true}")
+    private boolean enabled;
+
+    @Value("${products.views.flush-ms:5000}")
+    private long flushMs;
+
+    @Value("${products.views.dedupe-seconds:300}")
+    private long dedupeSeconds;
+
+    // Produit -> vues comptées par cette instance depuis son démarrage, et part déjà reportée en base
+    private final Map<Long, Views> views = new ConcurrentHashMap<>();
+    // (produit, visiteur) -> instant de la dernière vue comptée
+    private final Map<Viewer, Long> lastViews = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Product view counter disabled");
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "product-views");
+            t.setDaemon(true);
+            return t;
+        });
+        flusher.scheduleWithFixedDelay(() -> flush(System.currentTimeMillis()), flushMs, flushMs, TimeUnit.MILLISECONDS);
+        log.info("Product view counter started (flush every {} ms, repeat views ignored for {} s)", flushMs, dedupeSeconds);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        flusher.awaitTermination(flushMs, TimeUnit.MILLISECONDS);
+        flush(System.currentTimeMillis());
+    }
+
+    /**
+     * Compte une vue du produit, sauf si le même visiteur l'a déjà vu dans la fenêtre.
+     * Ne fait qu'enregistrer en mémoire : sans accès base.
+     *
+     * @return true si la vue a été comptée
+     */
+    public boolean record(Long productId, String viewer) {
+        return record(productId, viewer, System.currentTimeMillis());
+    }
+
+    boolean record(Long productId, String viewer, long now) {
+        if (!enabled) {
+            return false;
+        }
+        if (viewer != null) {
+            long windowMs = TimeUnit.SECONDS.toMillis(dedupeSeconds);
+            boolean[] counted = {false};
+            lastViews.compute(new Viewer(productId, viewer), (k, last) -> {
+                if (last != null && now - last < windowMs) {
+                    return last;
+                }
+                counted[0] = true;
+                return now;
+            });
+            if (!counted[0]) {
+                return false;
+            }
+        }
+        views.computeIfAbsent(productId, id -> new Views()).recorded.increment();
+        return true;
+    }
+
+    /**
+     * Vues comptées mais pas encore reportées en base
+     */
+    public long pending(Long productId) {
+        Views counts = views.get(productId);
+        return counts != null ? counts.recorded.sum() - counts.flushed : 0;
+    }
+
+    /**
+     * Vues comptées par cette instance depuis son démarrage (croissant, reportées ou non)
+     */
+    public long recorded(Long productId) {
+        Views counts = views.get(productId);
+        return counts != null ? counts.recorded.sum() : 0;
+    }
+
+    /**
+     * Oublie les compteurs d'un produit supprimé
+     */
+    public void forget(Long productId) {
+        views.remove(productId);
+    }
+
+    /**
+     * Tick : reporte les deltas en un lot et oublie les visiteurs dont la fenêtre est écoulée.
+     * Exécuté sur le thread product-views (et à l'arrêt).
+     */
+    void flush(long now) {
+        long windowMs = TimeUnit.SECONDS.toMillis(dedupeSeconds);
+        lastViews.values().removeIf(last -> now - last >= windowMs);
+
+        List<Delta> deltas = new ArrayList<>();
+        views.forEach((productId, counts) -> {
+            long recorded = counts.recorded.sum();
+            if (recorded > counts.flushed) {
+                deltas.add(new Delta(productId, counts, recorded));
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // Lignes mises à jour dans l'ordre des ids : deux instances qui reportent en même temps ne s'interbloquent pas
+        deltas.sort(Comparator.comparing(Delta::productId));
+        try {
+            jdbcTemplate.batchUpdate(ADD_VIEWS, deltas.stream()
+                    .map(d -> new Object[]{d.recorded() - d.counts().flushed, d.productId()})
+                    .toList());
+            // Seul ce thread avance la part reportée ; en cas d'échec, le delta repart au prochain tick
+            deltas.forEach(d -> d.counts().flushed = d.recorded());
+        } catch (RuntimeException e) {
+            log.error("Failed to flush views of {} products: {}", deltas.size(), e.getMessage(), e);
+        }
+    }
+
+    private static class Views {
+        private final LongAdder recorded = new LongAdder();
+        private volatile long flushed;
+    }
+
+    private record Delta(Long productId, Views counts, long recorded) {
+    }
+
+    private record Viewer(Long productId, String viewer) {
+    }
+}
@@ -6,6 +6,7 @@ import com.purple_dog.mvp.dao.QuickSaleRepository;
 import com.purple_dog.mvp.dto.QuickSaleCreateDTO;
 import com.purple_dog.mvp.dto.QuickSaleResponseDTO;
 import com.purple_dog.mvp.dto.QuickSaleUpdateDTO;
+import com.purple_dog.mvp.entities.Money;
 import com.purple_dog.mvp.entities.Person;
 import com.purple_dog.mvp.entities.Product;
 import com.purple_dog.mvp.entities.QuickSale;
@@ -31,6 +32,7 @@ public class QuickSaleService {
     private final QuickSaleRepository quickSaleRepository;
     private final OfferRepository offerRepository;
     private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
 
     /**
      * Créer une vente rapide
@@ -53,14 +55,15 @@ public class QuickSaleService {
 
         QuickSale quickSale = QuickSale.builder()
                 .product(product)
-                .fixedPrice(dto.getFixedPrice())
+                .fixedPrice(Money.of(dto.getFixedPrice()))
                 .acceptOffers(dto.getAcceptOffers() != null ? dto.getAcceptOffers() : true)
-                .minimumOfferPrice(dto.getMinimumOfferPrice())
+                .minimumOfferPrice(Money.ofNullable(dto.getMinimumOfferPrice()))
                 .isAvailable(true)
                 .createdAt(LocalDateTime.now())
                 .build();
 
         quickSale = quickSaleRepository.save(quickSale);
+        productDetailCache.invalidate(product.getId());
         log.info("Quick sale created successfully with id: {}", quickSale.getId());
 
         return mapToResponseDTO(quickSale);
@@ -118,7 +121,7 @@ public class QuickSaleService {
     public List<QuickSaleResponseDTO> getQuickSalesByMaxPrice(BigDecimal maxPrice) {
         log.info("Fetching quick sales with max price: {}", maxPrice);
 
-        return quickSaleRepository.findAvailableByMaxPrice(maxPrice).stream()
+        return quickSaleRepository.findAvailableByMaxPrice(Money.of(maxPrice)).stream()
                 .map(this::mapToResponseDTO)
                 .collect(Collectors.toList());
     }
@@ -148,7 +151,7 @@ public class QuickSaleService {
         }
 
         if (dto.getFixedPrice() != null) {
-            quickSale.setFixedPrice(dto.getFixedPrice());
+            quickSale.setFixedPrice(Money.of(dto.getFixedPrice()));
         }
 
         if (dto.getAcceptOffers() != null) {
@@ -156,10 +159,11 @@ public class QuickSaleService {
         }
 
         if (dto.getMinimumOfferPrice() != null) {
-            if (dto.getMinimumOfferPrice().compareTo(quickSale.getFixedPrice()) >= 0) {
+            Money minimumOfferPrice = Money.of(dto.getMinimumOfferPrice());
+            if (minimumOfferPrice.compareTo(quickSale.getFixedPrice()) >= 0) {
                 throw new InvalidOperationException("Minimum offer price must be less than fixed price");
             }
-            quickSale.setMinimumOfferPrice(dto.getMinimumOfferPrice());
+            quickSale.setMinimumOfferPrice(minimumOfferPrice);
         }
 
         if (dto.getIsAvailable() != null) {
@@ -167,6 +171,7 @@ public class QuickSaleService {
         }
 
         quickSale = quickSaleRepository.save(quickSale);
+        productDetailCache.invalidate(quickSale.getProduct().getId());
         log.info("Quick sale updated successfully");
 
         return mapToResponseDTO(quickSale);
@@ -189,6 +194,7 @@ public class QuickSaleService {
         quickSale.setSoldAt(LocalDateTime.now());
 
         quickSale = quickSaleRepository.save(quickSale);
+        productDetailCache.invalidate(quickSale.getProduct().getId());
         log.info("Quick sale marked as sold");
 
         return mapToResponseDTO(quickSale);
@@ -208,6 +214,7 @@ public class QuickSaleService {
         }
 
         quickSaleRepository.delete(quickSale);
+        productDetailCache.invalidate(quickSale.getProduct().getId());
         log.info("Quick sale deleted successfully");
     }
 
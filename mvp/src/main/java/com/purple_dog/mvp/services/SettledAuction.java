@@ -0,0 +1,28 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.entities.AuctionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Enchère clôturée en cours de règlement (création de commande, notifications)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SettledAuction {
+
+    private Long auctionId;
+    private AuctionStatus status;
+    private Long winnerId;
+    private Long sellerId;
+    private Long productId;
+    private String productTitle;
+    private BigDecimal finalPrice;
+
+    // Renseigné par l'étape de création de commande (SOLD uniquement)
+    private String orderNumber;
+}
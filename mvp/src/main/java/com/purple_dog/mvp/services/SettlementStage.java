@@ -0,0 +1,123 @@
+package com.purple_dog.mvp.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Étape du pipeline de clôture : file bornée, thread dédié qui traite les éléments par lots.
+ * Un lot en échec est rejoué élément par élément pour isoler l'élément fautif.
+ * Métriques : taille de file, éléments traités, échecs et durée des lots (tag stage).
+ */
+@Slf4j
+class SettlementStage<T> {
+
+    private final String name;
+    private final int batchSize;
+    private final BlockingQueue<T> queue;
+    private final Consumer<List<T>> handler;
+
+    private final Counter processed;
+    private final Counter failures;
+    private final Timer batchTimer;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    SettlementStage(String name, int capacity, int batchSize, Consumer<List<T>> handler, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.handler = handler;
+        Gauge.builder("auction.settlement.queue", queue, BlockingQueue::size)
+                .tag("stage", name)
+                .description("Items waiting in the settlement stage")
+                .register(meterRegistry);
+        this.processed = Counter.builder("auction.settlement.processed")
+                .tag("stage", name)
+                .register(meterRegistry);
+        this.failures = Counter.builder("auction.settlement.failures")
+                .tag("stage", name)
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("auction.settlement.batch")
+                .tag("stage", name)
+                .register(meterRegistry);
+    }
+
+    void start() {
+        running = true;
+        worker = new Thread(this::run, "settlement-" + name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void stop(long timeoutMs) throws InterruptedException {
+        running = false;
+        worker.join(timeoutMs);
+    }
+
+    /**
+     * Ajoute des éléments ; bloque si la file est pleine (contre-pression vers l'étape amont)
+     */
+    void submitAll(Collection<T> items) throws InterruptedException {
+        for (T item : items) {
+            queue.put(item);
+        }
+    }
+
+    int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<T> batch) {
+        long start = System.nanoTime();
+        try {
+            handler.accept(batch);
+            processed.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Settlement stage {} failed on a batch of {}, retrying one by one: {}",
+                    name, batch.size(), e.getMessage());
+            for (T item : batch) {
+                try {
+                    handler.accept(List.of(item));
+                    processed.increment();
+                } catch (RuntimeException itemError) {
+                    failures.increment();
+                    log.error("Settlement stage {} dropped {}: {}", name, item, itemError.getMessage(), itemError);
+                }
+            }
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -50,6 +50,7 @@ public class StripeService {
     private final ProductRepository productRepository;
     private final QuickSaleRepository quickSaleRepository;
     private final AuctionRepository auctionRepository;
+    private final ProductDetailCache productDetailCache;
 
     /**
      * Create a payment intent for a user
@@ -755,7 +756,7 @@ public class StripeService {
                 // Fallback: try to find quick sale by seller and productPrice
                 try {
                     if (order.getSeller() != null && order.getProductPrice() != null) {
-                        Optional<QuickSale> maybe = quickSaleRepository.findAvailableBySellerAndPrice(order.getSeller().getId(), order.getProductPrice());
+                        Optional<QuickSale> maybe = quickSaleRepository.findAvailableBySellerAndPrice(order.getSeller().getId(), Money.of(order.getProductPrice()));
                         if (maybe.isPresent()) {
                             QuickSale qs = maybe.get();
                             product = qs.getProduct();
@@ -778,6 +779,7 @@ public class StripeService {
                 product.setStatus(ProductStatus.SOLD);
                 product.setUpdatedAt(LocalDateTime.now());
                 productRepository.save(product);
+                productDetailCache.invalidate(product.getId());
                 log.info("✅ Product {} marked as SOLD after payment confirmation", product.getId());
             } else {
                 log.warn("⚠️ Could not find product for order {} - product is null", order.getId());
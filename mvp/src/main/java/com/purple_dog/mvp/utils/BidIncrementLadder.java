@@ -0,0 +1,46 @@
+package com.purple_dog.mvp.utils;
+
+import com.purple_dog.mvp.entities.Money;
+
+/**
+ * Paliers d'enchère selon le prix actuel
+ * < 100€ → paliers de 10€
+ * 100-500€ → paliers de 50€
+ * 500-1000€ → paliers de 100€
+ * 1000-5000€ → paliers de 200€
+ * > 5000€ → paliers de 500€
+ */
+public final class BidIncrementLadder {
+
+    // Seuils en centimes : comparaisons sur des long
+    private static final long TIER_1 = 100_00;
+    private static final long TIER_2 = 500_00;
+    private static final long TIER_3 = 1000_00;
+    private static final long TIER_4 = 5000_00;
+
+    private static final Money STEP_1 = Money.ofEuros(10);
+    private static final Money STEP_2 = Money.ofEuros(50);
+    private static final Money STEP_3 = Money.ofEuros(100);
+    private static final Money STEP_4 = Money.ofEuros(200);
+    private static final Money STEP_5 = Money.ofEuros(500);
+
+    private BidIncrementLadder() {
+    }
+
+    public static Money incrementFor(Money currentPrice) {
+        // Defensive: treat null as zero to avoid NPEs
+        long price = currentPrice != null ? currentPrice.getCents() : 0;
+
+        if (price < TIER_1) {
+            return STEP_1;
+        } else if (price < TIER_2) {
+            return STEP_2;
+        } else if (price < TIER_3) {
+            return STEP_3;
+        } else if (price < TIER_4) {
+            return STEP_4;
+        } else {
+            return STEP_5;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.purple_dog.mvp.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lecture d'un texte CSV (RFC 4180) : séparateur virgule ou point-virgule (déduit de l'en-tête),
+ * champs entre guillemets pouvant contenir séparateurs et retours à la ligne, guillemets doublés.
+ * Les lignes vides sont ignorées.
+ */
+public final class CsvParser {
+
+    private CsvParser() {
+    }
+
+    /**
+     * Enregistrements du texte, en-tête compris
+     *
+     * @throws IllegalArgumentException si un champ entre guillemets n'est pas refermé
+     */
+    public static List<List<String>> parse(String text) {
+        List<List<String>> records = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return records;
+        }
+        char separator = separator(text);
+        List<String> record = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = text.charAt(0) == '\uFEFF' ? 1 : 0; // BOM
+        while (i < text.length()) {
+            char c = text.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < text.length() && text.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                record.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i < text.length() && text.charAt(i) == '\n') {
+                    i++;
+                }
+                end(records, record, field);
+                record = new ArrayList<>();
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field in record " + (records.size() + 1));
+        }
+        end(records, record, field);
+        return records;
+    }
+
+    private static void end(List<List<String>> records, List<String> record, StringBuilder field) {
+        record.add(field.toString());
+        field.setLength(0);
+        if (record.size() > 1 || !record.get(0).isBlank()) {
+            records.add(record);
+        }
+    }
+
+    /**
+     * Point-virgule (export Excel en français) s'il apparaît avant toute virgule sur la première ligne
+     */
+    private static char separator(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '\n') {
+                return ',';
+            }
+            if (c == ';') {
+                return ';';
+            }
+        }
+        return ',';
+    }
+}
@@ -0,0 +1,38 @@
+package com.purple_dog.mvp.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Curseur opaque de pagination keyset : les clés de tri de la dernière ligne d'une page,
+ * jointes puis encodées en base64 URL. Le client le renvoie tel quel pour la page suivante.
+ */
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private KeysetCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        StringJoiner joined = new StringJoiner(SEPARATOR);
+        for (Object key : keys) {
+            joined.add(String.valueOf(key));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Retourne les clés du curseur ; IllegalArgumentException s'il est illisible ou mal formé
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] keys = decoded.split("\\" + SEPARATOR, -1);
+        if (keys.length != keyCount) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,188 @@
+package com.purple_dog.mvp.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Arbre ternaire de recherche pondéré, pour compléter un préfixe par ses entrées les plus lourdes.
+ * Un nœud par caractère, les clés de même préfixe partageant leurs nœuds ; chaque nœud connaît le poids
+ * maximal de son sous-arbre, ce qui permet de sortir les N meilleures complétions par un parcours
+ * meilleur-d'abord sans visiter les branches trop légères.
+ * Non thread-safe : l'appelant synchronise.
+ */
+public final class PrefixIndex<V> {
+
+    private Node<V> root;
+    private int size;
+    private int nodes;
+
+    /**
+     * Ajoute ou remplace l'entrée de la clé (clé non vide)
+     */
+    public void put(String key, V value, long weight) {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Empty key");
+        }
+        root = put(root, key, 0, value, weight);
+    }
+
+    public void remove(String key) {
+        if (!key.isEmpty()) {
+            root = remove(root, key, 0);
+        }
+    }
+
+    /**
+     * Jusqu'à {@code limit} valeurs dont la clé commence par {@code prefix}, de la plus lourde à la plus légère
+     */
+    public List<V> complete(String prefix, int limit) {
+        List<V> result = new ArrayList<>(Math.max(0, Math.min(limit, size)));
+        if (limit <= 0 || prefix.isEmpty()) {
+            return result;
+        }
+        Node<V> node = find(root, prefix);
+        if (node == null) {
+            return result;
+        }
+        // Candidats ordonnés par borne : poids exact d'une entrée, poids maximal d'un sous-arbre à explorer
+        PriorityQueue<Candidate<V>> queue = new PriorityQueue<>(
+                Comparator.comparingLong(Candidate<V>::bound).reversed());
+        if (node.value != null) {
+            queue.add(new Candidate<>(null, node.value, node.weight));
+        }
+        offer(queue, node.eq);
+        while (!queue.isEmpty() && result.size() < limit) {
+            Candidate<V> candidate = queue.poll();
+            Node<V> n = candidate.node();
+            if (n == null) {
+                result.add(candidate.value());
+                continue;
+            }
+            if (n.value != null) {
+                queue.add(new Candidate<>(null, n.value, n.weight));
+            }
+            offer(queue, n.lo);
+            offer(queue, n.eq);
+            offer(queue, n.hi);
+        }
+        return result;
+    }
+
+    /**
+     * Nombre d'entrées
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Nombre de nœuds (un par caractère non partagé), pour suivre l'empreinte mémoire
+     */
+    public int nodeCount() {
+        return nodes;
+    }
+
+    private static <V> void offer(PriorityQueue<Candidate<V>> queue, Node<V> node) {
+        if (node != null) {
+            queue.add(new Candidate<>(node, null, node.max));
+        }
+    }
+
+    private Node<V> find(Node<V> node, String key) {
+        int i = 0;
+        while (node != null) {
+            char c = key.charAt(i);
+            if (c < node.c) {
+                node = node.lo;
+            } else if (c > node.c) {
+                node = node.hi;
+            } else if (++i == key.length()) {
+                return node;
+            } else {
+                node = node.eq;
+            }
+        }
+        return null;
+    }
+
+    private Node<V> put(Node<V> node, String key, int i, V value, long weight) {
+        char c = key.charAt(i);
+        if (node == null) {
+            node = new Node<>(c);
+            nodes++;
+        }
+        if (c < node.c) {
+            node.lo = put(node.lo, key, i, value, weight);
+        } else if (c > node.c) {
+            node.hi = put(node.hi, key, i, value, weight);
+        } else if (i + 1 < key.length()) {
+            node.eq = put(node.eq, key, i + 1, value, weight);
+        } else {
+            if (node.value == null) {
+                size++;
+            }
+            node.value = value;
+            node.weight = weight;
+        }
+        node.updateMax();
+        return node;
+    }
+
+    private Node<V> remove(Node<V> node, String key, int i) {
+        if (node == null) {
+            return null;
+        }
+        char c = key.charAt(i);
+        if (c < node.c) {
+            node.lo = remove(node.lo, key, i);
+        } else if (c > node.c) {
+            node.hi = remove(node.hi, key, i);
+        } else if (i + 1 < key.length()) {
+            node.eq = remove(node.eq, key, i + 1);
+        } else if (node.value != null) {
+            node.value = null;
+            size--;
+        }
+        // Nœud devenu inutile : sans entrée ni descendant
+        if (node.value == null && node.lo == null && node.eq == null && node.hi == null) {
+            nodes--;
+            return null;
+        }
+        node.updateMax();
+        return node;
+    }
+
+    private static final class Node<V> {
+        private final char c;
+        private Node<V> lo;
+        private Node<V> eq;
+        private Node<V> hi;
+        private V value;
+        private long weight;
+        // Poids maximal des entrées de ce nœud et de ses trois sous-arbres
+        private long max = Long.MIN_VALUE;
+
+        private Node(char c) {
+            this.c = c;
+        }
+
+        private void updateMax() {
+            long m = value != null ? weight : Long.MIN_VALUE;
+            if (lo != null) {
+                m = Math.max(m, lo.max);
+            }
+            if (eq != null) {
+                m = Math.max(m, eq.max);
+            }
+            if (hi != null) {
+                m = Math.max(m, hi.max);
+            }
+            max = m;
+        }
+    }
+
+    private record Candidate<V>(Node<V> node, V value, long bound) {
+    }
+}
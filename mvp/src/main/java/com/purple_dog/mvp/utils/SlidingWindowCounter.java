@@ -0,0 +1,64 @@
+package com.purple_dog.mvp.utils;
+
+import java.util.Arrays;
+
+/**
+ * Compteur d'événements sur une fenêtre glissante (horodatages en millisecondes).
+ * La fenêtre est découpée en cases de durée fixe indexées par numéro de case : une case
+ * réutilisée pour un tour plus récent est remise à zéro, sans tâche de purge.
+ * La fenêtre glisse donc par pas d'une case. Ajout en O(1), comptage en O(nombre de cases).
+ * Thread-safe.
+ */
+public final class SlidingWindowCounter {
+
+    private final long bucketMs;
+    private final long[] counts;
+    // Numéro de case (horodatage / bucketMs) auquel appartient chaque compteur
+    private final long[] epochs;
+
+    private long lastEventMs = Long.MIN_VALUE;
+
+    public SlidingWindowCounter(long windowMs, int bucketCount) {
+        if (windowMs <= 0 || bucketCount <= 0 || windowMs < bucketCount) {
+            throw new IllegalArgumentException("windowMs and bucketCount must be positive, windowMs >= bucketCount");
+        }
+        this.bucketMs = windowMs / bucketCount;
+        this.counts = new long[bucketCount];
+        this.epochs = new long[bucketCount];
+        Arrays.fill(epochs, Long.MIN_VALUE);
+    }
+
+    public synchronized void increment(long nowMs) {
+        long epoch = Math.floorDiv(nowMs, bucketMs);
+        int slot = (int) Math.floorMod(epoch, (long) counts.length);
+        if (epochs[slot] != epoch) {
+            epochs[slot] = epoch;
+            counts[slot] = 0;
+        }
+        counts[slot]++;
+        lastEventMs = Math.max(lastEventMs, nowMs);
+    }
+
+    /**
+     * Nombre d'événements dans la fenêtre qui se termine à nowMs (case courante incluse)
+     */
+    public synchronized long count(long nowMs) {
+        long current = Math.floorDiv(nowMs, bucketMs);
+        long oldest = current - counts.length;
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (epochs[i] > oldest && epochs[i] <= current) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Faux dès qu'aucun événement n'est tombé dans la fenêtre : évite le parcours des cases
+     */
+    public synchronized boolean isActive(long nowMs) {
+        return lastEventMs != Long.MIN_VALUE
+                && Math.floorDiv(lastEventMs, bucketMs) > Math.floorDiv(nowMs, bucketMs) - counts.length;
+    }
+}
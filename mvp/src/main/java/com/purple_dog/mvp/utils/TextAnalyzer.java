@@ -0,0 +1,86 @@
+package com.purple_dog.mvp.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Découpage d'un texte libre (titres, descriptions, requêtes) en termes d'index.
+ * Minuscules, accents et ligatures repliés ("Hermès" -> "hermes", "œuvre" -> "oeuvre"),
+ * mots vides français et anglais écartés, pluriels réduits par une racinisation légère.
+ * Le même découpage est appliqué aux documents et aux requêtes.
+ */
+public final class TextAnalyzer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            // Français
+            "au", "aux", "avec", "ce", "ces", "dans", "de", "des", "du", "elle", "en", "et", "il", "la", "le",
+            "les", "leur", "mais", "ou", "par", "pas", "pour", "qu", "que", "qui", "sa", "se", "ses", "son",
+            "sur", "un", "une", "est", "sont", "tres",
+            // Anglais
+            "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on", "or",
+            "the", "this", "to", "with");
+
+    private TextAnalyzer() {
+    }
+
+    /**
+     * Termes du texte dans l'ordre d'apparition (doublons conservés, pour les fréquences)
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : SEPARATORS.split(normalize(text))) {
+            if (token.isEmpty() || STOP_WORDS.contains(token) || (token.length() < 2 && !isNumber(token))) {
+                continue;
+            }
+            terms.add(stem(token));
+        }
+        return terms;
+    }
+
+    /**
+     * Minuscules, sans accents ni ligatures
+     */
+    public static String normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT).replace("œ", "oe").replace("æ", "ae");
+        return DIACRITICS.matcher(Normalizer.normalize(lower, Normalizer.Form.NFD)).replaceAll("");
+    }
+
+    /**
+     * Racinisation légère commune au français et à l'anglais : seules les marques du pluriel tombent
+     * ("montres" -> "montre", "bijoux" -> "bijou", "watches" -> "watch")
+     */
+    static String stem(String token) {
+        if (token.length() <= 3 || isNumber(token)) {
+            return token;
+        }
+        if (token.endsWith("ches") || token.endsWith("shes") || token.endsWith("sses")) {
+            return token.substring(0, token.length() - 2);
+        }
+        if (token.endsWith("ss") || token.endsWith("us") || token.endsWith("is")) {
+            return token;
+        }
+        if (token.endsWith("s") || token.endsWith("aux") || token.endsWith("eux") || token.endsWith("oux")) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package com.purple_dog.mvp.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Roue temporelle hiérarchique (échéances en millisecondes).
+ * Le premier niveau a une case par tick ; quand une échéance dépasse sa portée, elle est
+ * placée dans un niveau supérieur (créé à la demande, tick = portée du niveau inférieur)
+ * puis redescendue lorsque son tour arrive. Ajout et expiration en O(1) par entrée,
+ * quel que soit le nombre d'échéances en attente.
+ * Une entrée n'est jamais rendue avant son échéance, au plus un tick après.
+ * Non thread-safe : la roue doit être manipulée par un seul thread.
+ */
+public final class TimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final List<List<Entry<K>>> buckets;
+
+    // Début de la case courante, aligné sur tickMs
+    private long currentTime;
+    private TimingWheel<K> overflowWheel;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize greater than 1");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.currentTime = startMs - Math.floorMod(startMs, tickMs);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Programme une échéance. Retourne false si elle est déjà atteinte : l'appelant la traite immédiatement.
+     */
+    public boolean add(K key, long deadlineMs) {
+        // Arrondi au tick supérieur pour ne jamais expirer en avance
+        long expiration = Math.ceilDiv(deadlineMs, tickMs) * tickMs;
+        return insert(new Entry<>(key, expiration));
+    }
+
+    /**
+     * Avance la roue jusqu'à nowMs et transmet les clés échues, dans l'ordre des ticks.
+     */
+    public void advance(long nowMs, Consumer<K> onExpired) {
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            if (overflowWheel != null && currentTime % overflowWheel.tickMs == 0) {
+                overflowWheel.cascade(currentTime, this, onExpired);
+            }
+            drain(bucketFor(currentTime), onExpired);
+        }
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    private boolean insert(Entry<K> entry) {
+        if (entry.expiration <= currentTime) {
+            return false;
+        }
+        if (entry.expiration < currentTime + interval) {
+            bucketFor(entry.expiration).add(entry);
+        } else {
+            if (overflowWheel == null) {
+                overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime);
+            }
+            overflowWheel.insert(entry);
+        }
+        return true;
+    }
+
+    /**
+     * Niveau supérieur : passe à la case commençant à time et redescend son contenu vers lower
+     */
+    private void cascade(long time, TimingWheel<K> lower, Consumer<K> onExpired) {
+        currentTime = time;
+        if (overflowWheel != null && time % overflowWheel.tickMs == 0) {
+            overflowWheel.cascade(time, this, onExpired);
+        }
+        List<Entry<K>> bucket = bucketFor(time);
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<K>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<K> entry : entries) {
+            if (!lower.insert(entry)) {
+                onExpired.accept(entry.key);
+            }
+        }
+    }
+
+    private void drain(List<Entry<K>> bucket, Consumer<K> onExpired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Entry<K>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<K> entry : entries) {
+            onExpired.accept(entry.key);
+        }
+    }
+
+    private List<Entry<K>> bucketFor(long expiration) {
+        return buckets.get((int) Math.floorMod(expiration / tickMs, (long) wheelSize));
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private final long expiration;
+
+        private Entry(K key, long expiration) {
+            this.key = key;
+            this.expiration = expiration;
+        }
+    }
+}
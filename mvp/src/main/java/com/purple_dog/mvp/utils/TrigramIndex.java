@@ -0,0 +1,82 @@
+package com.purple_dog.mvp.utils;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dictionnaire de mots indexé par trigrammes, pour retrouver les mots proches d'un mot mal orthographié.
+ * Un mot est découpé comme dans pg_trgm (deux espaces devant, une derrière : "sac" -> "  s", " sa", "sac", "ac ")
+ * et la similarité de deux mots est le rapport trigrammes communs / trigrammes distincts des deux (Jaccard).
+ * Seuls les mots partageant au moins un trigramme avec la requête sont examinés.
+ * Non thread-safe : l'appelant synchronise.
+ */
+public final class TrigramIndex {
+
+    // Trigramme -> mots qui le contiennent
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    // Mot -> nombre de trigrammes distincts
+    private final Map<String, Integer> words = new HashMap<>();
+
+    public void add(String word) {
+        if (words.containsKey(word)) {
+            return;
+        }
+        Set<String> grams = trigrams(word);
+        words.put(word, grams.size());
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(word);
+        }
+    }
+
+    public void remove(String word) {
+        if (words.remove(word) == null) {
+            return;
+        }
+        for (String gram : trigrams(word)) {
+            Set<String> list = postings.get(gram);
+            if (list != null && list.remove(word) && list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Mots du dictionnaire dont la similarité avec {@code word} atteint le seuil, avec leur similarité
+     */
+    public Map<String, Double> similar(String word, double threshold) {
+        Set<String> grams = trigrams(word);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : grams) {
+            Set<String> list = postings.get(gram);
+            if (list != null) {
+                for (String candidate : list) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+        Map<String, Double> result = new HashMap<>();
+        shared.forEach((candidate, common) -> {
+            double similarity = (double) common / (grams.size() + words.get(candidate) - common);
+            if (similarity >= threshold) {
+                result.put(candidate, similarity);
+            }
+        });
+        return result;
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    static Set<String> trigrams(String word) {
+        String padded = "  " + word + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+}
@@ -2,14 +2,19 @@ package com.purple_dog.mvp.web.rest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.purple_dog.mvp.dto.AuctionDTO;
+import com.purple_dog.mvp.dto.AuctionFeedItemDTO;
 import com.purple_dog.mvp.dto.AuctionResponse;
 import com.purple_dog.mvp.dto.CreateAuctionRequest;
 import com.purple_dog.mvp.exceptions.AuctionException;
 import com.purple_dog.mvp.services.AuctionService;
+import com.purple_dog.mvp.services.AuctionStreamService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,6 +25,10 @@ import java.util.List;
 public class AuctionController {
 
     private final AuctionService auctionService;
+    private final AuctionStreamService auctionStreamService;
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final long MAX_FEED_HORIZON_MINUTES = 7 * 24 * 60;
 
     /**
      * Récupère toutes les enchères
@@ -46,6 +55,21 @@ public class AuctionController {
         }
     }
 
+    /**
+     * Flux temps réel d'une enchère (prix, meneur, prolongation, statut) en Server-Sent Events
+     * GET /api/auctions/{id}/stream
+     */
+    @GetMapping(value = "/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamAuction(@PathVariable Long id) {
+        try {
+            SseEmitter emitter = auctionStreamService.subscribe(id, () -> auctionService.getAuctionUpdate(id));
+            return ResponseEntity.ok(emitter);
+        } catch (AuctionException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body("Error: " + e.getMessage());
+        }
+    }
+
     /**
      * Récupère toutes les enchères actives
      * GET /api/auctions/active
@@ -56,6 +80,30 @@ public class AuctionController {
         return ResponseEntity.ok(activeAuctions);
     }
 
+    /**
+     * Enchères se terminant dans les prochaines minutes, de la plus proche à la plus lointaine
+     * GET /api/auctions/ending-soon?withinMinutes=60&page=0&size=20
+     */
+    @GetMapping("/ending-soon")
+    public ResponseEntity<Page<AuctionFeedItemDTO>> getEndingSoonAuctions(
+            @RequestParam(defaultValue = "60") long withinMinutes,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        long within = Math.min(Math.max(withinMinutes, 1), MAX_FEED_HORIZON_MINUTES);
+        return ResponseEntity.ok(auctionService.getEndingSoonAuctions(within, Math.max(page, 0), feedPageSize(size)));
+    }
+
+    /**
+     * Enchères ayant reçu le plus d'enchères sur les dernières minutes
+     * GET /api/auctions/hot?page=0&size=20
+     */
+    @GetMapping("/hot")
+    public ResponseEntity<Page<AuctionFeedItemDTO>> getHotAuctions(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(auctionService.getHotAuctions(Math.max(page, 0), feedPageSize(size)));
+    }
+
     /**
      * Récupère toutes les enchères clôturées
      * GET /api/auctions/closed
@@ -153,4 +201,8 @@ public class AuctionController {
                     .body("Error: " + e.getMessage());
         }
     }
+
+    private static int feedPageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE);
+    }
 }
@@ -2,18 +2,24 @@ package com.purple_dog.mvp.web.rest;
 
 import com.purple_dog.mvp.dto.BidResponse;
 import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.Money;
 import com.purple_dog.mvp.exceptions.BidException;
+import com.purple_dog.mvp.dto.BidContentionDTO;
+import com.purple_dog.mvp.dto.BidEventDTO;
+import com.purple_dog.mvp.services.BidContentionMetrics;
+import com.purple_dog.mvp.services.BidJournal;
+import com.purple_dog.mvp.services.BidRateLimiter;
 import com.purple_dog.mvp.services.BidService;
 import com.purple_dog.mvp.dao.PersonRepository;
 import com.purple_dog.mvp.entities.Person;
 import com.purple_dog.mvp.entities.UserRole;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
-import java.math.BigDecimal;
 import java.security.Principal;
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +34,9 @@ public class BidController {
 
     private final BidService bidService;
     private final PersonRepository personRepository;
+    private final BidContentionMetrics bidContentionMetrics;
+    private final BidJournal bidJournal;
+    private final BidRateLimiter bidRateLimiter;
 
     /**
      * Place une enchère sur une auction
@@ -37,21 +46,30 @@ public class BidController {
     public ResponseEntity<?> placeBid(@RequestBody PlaceBidRequest request, Principal principal) {
         try {
             log.info("POST /bids called - auctionId={}, bidderId(incoming)={}, principal={}", request.getAuctionId(), request.getBidderId(), principal==null?"null":principal.getName());
-            // If bidderId not provided, attempt to resolve from authenticated user
-            if (request.getBidderId() == null) {
-                if (principal == null) {
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Authentication required to place a bid");
-                }
-                String username = principal.getName();
-                Optional<Person> personOpt = personRepository.findByEmail(username);
-                if (personOpt.isEmpty()) {
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Authenticated user not found");
-                }
-                Person p = personOpt.get();
-                if (p.getRole() == null || p.getRole() != UserRole.PROFESSIONAL) {
-                    return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only professionals can place bids");
-                }
-                request.setBidderId(p.getId());
+            // L'enchérisseur est toujours l'utilisateur authentifié : un bidderId fourni dans le corps
+            // doit le désigner (sinon un script pourrait contourner la limitation en changeant d'id)
+            if (principal == null) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Authentication required to place a bid");
+            }
+            Optional<Person> personOpt = personRepository.findByEmail(principal.getName());
+            if (personOpt.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Authenticated user not found");
+            }
+            Person p = personOpt.get();
+            if (p.getRole() == null || p.getRole() != UserRole.PROFESSIONAL) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Only professionals can place bids");
+            }
+            if (request.getBidderId() != null && !request.getBidderId().equals(p.getId())) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Bids can only be placed for the authenticated user");
+            }
+            request.setBidderId(p.getId());
+
+            // Limitation de débit avant tout accès base du BidService, par utilisateur authentifié
+            long retryAfterMs = bidRateLimiter.tryAcquire(p.getId(), request.getAuctionId());
+            if (retryAfterMs > 0) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMs + 999) / 1000))
+                        .body("Too many bids, retry in " + retryAfterMs + " ms");
             }
 
             BidResponse response = bidService.placeBid(request);
@@ -70,6 +88,31 @@ public class BidController {
         return ResponseEntity.ok(bidService.getAuctionBids(auctionId));
     }
 
+    /**
+     * Historique paginé d'une auction (montant décroissant), par curseur
+     * GET /api/bids/auction/{auctionId}/history?cursor=...&size=50
+     */
+    @GetMapping("/auction/{auctionId}/history")
+    public ResponseEntity<?> getAuctionBidHistory(
+            @PathVariable Long auctionId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(bidService.getAuctionBidHistory(auctionId, cursor, size));
+        } catch (BidException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Journal des enchères d'une auction (placements, contre-enchères, prolongations, clôture)
+     * GET /api/bids/auction/{auctionId}/events
+     */
+    @GetMapping("/auction/{auctionId}/events")
+    public ResponseEntity<List<BidEventDTO>> getAuctionEvents(@PathVariable Long auctionId) {
+        return ResponseEntity.ok(bidJournal.getEvents(auctionId));
+    }
+
     /**
      * Récupère toutes les enchères d'un professionnel
      * GET /api/bids/bidder/{bidderId}
@@ -79,6 +122,22 @@ public class BidController {
         return ResponseEntity.ok(bidService.getBidderBids(bidderId));
     }
 
+    /**
+     * Activité paginée d'un professionnel (plus récentes d'abord), par curseur
+     * GET /api/bids/bidder/{bidderId}/activity?cursor=...&size=50
+     */
+    @GetMapping("/bidder/{bidderId}/activity")
+    public ResponseEntity<?> getBidderActivity(
+            @PathVariable Long bidderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(bidService.getBidderActivity(bidderId, cursor, size));
+        } catch (BidException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Récupère l'enchère gagnante actuelle d'une auction
      * GET /api/bids/auction/{auctionId}/winning
@@ -97,11 +156,29 @@ public class BidController {
      * GET /api/bids/auction/{auctionId}/next-amount
      */
     @GetMapping("/auction/{auctionId}/next-amount")
-    public ResponseEntity<BigDecimal> getNextBidAmount(@PathVariable Long auctionId) {
+    public ResponseEntity<Money> getNextBidAmount(@PathVariable Long auctionId) {
         try {
             return ResponseEntity.ok(bidService.getNextBidAmount(auctionId));
         } catch (BidException e) {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    /**
+     * Auctions les plus disputées (conflits, nouvelles tentatives, abandons)
+     * GET /api/bids/contention?limit=20
+     */
+    @GetMapping("/contention")
+    public ResponseEntity<List<BidContentionDTO>> getTopContended(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(bidContentionMetrics.getTopContended(Math.max(1, limit)));
+    }
+
+    /**
+     * Statistiques de contention d'une auction
+     * GET /api/bids/contention/{auctionId}
+     */
+    @GetMapping("/contention/{auctionId}")
+    public ResponseEntity<BidContentionDTO> getAuctionContention(@PathVariable Long auctionId) {
+        return ResponseEntity.ok(bidContentionMetrics.getAuctionStats(auctionId));
+    }
 }
@@ -1,19 +1,32 @@
 package com.purple_dog.mvp.web.rest;
 
+import com.purple_dog.mvp.dao.PersonRepository;
 import com.purple_dog.mvp.dto.ProductCreateRequest;
 import com.purple_dog.mvp.dto.ProductResponse;
 import com.purple_dog.mvp.dto.ProductSearchRequest;
+import com.purple_dog.mvp.dto.ProductSort;
+import com.purple_dog.mvp.dto.ProductSuggestionDTO;
+import com.purple_dog.mvp.entities.Person;
 import com.purple_dog.mvp.entities.ProductStatus;
+import com.purple_dog.mvp.entities.UserRole;
 import com.purple_dog.mvp.exceptions.ProductException;
+import com.purple_dog.mvp.services.ProductImportService;
 import com.purple_dog.mvp.services.ProductService;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.security.Principal;
 import java.util.List;
 
 @Tag(name = "Product Management", description = "APIs for managing products")
@@ -23,6 +36,9 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final ObjectMapper objectMapper;
+    private final PersonRepository personRepository;
 
     @PostMapping
     public ResponseEntity<?> createProduct(@RequestBody ProductCreateRequest request) {
@@ -34,6 +50,34 @@ public class ProductController {
         }
     }
 
+    /**
+     * Import en masse (tableau JSON) : progression renvoyée en NDJSON au fil de l'import
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('PROFESSIONAL', 'ADMIN')")
+    public ResponseEntity<?> importProducts(@RequestBody List<ProductCreateRequest> requests, Principal principal) {
+        try {
+            Person importer = importer(principal);
+            return streamImport(productImportService.fromJson(requests), importer);
+        } catch (ProductException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Import en masse (CSV avec en-tête) : progression renvoyée en NDJSON au fil de l'import
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('PROFESSIONAL', 'ADMIN')")
+    public ResponseEntity<?> importProductsCsv(@RequestBody String csv, Principal principal) {
+        try {
+            Person importer = importer(principal);
+            return streamImport(productImportService.fromCsv(csv), importer);
+        } catch (ProductException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updateProduct(
             @PathVariable Long id,
@@ -57,33 +101,56 @@ public class ProductController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<?> getProduct(@PathVariable Long id) {
+    public ResponseEntity<?> getProduct(@PathVariable Long id, Principal principal, HttpServletRequest request) {
         try {
-            return ResponseEntity.ok(productService.getProduct(id));
+            String viewer = principal != null ? principal.getName() : request.getRemoteAddr();
+            return ResponseEntity.ok(productService.viewProduct(id, viewer));
         } catch (ProductException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
 
     @GetMapping("/seller/{sellerId}")
-    public ResponseEntity<List<ProductResponse>> getBySeller(
+    public ResponseEntity<?> getBySeller(
             @PathVariable Long sellerId,
-            @RequestParam(name = "status", required = false) ProductStatus status) {
-        return ResponseEntity.ok(productService.getProductsBySeller(sellerId, status));
+            @RequestParam(name = "status", required = false) ProductStatus status,
+            @RequestParam(name = "sort", required = false) ProductSort sort,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(productService.getProductsBySeller(sellerId, status, sort, cursor, size));
+        } catch (ProductException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<ProductResponse>> search(
+    public ResponseEntity<?> search(
             @RequestParam(value = "q", required = false) String text,
             @RequestParam(value = "categoryId", required = false) Long categoryId,
             @RequestParam(value = "saleType", required = false) com.purple_dog.mvp.entities.SaleType saleType,
             @RequestParam(value = "status", required = false) ProductStatus status,
             @RequestParam(value = "minPrice", required = false) BigDecimal minPrice,
             @RequestParam(value = "maxPrice", required = false) BigDecimal maxPrice,
-            @RequestParam(value = "availableOnly", required = false) Boolean availableOnly) {
+            @RequestParam(value = "availableOnly", required = false) Boolean availableOnly,
+            @RequestParam(value = "fuzzy", required = false) Boolean fuzzy,
+            @RequestParam(value = "sort", required = false) ProductSort sort,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
         ProductSearchRequest req = new ProductSearchRequest(text, categoryId, saleType, status, minPrice, maxPrice,
-                availableOnly);
-        return ResponseEntity.ok(productService.search(req));
+                availableOnly, fuzzy);
+        try {
+            return ResponseEntity.ok(productService.search(req, sort, cursor, size));
+        } catch (ProductException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionDTO>> suggest(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productService.suggest(query, limit));
     }
 
     @PostMapping("/{productId}/favorite")
@@ -110,4 +177,34 @@ public class ProductController {
     public ResponseEntity<List<ProductResponse>> listFavorites(@PathVariable Long userId) {
         return ResponseEntity.ok(productService.listFavorites(userId));
     }
+
+    /**
+     * Utilisateur authentifié à l'origine d'un import
+     */
+    private Person importer(Principal principal) {
+        return personRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new ProductException("Authenticated user not found"));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamImport(List<ProductImportService.ImportRow> rows, Person importer) {
+        // Un professionnel n'importe que ses propres produits, un administrateur ceux de tout professionnel
+        Long ownerId = importer.getRole() == UserRole.ADMIN ? null : importer.getId();
+        StreamingResponseBody body = out -> {
+            // Client parti : l'import continue jusqu'au bout, seuls les événements sont perdus
+            boolean[] connected = {true};
+            productImportService.importRows(rows, ownerId, event -> {
+                if (!connected[0]) {
+                    return;
+                }
+                try {
+                    out.write(objectMapper.writeValueAsBytes(event));
+                    out.write('\n');
+                    out.flush();
+                } catch (IOException e) {
+                    connected[0] = false;
+                }
+            });
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
 }
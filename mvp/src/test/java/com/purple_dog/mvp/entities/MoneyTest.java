@@ -0,0 +1,56 @@
+package com.purple_dog.mvp.entities;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testOf_RoundsToCent() {
+        assertEquals(15000, Money.of(new BigDecimal("150")).getCents());
+        assertEquals(1235, Money.of("12.345").getCents());
+        assertEquals(new BigDecimal("150.00"), Money.ofEuros(150).toBigDecimal());
+        assertEquals("150.00", Money.ofEuros(150).toString());
+    }
+
+    @Test
+    void testArithmetic_ComparesOnCents() {
+        Money price = Money.of("99.99");
+
+        assertEquals(Money.of("109.99"), price.add(Money.ofEuros(10)));
+        assertTrue(price.isLessThan(Money.ofEuros(100)));
+        assertEquals(Money.ofEuros(100), price.max(Money.ofEuros(100)));
+        assertEquals(Money.of("90.00"), Money.ofEuros(100).multiply(new BigDecimal("0.90")));
+        assertEquals(0, Money.of("10.0").compareTo(Money.ofCents(1000)));
+    }
+
+    @Test
+    void testJson_KeepsDecimalShape() throws Exception {
+        PlaceBidRequest request = new PlaceBidRequest(1L, 2L, Money.of("150.00"), null);
+
+        String json = objectMapper.writeValueAsString(request);
+        assertTrue(json.contains("\"amount\":150.00"));
+
+        PlaceBidRequest read = objectMapper.readValue(
+                "{\"auctionId\":1,\"amount\":150.5,\"maxAmount\":\"300\"}", PlaceBidRequest.class);
+        assertEquals(Money.of("150.50"), read.getAmount());
+        assertEquals(Money.ofEuros(300), read.getMaxAmount());
+    }
+
+    @Test
+    void testConverter_RoundTripsNumericColumn() {
+        MoneyConverter converter = new MoneyConverter();
+
+        assertEquals(new BigDecimal("12.30"), converter.convertToDatabaseColumn(Money.of("12.3")));
+        assertEquals(Money.of("12.30"), converter.convertToEntityAttribute(new BigDecimal("12.30")));
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}
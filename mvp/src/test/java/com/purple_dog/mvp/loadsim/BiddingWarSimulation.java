@@ -0,0 +1,409 @@
+package com.purple_dog.mvp.loadsim;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.purple_dog.mvp.config.JwtTokenProvider;
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.BidResponse;
+import com.purple_dog.mvp.dto.CursorPageDTO;
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.AccountStatus;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.ProductStatus;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.entities.UserRole;
+import com.purple_dog.mvp.exceptions.BidException;
+import com.purple_dog.mvp.services.AuctionBook;
+import com.purple_dog.mvp.services.BidJournal;
+import com.purple_dog.mvp.services.BidService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Simulation de guerre d'enchères : l'application complète démarre sur une base H2 embarquée
+ * (mode PostgreSQL), des professionnels enchérissent en parallèle sur quelques auctions en fin de vie,
+ * via BidService.placeBid et via POST /api/bids.
+ * Lancement : mvn -Pload-sim test [-Dloadsim.bidders=64 -Dloadsim.bids-per-bidder=50
+ * -Dloadsim.auctions=2 -Dloadsim.http-share=0.5 -Dloadsim.proxy-share=0.3 -Dbidding.engine.enabled=false]
+ * Rapport : débit, latences p50/p99/p999, acceptées/refusées/limitées, conflits et reprises optimistes,
+ * puis vérification des invariants (un seul gagnant, prix jamais en baisse, totalBids cohérent,
+ * historique paginé complet).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadsim")
+class BiddingWarSimulation {
+
+    @Autowired
+    private BidService bidService;
+
+    @Autowired
+    private BidJournal bidJournal;
+
+    @Autowired
+    private ProfessionalRepository professionalRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${loadsim.bidders:32}")
+    private int bidders;
+
+    @Value("${loadsim.bids-per-bidder:25}")
+    private int bidsPerBidder;
+
+    @Value("${loadsim.auctions:2}")
+    private int auctionCount;
+
+    // Part des placements passant par HTTP (le reste appelle directement BidService)
+    @Value("${loadsim.http-share:0.5}")
+    private double httpShare;
+
+    // Part des placements avec un montant maximum (enchère automatique)
+    @Value("${loadsim.proxy-share:0.3}")
+    private double proxyShare;
+
+    @Value("${bidding.engine.enabled:true}")
+    private boolean engineEnabled;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void biddingWar() throws Exception {
+        Professional seller = professional("seller");
+        List<Long> auctionIds = seedAuctions(seller);
+        List<Professional> professionals = new ArrayList<>(bidders);
+        for (int i = 0; i < bidders; i++) {
+            professionals.add(professional("bidder-" + i));
+        }
+
+        Outcomes outcomes = new Outcomes();
+        long[][] latencies = new long[bidders][bidsPerBidder];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(bidders);
+        List<Future<?>> runs = new ArrayList<>(bidders);
+        for (int i = 0; i < bidders; i++) {
+            Professional bidder = professionals.get(i);
+            String token = token(bidder);
+            long[] samples = latencies[i];
+            runs.add(pool.submit(() -> {
+                start.await();
+                for (int n = 0; n < bidsPerBidder; n++) {
+                    Long auctionId = auctionIds.get(ThreadLocalRandom.current().nextInt(auctionIds.size()));
+                    long begin = System.nanoTime();
+                    outcomes.record(ThreadLocalRandom.current().nextDouble() < httpShare
+                            ? placeOverHttp(bidder.getId(), auctionId, token)
+                            : placeDirect(bidder.getId(), auctionId));
+                    samples[n] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> run : runs) {
+            run.get(10, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - begin;
+        pool.shutdown();
+
+        List<String> violations = new ArrayList<>();
+        for (Long auctionId : auctionIds) {
+            violations.addAll(checkInvariants(auctionId));
+        }
+        long acceptedInDb = auctionIds.stream()
+                .mapToLong(id -> auctionRepository.findById(id).orElseThrow().getTotalBids())
+                .sum();
+        if (acceptedInDb != outcomes.accepted.get()) {
+            violations.add("totalBids drift: " + acceptedInDb + " in database, "
+                    + outcomes.accepted.get() + " acknowledged to bidders");
+        }
+
+        report(outcomes, latencies, elapsed, violations);
+        assertTrue(violations.isEmpty(), "Invariant violations: " + violations);
+    }
+
+    private Outcome placeDirect(Long bidderId, Long auctionId) {
+        try {
+            bidService.placeBid(request(bidderId, auctionId));
+            return Outcome.ACCEPTED;
+        } catch (BidException e) {
+            return Outcome.REJECTED;
+        } catch (RuntimeException e) {
+            return Outcome.ERROR;
+        }
+    }
+
+    private Outcome placeOverHttp(Long bidderId, Long auctionId, String token) {
+        try {
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/bids"))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            objectMapper.writeValueAsString(request(bidderId, auctionId))))
+                    .build();
+            int status = httpClient.send(httpRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return switch (status) {
+                case 201 -> Outcome.ACCEPTED;
+                case 400 -> Outcome.REJECTED;
+                case 429 -> Outcome.THROTTLED;
+                default -> Outcome.ERROR;
+            };
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Outcome.ERROR;
+        } catch (Exception e) {
+            return Outcome.ERROR;
+        }
+    }
+
+    /**
+     * Enchère au minimum lu juste avant : les placements concurrents la rendent souvent obsolète
+     */
+    private PlaceBidRequest request(Long bidderId, Long auctionId) {
+        Money amount = bidService.getNextBidAmount(auctionId);
+        Money maxAmount = null;
+        if (ThreadLocalRandom.current().nextDouble() < proxyShare) {
+            maxAmount = amount.add(Money.ofEuros(ThreadLocalRandom.current().nextInt(1, 20) * 50L));
+        }
+        return new PlaceBidRequest(auctionId, bidderId, amount, maxAmount);
+    }
+
+    /**
+     * Invariants d'une auction après la simulation, lus directement en base
+     */
+    private List<String> checkInvariants(Long auctionId) {
+        List<String> violations = new ArrayList<>();
+        Map<String, Object> auction = jdbcTemplate.queryForMap(
+                "SELECT current_price, total_bids, winner_id, winning_bid_id, journal_sequence FROM auctions WHERE id = ?",
+                auctionId);
+        BigDecimal currentPrice = (BigDecimal) auction.get("current_price");
+
+        // Prix jamais en baisse : chaque enchère gagnante dépasse la précédente
+        List<BigDecimal> winningAmounts = jdbcTemplate.queryForList(
+                "SELECT amount FROM bids WHERE auction_id = ? AND is_winning = TRUE ORDER BY id",
+                BigDecimal.class, auctionId);
+        for (int i = 1; i < winningAmounts.size(); i++) {
+            if (winningAmounts.get(i).compareTo(winningAmounts.get(i - 1)) <= 0) {
+                violations.add("auction " + auctionId + ": price went backwards from "
+                        + winningAmounts.get(i - 1) + " to " + winningAmounts.get(i));
+            }
+        }
+        if (!winningAmounts.isEmpty() && winningAmounts.get(winningAmounts.size() - 1).compareTo(currentPrice) != 0) {
+            violations.add("auction " + auctionId + ": current price " + currentPrice
+                    + " differs from last winning bid " + winningAmounts.get(winningAmounts.size() - 1));
+        }
+
+        // Un seul gagnant : un enchérisseur au prix courant, qui est celui de l'auction et du pointeur
+        List<Long> leaders = jdbcTemplate.queryForList(
+                "SELECT DISTINCT bidder_id FROM bids WHERE auction_id = ? AND is_winning = TRUE AND amount = ?",
+                Long.class, auctionId, currentPrice);
+        if (leaders.size() > 1) {
+            violations.add("auction " + auctionId + ": two winners " + leaders + " at " + currentPrice);
+        }
+        Object winningBidId = auction.get("winning_bid_id");
+        if (winningBidId != null) {
+            Long pointed = jdbcTemplate.queryForObject(
+                    "SELECT bidder_id FROM bids WHERE id = ?", Long.class, winningBidId);
+            Long winnerId = auction.get("winner_id") != null ? ((Number) auction.get("winner_id")).longValue() : null;
+            if (!pointed.equals(winnerId)) {
+                violations.add("auction " + auctionId + ": winner " + winnerId
+                        + " differs from winning bid bidder " + pointed);
+            }
+        }
+
+        // totalBids : une unité par enchère manuelle, les contre-enchères automatiques exclues
+        int totalBids = ((Number) auction.get("total_bids")).intValue();
+        Integer manualBids = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bids WHERE auction_id = ? AND is_auto_bid = FALSE", Integer.class, auctionId);
+        if (manualBids == null || manualBids != totalBids) {
+            violations.add("auction " + auctionId + ": totalBids " + totalBids + " but " + manualBids + " manual bids");
+        }
+
+        // Le journal rejoué doit retrouver l'état de l'auction
+        long sequence = ((Number) auction.get("journal_sequence")).longValue();
+        Optional<AuctionBook> rebuilt = bidJournal.rebuild(auctionId, sequence);
+        if (rebuilt.isEmpty()) {
+            violations.add("auction " + auctionId + ": journal incomplete at sequence " + sequence);
+        } else if (rebuilt.get().getCurrentPrice().toBigDecimal().compareTo(currentPrice) != 0
+                || rebuilt.get().getTotalBids() != totalBids) {
+            violations.add("auction " + auctionId + ": journal replay " + rebuilt.get().getCurrentPrice()
+                    + "/" + rebuilt.get().getTotalBids() + " differs from " + currentPrice + "/" + totalBids);
+        }
+
+        // L'historique paginé par curseur doit parcourir toutes les enchères, dans l'ordre, sans doublon
+        List<Long> expected = jdbcTemplate.queryForList(
+                "SELECT id FROM bids WHERE auction_id = ? ORDER BY amount DESC, id DESC", Long.class, auctionId);
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDTO<BidResponse> page = bidService.getAuctionBidHistory(auctionId, cursor, 37);
+            page.getItems().forEach(bid -> paged.add(bid.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        if (!paged.equals(expected)) {
+            violations.add("auction " + auctionId + ": paged history has " + paged.size()
+                    + " bids, expected " + expected.size());
+        }
+        return violations;
+    }
+
+    private void report(Outcomes outcomes, long[][] latencies, long elapsedNanos, List<String> violations) {
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n=== Bidding war: %d bidders x %d bids on %d auctions (%s, %.0f%% over HTTP) ===%n",
+                bidders, bidsPerBidder, auctionCount, engineEnabled ? "engine" : "optimistic", httpShare * 100);
+        System.out.printf("elapsed      %.2f s, %.0f placements/s, %.0f accepted/s%n",
+                seconds, all.length / seconds, outcomes.accepted.get() / seconds);
+        System.out.printf("latency      p50 %.2f ms, p99 %.2f ms, p999 %.2f ms, max %.2f ms%n",
+                millis(percentile(all, 0.50)), millis(percentile(all, 0.99)),
+                millis(percentile(all, 0.999)), millis(all[all.length - 1]));
+        System.out.printf("outcomes     accepted %d, rejected %d, throttled %d, errors %d%n",
+                outcomes.accepted.get(), outcomes.rejected.get(), outcomes.throttled.get(), outcomes.errors.get());
+        System.out.printf("contention   conflicts %.0f, retries %.0f, give-ups %.0f%n",
+                counter("bids.contention.conflicts"), counter("bids.contention.retries"),
+                counter("bids.contention.give-ups"));
+        System.out.printf("invariants   %s%n%n", violations.isEmpty() ? "ok" : violations);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private List<Long> seedAuctions(Professional seller) {
+        Category category = new Category();
+        category.setName("Load simulation");
+        category = categoryRepository.save(category);
+
+        List<Long> ids = new ArrayList<>(auctionCount);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < auctionCount; i++) {
+            Product product = new Product();
+            product.setSeller(seller);
+            product.setCategory(category);
+            product.setTitle("Contested lot " + i);
+            product.setDescription("Seeded by the bidding war simulation");
+            product.setProductCondition(ProductCondition.EXCELLENT);
+            product.setSaleType(SaleType.AUCTION);
+            product.setStatus(ProductStatus.ACTIVE);
+            product = productRepository.save(product);
+
+            // Fin dans l'heure : chaque enchère acceptée prolonge l'auction
+            Auction auction = new Auction();
+            auction.setProduct(product);
+            auction.setStartingPrice(Money.ofEuros(100));
+            auction.setCurrentPrice(Money.ofEuros(100));
+            auction.setReservePrice(Money.ofEuros(1000));
+            auction.setStartDate(now.minusDays(1));
+            auction.setEndDate(now.plusMinutes(30));
+            auction.setStatus(AuctionStatus.ACTIVE);
+            auction.setIsAutoExtendEnabled(true);
+            ids.add(auctionRepository.save(auction).getId());
+        }
+        return ids;
+    }
+
+    private Professional professional(String name) {
+        Professional professional = new Professional();
+        professional.setEmail(name + "@loadsim.local");
+        professional.setPassword("{noop}loadsim");
+        professional.setFirstName(name);
+        professional.setLastName("Loadsim");
+        professional.setRole(UserRole.PROFESSIONAL);
+        professional.setAccountStatus(AccountStatus.ACTIVE);
+        professional.setCompanyName(name + " SAS");
+        return professionalRepository.save(professional);
+    }
+
+    private String token(Professional professional) {
+        return jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                professional.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_PROFESSIONAL"))));
+    }
+
+    private enum Outcome {
+        ACCEPTED, REJECTED, THROTTLED, ERROR
+    }
+
+    private static final class Outcomes {
+        private final AtomicLong accepted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong throttled = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+
+        private void record(Outcome outcome) {
+            switch (outcome) {
+                case ACCEPTED -> accepted.incrementAndGet();
+                case REJECTED -> rejected.incrementAndGet();
+                case THROTTLED -> throttled.incrementAndGet();
+                case ERROR -> errors.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.purple_dog.mvp.loadsim;
+
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.DocumentUploadDTO;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.dto.ProductImportEventDTO;
+import com.purple_dog.mvp.entities.AccountStatus;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.DocumentType;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.entities.UserRole;
+import com.purple_dog.mvp.services.ProductImportService;
+import com.purple_dog.mvp.services.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Import de 1 000 produits (5 photos, 1 document et une vente chacun) sur la base H2 embarquée :
+ * les INSERT partent en lots JDBC, les ids venant des séquences par blocs, et l'import tient en quelques secondes.
+ * Lancement : mvn -Pload-sim test -Dtest=ProductImportSimulation
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+@ActiveProfiles("loadsim")
+class ProductImportSimulation {
+
+    private static final int ROWS = 1000;
+    private static final int PHOTOS = 5;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProfessionalRepository professionalRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void importsAThousandProductsInBatches() {
+        Professional seller = professional();
+        Category category = new Category();
+        category.setName("Import simulation");
+        category = categoryRepository.save(category);
+        List<ProductCreateRequest> requests = requests(seller.getId(), category.getId());
+        // Deux lignes rejetées : photos manquantes, catégorie inconnue
+        requests.get(10).setPhotoUrls(List.of());
+        requests.get(20).setCategoryId(-1L);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<ProductImportEventDTO> events = new ArrayList<>();
+        ProductImportEventDTO summary = productImportService.importRows(productImportService.fromJson(requests),
+                seller.getId(), events::add);
+
+        long inserted = statistics.getEntityInsertCount();
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("[import] %d rows: %d imported, %d rejected in %d ms, %d entity inserts, %d statements%n",
+                ROWS, summary.getImported(), summary.getFailed(), summary.getElapsedMs(), inserted, statements);
+
+        assertEquals(ROWS - 2, summary.getImported());
+        assertEquals(2, summary.getFailed());
+        assertEquals(List.of(11, 21), events.stream()
+                .filter(e -> e.getType() == ProductImportEventDTO.Type.ERROR)
+                .map(ProductImportEventDTO::getRow)
+                .toList());
+        assertEquals(ProductImportEventDTO.Type.COMPLETED, events.getLast().getType());
+        // Produit, photos, document et vente par ligne importée
+        assertEquals((ROWS - 2) * (PHOTOS + 3L), inserted);
+        // Lots de 50 et blocs d'ids de 50 : bien moins d'une requête par ligne insérée
+        assertTrue(statements < inserted / 10, "statements prepared: " + statements);
+        assertTrue(summary.getElapsedMs() < 30_000, "import took " + summary.getElapsedMs() + " ms");
+
+        // Les produits importés se relisent comme les autres
+        Long first = productRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("Imported lot 0"))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+        assertEquals(PHOTOS, productService.getProduct(first).getPhotos().size());
+        assertEquals(1, productService.getProduct(first).getDocuments().size());
+    }
+
+    private static List<ProductCreateRequest> requests(Long sellerId, Long categoryId) {
+        return IntStream.range(0, ROWS).mapToObj(i -> {
+            ProductCreateRequest request = new ProductCreateRequest();
+            request.setSellerId(sellerId);
+            request.setCategoryId(categoryId);
+            request.setTitle("Imported lot " + i);
+            request.setDescription("Seeded by the import simulation");
+            request.setProductCondition(ProductCondition.GOOD);
+            request.setSaleType(i % 2 == 0 ? SaleType.AUCTION : SaleType.QUICK_SALE);
+            request.setEstimatedValue(BigDecimal.valueOf(100L + i));
+            request.setPhotoUrls(IntStream.range(0, PHOTOS).mapToObj(p -> "https://cdn.local/import/" + i + "/" + p).toList());
+            request.setDocuments(new ArrayList<>(List.of(DocumentUploadDTO.builder()
+                    .fileName("certificate.pdf")
+                    .fileUrl("https://cdn.local/import/" + i + "/certificate.pdf")
+                    .documentType(DocumentType.CERTIFICATE_OF_AUTHENTICITY)
+                    .build())));
+            return request;
+        }).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Professional professional() {
+        Professional professional = new Professional();
+        professional.setEmail("import@loadsim.local");
+        professional.setPassword("{noop}loadsim");
+        professional.setFirstName("Bulk");
+        professional.setLastName("Import");
+        professional.setRole(UserRole.PROFESSIONAL);
+        professional.setAccountStatus(AccountStatus.ACTIVE);
+        professional.setCompanyName("Bulk Import SAS");
+        return professionalRepository.save(professional);
+    }
+}
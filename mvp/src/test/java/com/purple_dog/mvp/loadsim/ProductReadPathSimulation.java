@@ -0,0 +1,179 @@
+package com.purple_dog.mvp.loadsim;
+
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.DocumentRepository;
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.dto.ProductResponse;
+import com.purple_dog.mvp.dto.ProductSearchRequest;
+import com.purple_dog.mvp.dto.ProductSearchResultDTO;
+import com.purple_dog.mvp.dto.ProductSort;
+import com.purple_dog.mvp.entities.AccountStatus;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Document;
+import com.purple_dog.mvp.entities.DocumentStatus;
+import com.purple_dog.mvp.entities.DocumentType;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.entities.UserRole;
+import com.purple_dog.mvp.services.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Temps du chemin de lecture des produits, sur la base H2 embarquée : page de recherche, page d'un vendeur,
+ * fiche produit (puis servie par le cache) et autocomplétion, avec le nombre de requêtes de chaque lecture.
+ * Le nombre de requêtes du modèle de lecture est vérifié par ProductReadModelTest, dans le build courant.
+ * Lancement : mvn -Pload-sim test -Dtest=ProductReadPathSimulation
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
+@ActiveProfiles("loadsim")
+class ProductReadPathSimulation {
+
+    private static final int PRODUCTS = 24;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProfessionalRepository professionalRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void readPathTimings() {
+        Professional seller = professional();
+        Category category = new Category();
+        category.setName("Read path simulation");
+        category = categoryRepository.save(category);
+        List<Long> ids = seedProducts(seller, category);
+
+        ProductSearchRequest request = new ProductSearchRequest();
+        request.setCategoryId(category.getId());
+
+        // Sans texte : page servie par la base, total et facettes par l'index
+        ProductSearchResultDTO small = timed("search page of 5",
+                () -> productService.search(request, ProductSort.NEWEST, null, 5));
+        ProductSearchResultDTO large = timed("search page of " + PRODUCTS,
+                () -> productService.search(request, ProductSort.NEWEST, null, PRODUCTS));
+        assertEquals(5, small.getItems().size());
+        assertEquals(PRODUCTS, large.getItems().size());
+        assertPopulated(large.getItems());
+
+        // Page suivante, triée par prix
+        String cursor = productService.search(request, ProductSort.PRICE_ASC, null, 5).getNextCursor();
+        assertNotNull(cursor);
+        assertEquals(5, timed("search next page by price",
+                () -> productService.search(request, ProductSort.PRICE_ASC, cursor, 5))
+                .getItems().size());
+
+        // Vendeur : première page, avec le décompte
+        ProductSearchResultDTO sellerPage = timed("seller page",
+                () -> productService.getProductsBySeller(seller.getId(), null, ProductSort.NEWEST, null, PRODUCTS));
+        assertEquals(PRODUCTS, sellerPage.getItems().size());
+
+        // Fiche produit, puis la même servie par le cache des fiches
+        ProductResponse product = timed("product detail", () -> productService.getProduct(ids.get(0)));
+        assertEquals(ids.get(0), product.getId());
+        assertEquals(ids.get(0),
+                timed("product detail (cached)", () -> productService.getProduct(ids.get(0))).getId());
+
+        // Autocomplétion : servie par l'index en mémoire, tenu à jour par les créations
+        assertEquals(5, timed("suggest", () -> productService.suggest("read path lot", 5)).size());
+
+        ids.forEach(productService::deleteProduct);
+        documentRepository.flush();
+    }
+
+    private <T> T timed(String label, Supplier<T> read) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        T result = read.get();
+        System.out.printf("[read-path] %-28s %8.2f ms, %d statements%n", label,
+                (System.nanoTime() - startedAt) / 1_000_000.0, statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private static void assertPopulated(List<ProductResponse> items) {
+        for (ProductResponse item : items) {
+            assertEquals(5, item.getPhotos().size());
+            assertEquals(2, item.getDocuments().size());
+            assertNotNull(item.getSeller().getEmail());
+            assertNotNull(item.getCategory().getName());
+            if (item.getSaleType() == SaleType.AUCTION) {
+                assertNotNull(item.getAuction());
+            } else {
+                assertNotNull(item.getQuickSaleId());
+            }
+        }
+    }
+
+    private List<Long> seedProducts(Professional seller, Category category) {
+        return IntStream.range(0, PRODUCTS).mapToObj(i -> {
+            ProductCreateRequest request = new ProductCreateRequest();
+            request.setSellerId(seller.getId());
+            request.setCategoryId(category.getId());
+            request.setTitle("Read path lot " + i);
+            request.setDescription("Seeded by the read path simulation");
+            request.setProductCondition(ProductCondition.GOOD);
+            request.setSaleType(i % 2 == 0 ? SaleType.AUCTION : SaleType.QUICK_SALE);
+            request.setEstimatedValue(BigDecimal.valueOf(100L + i * 10L));
+            request.setPhotoUrls(IntStream.range(0, 5).mapToObj(p -> "https://cdn.local/" + i + "/" + p).toList());
+            Long id = productService.createProduct(request).getId();
+            for (int d = 0; d < 2; d++) {
+                documentRepository.save(Document.builder()
+                        .product(productRepository.getReferenceById(id))
+                        .documentType(DocumentType.CERTIFICATE_OF_AUTHENTICITY)
+                        .fileName("certificate-" + d + ".pdf")
+                        .fileUrl("https://cdn.local/" + i + "/certificate-" + d + ".pdf")
+                        .fileType("application/pdf")
+                        .fileSize(1024L)
+                        .status(DocumentStatus.PENDING)
+                        .uploadedAt(LocalDateTime.now())
+                        .build());
+            }
+            return id;
+        }).toList();
+    }
+
+    private Professional professional() {
+        Professional professional = new Professional();
+        professional.setEmail("read-path@loadsim.local");
+        professional.setPassword("{noop}loadsim");
+        professional.setFirstName("Read");
+        professional.setLastName("Path");
+        professional.setRole(UserRole.PROFESSIONAL);
+        professional.setAccountStatus(AccountStatus.ACTIVE);
+        professional.setCompanyName("Read Path SAS");
+        return professionalRepository.save(professional);
+    }
+}
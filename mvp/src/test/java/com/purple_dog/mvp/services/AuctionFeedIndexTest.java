@@ -0,0 +1,159 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionFeedEntry;
+import com.purple_dog.mvp.dto.AuctionFeedItemDTO;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionFeedIndexTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @InjectMocks
+    private AuctionFeedIndex auctionFeedIndex;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionFeedIndex, "hotWindowMinutes", 10L);
+        ReflectionTestUtils.setField(auctionFeedIndex, "hotSize", 2);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void testEndingSoon_OrdersByEndDateWithinHorizon() {
+        when(auctionRepository.findOpenFeedEntries()).thenReturn(List.of(
+                entry(1L, now.plusMinutes(50)),
+                entry(2L, now.plusMinutes(5)),
+                entry(3L, now.plusHours(3)),
+                entry(4L, now.minusMinutes(1)),
+                entry(5L, now.plusMinutes(20))));
+        auctionFeedIndex.resync();
+
+        Page<AuctionFeedItemDTO> first = auctionFeedIndex.endingSoon(Duration.ofHours(1), 0, 2);
+        Page<AuctionFeedItemDTO> second = auctionFeedIndex.endingSoon(Duration.ofHours(1), 1, 2);
+
+        assertEquals(List.of(2L, 5L), ids(first));
+        assertEquals(List.of(1L), ids(second));
+        assertEquals(3, first.getTotalElements());
+        assertEquals("Product 2", first.getContent().get(0).getProductTitle());
+    }
+
+    @Test
+    void testRecordBid_MovesExtendedAuctionAndUpdatesPrice() {
+        when(auctionRepository.findOpenFeedEntries()).thenReturn(List.of(
+                entry(1L, now.plusMinutes(1)),
+                entry(2L, now.plusMinutes(3))));
+        auctionFeedIndex.resync();
+
+        auctionFeedIndex.recordBid(book(1L, Money.ofEuros(250), now.plusMinutes(6)));
+
+        Page<AuctionFeedItemDTO> page = auctionFeedIndex.endingSoon(Duration.ofHours(1), 0, 10);
+        assertEquals(List.of(2L, 1L), ids(page));
+        assertEquals(Money.ofEuros(250), page.getContent().get(1).getCurrentPrice());
+    }
+
+    @Test
+    void testHottest_KeepsTopKByRecentBids() {
+        when(auctionRepository.findOpenFeedEntries()).thenReturn(List.of(
+                entry(1L, now.plusHours(1)),
+                entry(2L, now.plusHours(1)),
+                entry(3L, now.plusHours(1))));
+        auctionFeedIndex.resync();
+        for (int i = 0; i < 3; i++) {
+            auctionFeedIndex.recordBid(book(2L, Money.ofEuros(110 + i), now.plusHours(1)));
+        }
+        auctionFeedIndex.recordBid(book(3L, Money.ofEuros(110), now.plusHours(1)));
+        auctionFeedIndex.recordBid(book(3L, Money.ofEuros(120), now.plusHours(1)));
+        auctionFeedIndex.recordBid(book(1L, Money.ofEuros(110), now.plusHours(1)));
+
+        auctionFeedIndex.refresh();
+        Page<AuctionFeedItemDTO> hot = auctionFeedIndex.hottest(0, 10);
+
+        assertEquals(List.of(2L, 3L), ids(hot));
+        assertEquals(3L, hot.getContent().get(0).getRecentBids());
+
+        auctionFeedIndex.remove(2L);
+        auctionFeedIndex.refresh();
+        assertEquals(List.of(3L, 1L), ids(auctionFeedIndex.hottest(0, 10)));
+    }
+
+    @Test
+    void testResync_DropsAuctionsNoLongerOpen() throws InterruptedException {
+        when(auctionRepository.findOpenFeedEntries())
+                .thenReturn(List.of(entry(1L, now.plusMinutes(10)), entry(2L, now.plusMinutes(20))))
+                .thenReturn(List.of(entry(2L, now.plusMinutes(20))));
+        auctionFeedIndex.resync();
+        Thread.sleep(2);
+
+        auctionFeedIndex.resync();
+
+        assertEquals(List.of(2L), ids(auctionFeedIndex.endingSoon(Duration.ofHours(1), 0, 10)));
+    }
+
+    private static List<Long> ids(Page<AuctionFeedItemDTO> page) {
+        return page.getContent().stream().map(AuctionFeedItemDTO::getAuctionId).toList();
+    }
+
+    private static AuctionBook book(Long auctionId, Money currentPrice, LocalDateTime endDate) {
+        AuctionBook book = new AuctionBook();
+        book.setAuctionId(auctionId);
+        book.setStatus(AuctionStatus.ACTIVE);
+        book.setCurrentPrice(currentPrice);
+        book.setEndDate(endDate);
+        return book;
+    }
+
+    private static AuctionFeedEntry entry(Long id, LocalDateTime endDate) {
+        return new AuctionFeedEntry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getProductId() {
+                return id * 10;
+            }
+
+            @Override
+            public String getProductTitle() {
+                return "Product " + id;
+            }
+
+            @Override
+            public Money getCurrentPrice() {
+                return Money.ofEuros(100);
+            }
+
+            @Override
+            public LocalDateTime getEndDate() {
+                return endDate;
+            }
+
+            @Override
+            public Integer getTotalBids() {
+                return 0;
+            }
+        };
+    }
+}
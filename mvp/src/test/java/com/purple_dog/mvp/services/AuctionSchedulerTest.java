@@ -0,0 +1,91 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionDeadline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSchedulerTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionSettlementPipeline settlementPipeline;
+
+    @InjectMocks
+    private AuctionScheduler auctionScheduler;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(auctionScheduler, "tickMs", 100L);
+        ReflectionTestUtils.setField(auctionScheduler, "resyncMinutes", 5L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auctionScheduler.stop();
+    }
+
+    @Test
+    void testStart_ClosesSeededExpiredAuction() throws InterruptedException {
+        when(auctionRepository.findOpenDeadlines()).thenReturn(List.of(deadline(1L, LocalDateTime.now().minusMinutes(1))));
+
+        auctionScheduler.start();
+
+        verify(settlementPipeline, timeout(2000)).submitExpired(List.of(1L));
+    }
+
+    @Test
+    void testSchedule_ClosesOnlyAfterExtendedEndDate() throws InterruptedException {
+        when(auctionRepository.findOpenDeadlines()).thenReturn(List.of());
+        auctionScheduler.start();
+
+        auctionScheduler.schedule(2L, LocalDateTime.now().plusNanos(300_000_000));
+        auctionScheduler.schedule(2L, LocalDateTime.now().plusSeconds(1));
+
+        Thread.sleep(700);
+        verify(settlementPipeline, never()).submitExpired(anyList());
+
+        verify(settlementPipeline, timeout(2000)).submitExpired(List.of(2L));
+    }
+
+    @Test
+    void testCancel_SkipsClosing() throws InterruptedException {
+        when(auctionRepository.findOpenDeadlines()).thenReturn(List.of());
+        auctionScheduler.start();
+
+        auctionScheduler.schedule(3L, LocalDateTime.now().plusNanos(200_000_000));
+        auctionScheduler.cancel(3L);
+
+        Thread.sleep(600);
+        verify(settlementPipeline, never()).submitExpired(anyList());
+    }
+
+    private static AuctionDeadline deadline(Long id, LocalDateTime endDate) {
+        return new AuctionDeadline() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getEndDate() {
+                return endDate;
+            }
+        };
+    }
+}
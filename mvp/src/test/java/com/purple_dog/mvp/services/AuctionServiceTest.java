@@ -0,0 +1,94 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dto.AuctionDTO;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionServiceTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private BiddingEngine biddingEngine;
+
+    @Mock
+    private BidContentionMetrics bidContentionMetrics;
+
+    @Mock
+    private AuctionScheduler auctionScheduler;
+
+    @Mock
+    private AuctionStreamService auctionStreamService;
+
+    @Mock
+    private AuctionSettlementPipeline settlementPipeline;
+
+    @Mock
+    private BidJournal bidJournal;
+
+    @Mock
+    private AuctionFeedIndex auctionFeedIndex;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @InjectMocks
+    private AuctionService auctionService;
+
+    private Auction auction;
+
+    @BeforeEach
+    void setUp() {
+        Product product = new Product();
+        product.setId(30L);
+        auction = new Auction();
+        auction.setId(7L);
+        auction.setProduct(product);
+        auction.setStatus(AuctionStatus.ACTIVE);
+        auction.setStartingPrice(Money.ofEuros(100));
+        auction.setBidIncrement(Money.ofEuros(10));
+        when(auctionRepository.findById(7L)).thenReturn(Optional.of(auction));
+    }
+
+    @Test
+    void testUpdateAuction_ProductDetailsAreInvalidated() {
+        when(auctionRepository.save(any(Auction.class))).thenAnswer(inv -> inv.getArgument(0));
+        AuctionDTO update = new AuctionDTO();
+        update.setStartingPrice(new BigDecimal("120.00"));
+
+        auctionService.updateAuction(7L, update);
+
+        assertEquals(Money.ofEuros(120), auction.getStartingPrice());
+        verify(productDetailCache).invalidate(30L);
+    }
+
+    @Test
+    void testCloseAuction_ProductDetailsAreInvalidated() {
+        auctionService.closeAuction(7L);
+
+        assertEquals(AuctionStatus.UNSOLD, auction.getStatus());
+        verify(productDetailCache).invalidate(30L);
+        verify(settlementPipeline).submitClosedAfterCommit(7L);
+    }
+}
@@ -0,0 +1,233 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionSettlement;
+import com.purple_dog.mvp.dao.BidRepository;
+import com.purple_dog.mvp.dao.BidRepository.AuctionBidder;
+import com.purple_dog.mvp.dao.PersonRepository;
+import com.purple_dog.mvp.dto.NotificationCreateDTO;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.NotificationType;
+import com.purple_dog.mvp.entities.Person;
+import com.purple_dog.mvp.entities.Professional;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuctionSettlementPipelineTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private InAppNotificationService inAppNotificationService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private BiddingEngine biddingEngine;
+
+    @Mock
+    private AuctionStreamService auctionStreamService;
+
+    @Mock
+    private BidJournal bidJournal;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuctionSettlementPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new AuctionSettlementPipeline(auctionRepository, bidRepository, personRepository, orderService,
+                inAppNotificationService, notificationService, biddingEngine, auctionStreamService, productDetailCache, bidJournal, meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 100);
+        ReflectionTestUtils.setField(pipeline, "batchSize", 10);
+        pipeline.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.stop();
+    }
+
+    @Test
+    void testSubmitExpired_SoldAuctionCreatesOrderAndNotifies() throws InterruptedException {
+        Person winner = new Professional();
+        winner.setId(10L);
+        when(auctionRepository.closeExpiredAsSold(anyList(), any(LocalDateTime.class))).thenReturn(1);
+        when(auctionRepository.findSettlements(List.of(1L)))
+                .thenReturn(List.of(settlement(1L, AuctionStatus.SOLD, 10L)));
+        when(orderService.createAuctionOrders(anyList())).thenReturn(Map.of(1L, "ORD-1"));
+        when(bidRepository.findBiddersByAuctionIds(List.of(1L)))
+                .thenReturn(List.of(bidder(1L, 10L), bidder(1L, 11L)));
+        when(personRepository.findAllById(List.of(10L))).thenReturn(List.of(winner));
+
+        pipeline.submitExpired(List.of(1L));
+
+        verify(notificationService, timeout(2000)).sendAuctionWonEmail(winner, "Commode Louis XV",
+                new BigDecimal("500.00"), "ORD-1");
+        verify(biddingEngine).evict(1L);
+        verify(bidJournal).recordClosed(anyList());
+        verify(productDetailCache).invalidate(30L);
+
+        ArgumentCaptor<List<NotificationCreateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inAppNotificationService).createNotifications(captor.capture());
+        Map<Long, NotificationType> types = captor.getValue().stream()
+                .collect(Collectors.toMap(NotificationCreateDTO::getUserId, NotificationCreateDTO::getType));
+        assertEquals(Map.of(20L, NotificationType.AUCTION_ENDED, 10L, NotificationType.BID_WON,
+                11L, NotificationType.BID_LOST), types);
+    }
+
+    @Test
+    void testSubmitExpired_UnsoldAuctionSkipsOrders() throws InterruptedException {
+        when(auctionRepository.closeExpiredAsUnsold(anyList(), any(LocalDateTime.class))).thenReturn(1);
+        when(auctionRepository.findSettlements(List.of(2L)))
+                .thenReturn(List.of(settlement(2L, AuctionStatus.UNSOLD, 10L)));
+        when(bidRepository.findBiddersByAuctionIds(List.of(2L))).thenReturn(List.of(bidder(2L, 10L)));
+
+        pipeline.submitExpired(List.of(2L));
+
+        ArgumentCaptor<List<NotificationCreateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inAppNotificationService, timeout(2000)).createNotifications(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        verify(orderService, never()).createAuctionOrders(anyList());
+        verify(notificationService, never()).sendAuctionWonEmail(any(), any(), any(), any());
+    }
+
+    @Test
+    void testSubmitExpired_NothingClosedSkipsSettlement() throws InterruptedException {
+        pipeline.submitExpired(List.of(3L));
+
+        verify(biddingEngine, timeout(2000)).evict(3L);
+        verify(auctionRepository, never()).findSettlements(anyList());
+        verifyNoInteractions(productDetailCache);
+    }
+
+    @Test
+    void testOrders_FailedBatchRetriedOneByOne() throws InterruptedException {
+        when(auctionRepository.closeExpiredAsSold(anyList(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        when(auctionRepository.findSettlements(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0)
+                .stream()
+                .map(id -> settlement(id, AuctionStatus.SOLD, id + 6))
+                .collect(Collectors.toList()));
+        when(orderService.createAuctionOrders(anyList())).thenAnswer(invocation -> {
+            List<SettledAuction> sold = invocation.getArgument(0);
+            if (sold.stream().anyMatch(a -> a.getAuctionId() == 5L)) {
+                throw new IllegalStateException("constraint violation");
+            }
+            return Map.of(4L, "ORD-4");
+        });
+
+        pipeline.submitExpired(List.of(4L, 5L));
+
+        // Un lot contenant 5 échoue puis est rejoué élément par élément : 4 passe, 5 échoue
+        verify(orderService, timeout(2000).times(3)).createAuctionOrders(anyList());
+        verify(inAppNotificationService, timeout(2000)).createNotifications(anyList());
+        pipeline.stop();
+        assertEquals(1.0, meterRegistry.get("auction.settlement.failures").tag("stage", "orders").counter().count());
+        assertEquals(1.0, meterRegistry.get("auction.settlement.processed").tag("stage", "orders").counter().count());
+    }
+
+    @Test
+    void testSubmitClosedAfterCommit_WithoutTransactionSettlesImmediately() {
+        when(auctionRepository.findSettlements(List.of(6L))).thenReturn(List.of());
+
+        pipeline.submitClosedAfterCommit(6L);
+
+        verify(auctionRepository).findSettlements(eq(List.of(6L)));
+        verify(auctionRepository, never()).closeExpiredAsSold(anyList(), any(LocalDateTime.class));
+    }
+
+    private static AuctionSettlement settlement(Long auctionId, AuctionStatus status, Long winnerId) {
+        return new AuctionSettlement() {
+            @Override
+            public Long getAuctionId() {
+                return auctionId;
+            }
+
+            @Override
+            public AuctionStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getWinnerId() {
+                return winnerId;
+            }
+
+            @Override
+            public Long getSellerId() {
+                return 20L;
+            }
+
+            @Override
+            public Long getProductId() {
+                return 30L;
+            }
+
+            @Override
+            public String getProductTitle() {
+                return "Commode Louis XV";
+            }
+
+            @Override
+            public Money getFinalPrice() {
+                return Money.of("500.00");
+            }
+
+            @Override
+            public long getJournalSequence() {
+                return 3;
+            }
+        };
+    }
+
+    private static AuctionBidder bidder(Long auctionId, Long bidderId) {
+        return new AuctionBidder() {
+            @Override
+            public Long getAuctionId() {
+                return auctionId;
+            }
+
+            @Override
+            public Long getBidderId() {
+                return bidderId;
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.AuctionUpdateDTO;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AuctionStreamServiceTest {
+
+    private AuctionStreamService auctionStreamService;
+    private SseEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        auctionStreamService = spy(new AuctionStreamService());
+        ReflectionTestUtils.setField(auctionStreamService, "maxUpdatesPerSecond", 10);
+        ReflectionTestUtils.setField(auctionStreamService, "bufferSize", 2);
+        ReflectionTestUtils.setField(auctionStreamService, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(auctionStreamService, "senderThreads", 1);
+        emitter = mock(SseEmitter.class);
+        doReturn(emitter).when(auctionStreamService).newEmitter();
+        auctionStreamService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        auctionStreamService.stop();
+    }
+
+    @Test
+    void testSubscribe_SendsInitialState() throws Exception {
+        auctionStreamService.subscribe(1L, () -> update(1L, "100.00", AuctionStatus.ACTIVE));
+
+        verify(emitter, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+        assertTrue(auctionStreamService.hasSubscribers(1L));
+    }
+
+    @Test
+    void testPublish_CoalescesBurstIntoOneFrame() throws Exception {
+        auctionStreamService.subscribe(1L, () -> update(1L, "100.00", AuctionStatus.ACTIVE));
+        verify(emitter, timeout(1000)).send(any(SseEmitter.SseEventBuilder.class));
+
+        for (int i = 1; i <= 100; i++) {
+            auctionStreamService.publish(update(1L, (100 + i) + ".00", AuctionStatus.ACTIVE));
+        }
+
+        // Initial + au plus deux diffusions si la rafale chevauche un tick
+        verify(emitter, timeout(1000).atLeast(2)).send(any(SseEmitter.SseEventBuilder.class));
+        Thread.sleep(300);
+        verify(emitter, atMost(3)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void testPublish_TerminalStatusCompletesStream() throws Exception {
+        auctionStreamService.subscribe(1L, () -> update(1L, "100.00", AuctionStatus.ACTIVE));
+
+        auctionStreamService.publish(update(1L, "150.00", AuctionStatus.SOLD));
+
+        verify(emitter, timeout(1000)).complete();
+    }
+
+    @Test
+    void testPublish_OlderStatePublishedLateIsIgnored() throws Exception {
+        auctionStreamService.subscribe(1L, () -> update(1L, "100.00", AuctionStatus.ACTIVE));
+
+        // Deux enchères dont les requêtes publient dans le désordre : la 3e avant la 2e
+        auctionStreamService.publish(update(1L, "130.00", AuctionStatus.ACTIVE, 3));
+        auctionStreamService.publish(update(1L, "120.00", AuctionStatus.ACTIVE, 2));
+        Thread.sleep(300);
+        auctionStreamService.publish(update(1L, "120.00", AuctionStatus.ACTIVE, 2));
+        Thread.sleep(300);
+
+        AuctionUpdateDTO last = lastSent(2);
+        assertEquals(3, last.getTotalBids());
+        assertEquals(Money.of("130.00"), last.getCurrentPrice());
+    }
+
+    @Test
+    void testPublish_BidStatePublishedAfterCloseIsIgnored() throws Exception {
+        auctionStreamService.subscribe(1L, () -> update(1L, "100.00", AuctionStatus.ACTIVE));
+
+        auctionStreamService.publish(update(1L, "130.00", AuctionStatus.SOLD, 3));
+        auctionStreamService.publish(update(1L, "140.00", AuctionStatus.ACTIVE, 4));
+
+        verify(emitter, timeout(1000)).complete();
+        assertEquals(AuctionStatus.SOLD, lastSent(2).getStatus());
+    }
+
+    @Test
+    void testPublish_WithoutSubscribersIsIgnored() {
+        auctionStreamService.publish(update(2L, "100.00", AuctionStatus.ACTIVE));
+
+        assertFalse(auctionStreamService.hasSubscribers(2L));
+    }
+
+    /**
+     * Dernier état envoyé, après vérification du nombre total d'envois (état initial compris)
+     */
+    private AuctionUpdateDTO lastSent(int expectedSends) throws Exception {
+        ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+        verify(emitter, times(expectedSends)).send(events.capture());
+        return events.getValue().build().stream()
+                .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                .filter(AuctionUpdateDTO.class::isInstance)
+                .map(AuctionUpdateDTO.class::cast)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static AuctionUpdateDTO update(Long auctionId, String price, AuctionStatus status) {
+        return update(auctionId, price, status, null);
+    }
+
+    private static AuctionUpdateDTO update(Long auctionId, String price, AuctionStatus status, Integer totalBids) {
+        return AuctionUpdateDTO.builder()
+                .auctionId(auctionId)
+                .currentPrice(Money.of(price))
+                .status(status)
+                .totalBids(totalBids)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionSnapshotRepository;
+import com.purple_dog.mvp.dao.BidEventRepository;
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionSnapshot;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.BidEvent;
+import com.purple_dog.mvp.entities.BidEventType;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.utils.BidIncrementLadder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BidJournalTest {
+
+    @Mock
+    private BidEventRepository bidEventRepository;
+
+    @Mock
+    private AuctionSnapshotRepository auctionSnapshotRepository;
+
+    @InjectMocks
+    private BidJournal bidJournal;
+
+    private final BidResolver bidResolver = new BidResolver();
+    private final List<BidEvent> events = new ArrayList<>();
+    private final Map<Long, AuctionSnapshot> snapshots = new HashMap<>();
+
+    private AuctionBook book;
+    private Auction auction;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bidJournal, "snapshotEvery", 3);
+        now = LocalDateTime.now();
+
+        // Fin dans 30 minutes : chaque enchère déclenche une prolongation
+        book = new AuctionBook(1L, 99L, AuctionStatus.ACTIVE, now.plusMinutes(30),
+                Money.of("100.00"), Money.of("300.00"), false, true, null, null, null, null, 0);
+        auction = new Auction();
+        auction.setId(1L);
+        auction.setEndDate(book.getEndDate());
+
+        when(bidEventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            events.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(bidEventRepository.findByAuctionIdAndSequenceGreaterThanOrderBySequenceAsc(eq(1L), anyLong()))
+                .thenAnswer(invocation -> events.stream()
+                        .filter(e -> e.getSequence() > invocation.<Long>getArgument(1))
+                        .collect(Collectors.toList()));
+        when(auctionSnapshotRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            invocation.<List<AuctionSnapshot>>getArgument(0).forEach(s -> snapshots.put(s.getAuctionId(), s));
+            return invocation.getArgument(0);
+        });
+        when(auctionSnapshotRepository.findById(1L))
+                .thenAnswer(invocation -> Optional.ofNullable(snapshots.get(1L)));
+    }
+
+    @Test
+    void testRebuild_SnapshotPlusTailMatchesLiveState() {
+        place(10L, "500.00");
+        place(11L, null);
+        place(11L, "700.00");
+        place(12L, "650.00");
+        place(11L, "900.00");
+
+        assertTrue(events.stream().anyMatch(e -> e.getType() == BidEventType.AUTO_COUNTER));
+        assertTrue(events.stream().anyMatch(e -> e.getType() == BidEventType.EXTENDED));
+        assertTrue(snapshots.get(1L).getSequence() < auction.getJournalSequence());
+
+        Optional<AuctionBook> rebuilt = bidJournal.rebuild(1L, auction.getJournalSequence());
+
+        assertTrue(rebuilt.isPresent());
+        assertEquals(book, rebuilt.get());
+    }
+
+    @Test
+    void testRecordPlacements_SequenceHasNoGaps() {
+        place(10L, "500.00");
+        place(11L, "200.00");
+
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(i + 1, events.get(i).getSequence());
+        }
+        assertEquals(events.size(), auction.getJournalSequence());
+    }
+
+    @Test
+    void testRebuild_EmptyWhenJournalBehindAuction() {
+        place(10L, "500.00");
+
+        assertTrue(bidJournal.rebuild(1L, auction.getJournalSequence() + 1).isEmpty());
+        assertTrue(bidJournal.rebuild(2L, 0).isEmpty());
+    }
+
+    @Test
+    void testRebuild_AppliesClosure() {
+        place(10L, "500.00");
+        auction.setStatus(AuctionStatus.SOLD);
+        when(bidEventRepository.save(any(BidEvent.class))).thenAnswer(invocation -> {
+            events.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+
+        bidJournal.recordClosed(auction);
+
+        assertEquals(AuctionStatus.SOLD, bidJournal.rebuild(1L, auction.getJournalSequence()).orElseThrow().getStatus());
+    }
+
+    /**
+     * Place une enchère au minimum comme persistBatch : journal puis application de l'état sur l'auction
+     */
+    private void place(Long bidderId, String maxAmount) {
+        Money minimum = book.getCurrentPrice().add(BidIncrementLadder.incrementFor(book.getCurrentPrice()));
+        PlaceBidRequest request = new PlaceBidRequest(1L, bidderId, minimum,
+                maxAmount != null ? Money.of(maxAmount) : null);
+        List<PendingBid> resolved = bidResolver.resolve(book, request, bidderId, now);
+        bidJournal.recordPlacements(resolved, Map.of(1L, auction));
+        auction.setEndDate(resolved.get(resolved.size() - 1).getAuctionState().getEndDate());
+    }
+}
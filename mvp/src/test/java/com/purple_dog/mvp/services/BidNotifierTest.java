@@ -0,0 +1,141 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.AuctionRepository.AuctionProduct;
+import com.purple_dog.mvp.dto.NotificationCreateDTO;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidNotifierTest {
+
+    private static final long T0 = 1_000_000L;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private InAppNotificationService inAppNotificationService;
+
+    @InjectMocks
+    private BidNotifier bidNotifier;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bidNotifier, "enabled", true);
+        ReflectionTestUtils.setField(bidNotifier, "coalesceMs", 30_000L);
+        ReflectionTestUtils.setField(bidNotifier, "batchSize", 200);
+        lenient().when(auctionRepository.findAuctionProducts(anyCollection())).thenReturn(List.of(product()));
+    }
+
+    @Test
+    void testFlush_CoalescesCounterBidsPerUserAndAuction() {
+        // 11 et 12 se disputent la tête après 10 : 11 est dépassé deux fois, le vendeur 99 reçoit quatre enchères
+        bidNotifier.publish(placed(11L, 10L, "150.00"));
+        bidNotifier.publish(placed(12L, 11L, "200.00"));
+        bidNotifier.publish(placed(11L, 12L, "250.00"));
+        bidNotifier.publish(placed(12L, 11L, "300.00"));
+
+        bidNotifier.flush(T0);
+
+        List<NotificationCreateDTO> written = captureWritten(1);
+        assertEquals(4, written.size());
+        NotificationCreateDTO outbid11 = find(written, 11L, NotificationType.BID_OUTBID);
+        assertTrue(outbid11.getMessage().contains("300"));
+        assertTrue(find(written, 12L, NotificationType.BID_OUTBID).getMessage().contains("250"));
+        assertTrue(find(written, 99L, NotificationType.BID_PLACED).getMessage().startsWith("4 nouvelles enchères"));
+    }
+
+    @Test
+    void testFlush_HoldsFurtherEventsUntilWindowElapses() {
+        bidNotifier.publish(placed(12L, 11L, "200.00"));
+        bidNotifier.flush(T0);
+        reset(inAppNotificationService);
+
+        bidNotifier.publish(placed(12L, 11L, "260.00"));
+        bidNotifier.publish(placed(12L, 11L, "320.00"));
+        bidNotifier.flush(T0 + 10_000);
+        verifyNoInteractions(inAppNotificationService);
+
+        bidNotifier.flush(T0 + 30_000);
+        List<NotificationCreateDTO> written = captureWritten(1);
+        assertEquals(2, written.size());
+        assertTrue(find(written, 11L, NotificationType.BID_OUTBID).getMessage().contains("320"));
+    }
+
+    @Test
+    void testPublish_DisabledRecordsNothing() {
+        ReflectionTestUtils.setField(bidNotifier, "enabled", false);
+
+        bidNotifier.publish(placed(12L, 11L, "200.00"));
+        bidNotifier.flush(T0);
+
+        verifyNoInteractions(auctionRepository, inAppNotificationService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationCreateDTO> captureWritten(int batches) {
+        ArgumentCaptor<List<NotificationCreateDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(inAppNotificationService, times(batches)).createNotifications(captor.capture());
+        return captor.getAllValues().stream().flatMap(List::stream)
+                .sorted(Comparator.comparing(NotificationCreateDTO::getUserId))
+                .toList();
+    }
+
+    private static NotificationCreateDTO find(List<NotificationCreateDTO> written, Long userId, NotificationType type) {
+        return written.stream()
+                .filter(n -> n.getUserId().equals(userId) && n.getType() == type)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static PendingBid placed(Long bidderId, Long outbidBidderId, String price) {
+        AuctionBook state = new AuctionBook();
+        state.setAuctionId(1L);
+        state.setSellerId(99L);
+        state.setCurrentPrice(Money.of(price));
+        state.setLeaderId(bidderId);
+        PendingBid placed = new PendingBid();
+        placed.setAuctionId(1L);
+        placed.setBidderId(bidderId);
+        placed.setAmount(Money.of(price));
+        placed.setWinning(true);
+        placed.setOutbidBidderId(outbidBidderId);
+        placed.setAuctionState(state);
+        return placed;
+    }
+
+    private static AuctionProduct product() {
+        return new AuctionProduct() {
+            @Override
+            public Long getAuctionId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getProductId() {
+                return 5L;
+            }
+
+            @Override
+            public String getProductTitle() {
+                return "Commode Louis XV";
+            }
+        };
+    }
+}
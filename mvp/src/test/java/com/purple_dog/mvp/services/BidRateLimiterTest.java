@@ -0,0 +1,124 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private ProfessionalRepository professionalRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BidRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new BidRateLimiter(professionalRepository, meterRegistry);
+        ReflectionTestUtils.setField(limiter, "enabled", true);
+        ReflectionTestUtils.setField(limiter, "defaultPerMinute", 60);
+        ReflectionTestUtils.setField(limiter, "burst", 3);
+        ReflectionTestUtils.setField(limiter, "perAuctionPerMinute", 0);
+        ReflectionTestUtils.setField(limiter, "stripeCount", 4);
+        ReflectionTestUtils.setField(limiter, "maxBucketsPerStripe", 100);
+        limiter.init();
+    }
+
+    @Test
+    void testTryAcquire_BurstThenThrottledWithRetryHint() {
+        when(professionalRepository.findMaxBidsPerMinute(1L)).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(1L, 10L, 0));
+        }
+        long retryAfter = limiter.tryAcquire(1L, 10L, 0);
+
+        // 60/min : un jeton par seconde
+        assertEquals(1000, retryAfter);
+        assertEquals(0, limiter.tryAcquire(1L, 10L, SECOND));
+        assertEquals(1.0, meterRegistry.get("bids.throttled").tag("scope", "bidder").counter().count());
+        verify(professionalRepository, times(1)).findMaxBidsPerMinute(1L);
+    }
+
+    @Test
+    void testTryAcquire_UsesPlanLimit() {
+        when(professionalRepository.findMaxBidsPerMinute(2L)).thenReturn(Optional.of(6));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(2L, 10L, 0));
+        }
+
+        // 6/min : un jeton toutes les 10 secondes
+        assertEquals(10_000, limiter.tryAcquire(2L, 10L, 0));
+        assertTrue(limiter.tryAcquire(2L, 10L, 5 * SECOND) > 0);
+        assertEquals(0, limiter.tryAcquire(2L, 10L, 10 * SECOND));
+    }
+
+    @Test
+    void testTryAcquire_BiddersAreIndependent() {
+        when(professionalRepository.findMaxBidsPerMinute(anyLong())).thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(3L, 10L, 0);
+        }
+
+        assertTrue(limiter.tryAcquire(3L, 10L, 0) > 0);
+        assertEquals(0, limiter.tryAcquire(4L, 10L, 0));
+    }
+
+    @Test
+    void testTryAcquire_PerAuctionLimit() {
+        ReflectionTestUtils.setField(limiter, "perAuctionPerMinute", 1);
+        when(professionalRepository.findMaxBidsPerMinute(5L)).thenReturn(Optional.empty());
+
+        assertEquals(0, limiter.tryAcquire(5L, 10L, 0));
+
+        assertEquals(60_000, limiter.tryAcquire(5L, 10L, 0));
+        assertEquals(0, limiter.tryAcquire(5L, 11L, 0));
+        assertEquals(1.0, meterRegistry.get("bids.throttled").tag("scope", "auction").counter().count());
+    }
+
+    @Test
+    void testTryAcquire_PerAuctionRejectionKeepsTheBidderToken() {
+        ReflectionTestUtils.setField(limiter, "perAuctionPerMinute", 1);
+        when(professionalRepository.findMaxBidsPerMinute(7L)).thenReturn(Optional.empty());
+
+        assertEquals(0, limiter.tryAcquire(7L, 10L, 0));
+        // Rafale sur la même auction, refusée par la limite par auction
+        for (int i = 0; i < 10; i++) {
+            assertEquals(60_000, limiter.tryAcquire(7L, 10L, 0));
+        }
+
+        // Les deux jetons restants de la rafale de l'enchérisseur servent sur d'autres auctions
+        assertEquals(0, limiter.tryAcquire(7L, 11L, 0));
+        assertEquals(0, limiter.tryAcquire(7L, 12L, 0));
+        assertEquals(1000, limiter.tryAcquire(7L, 13L, 0));
+        assertEquals(1.0, meterRegistry.get("bids.throttled").tag("scope", "bidder").counter().count());
+    }
+
+    @Test
+    void testTryAcquire_DisabledNeverThrottles() {
+        ReflectionTestUtils.setField(limiter, "enabled", false);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(0, limiter.tryAcquire(6L, 10L, 0));
+        }
+        verifyNoInteractions(professionalRepository);
+    }
+}
@@ -0,0 +1,97 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.utils.BidIncrementLadder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidResolverTest {
+
+    private final BidResolver bidResolver = new BidResolver();
+
+    private AuctionBook book;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        book = new AuctionBook(1L, 99L, AuctionStatus.ACTIVE, now.plusDays(2),
+                Money.of("100.00"), Money.of("300.00"), false, true, null, null, null, null, 0);
+    }
+
+    @Test
+    void testResolve_HigherProxyTakesLeadAtSecondPrice() {
+        place(10L, "150.00", "400.00");
+
+        List<PendingBid> rows = place(11L, "200.00", "600.00");
+
+        assertEquals(1, rows.size());
+        assertTrue(rows.get(0).isWinning());
+        assertEquals(Money.of("450.00"), rows.get(0).getAmount());
+        assertEquals(10L, rows.get(0).getOutbidBidderId());
+        assertEquals(11L, book.getLeaderId());
+        assertEquals(10L, book.getRunnerUpId());
+        assertEquals(Money.of("400.00"), book.getRunnerUpMaxAmount());
+    }
+
+    @Test
+    void testResolve_LowerProxyTriggersSingleCounterBid() {
+        place(10L, "150.00", "400.00");
+
+        List<PendingBid> rows = place(11L, "200.00", "300.00");
+
+        assertEquals(2, rows.size());
+        assertFalse(rows.get(0).isWinning());
+        assertNull(rows.get(0).getOutbidBidderId());
+        assertEquals(Money.of("300.00"), rows.get(0).getAmount());
+        assertTrue(rows.get(1).isAutoBid());
+        assertEquals(10L, rows.get(1).getBidderId());
+        assertEquals(Money.of("350.00"), rows.get(1).getAmount());
+        assertEquals(Money.of("350.00"), book.getCurrentPrice());
+        assertEquals(11L, book.getRunnerUpId());
+    }
+
+    @Test
+    void testResolve_EqualMaximaKeepEarlierLeader() {
+        place(10L, "150.00", "400.00");
+
+        List<PendingBid> rows = place(11L, "200.00", "400.00");
+
+        assertFalse(rows.get(0).isWinning());
+        assertEquals(10L, book.getLeaderId());
+        assertEquals(Money.of("400.00"), book.getCurrentPrice());
+    }
+
+    @Test
+    void testResolve_ManyProxyBiddersPriceFollowsRunnerUp() {
+        for (int i = 0; i < 200; i++) {
+            Money max = Money.of("1000.00").add(Money.ofCents(i * 1000L));
+            Money minimum = book.getCurrentPrice().add(
+                    BidIncrementLadder.incrementFor(book.getCurrentPrice()));
+            if (minimum.compareTo(max) > 0) {
+                break;
+            }
+            place(100L + i, minimum.toString(), max.toString());
+        }
+
+        assertNotNull(book.getRunnerUpMaxAmount());
+        Money expected = book.getRunnerUpMaxAmount().add(
+                BidIncrementLadder.incrementFor(book.getRunnerUpMaxAmount()))
+                .min(book.getLeaderMaxAmount());
+        assertEquals(expected, book.getCurrentPrice());
+        assertTrue(book.getLeaderMaxAmount().compareTo(book.getRunnerUpMaxAmount()) > 0);
+    }
+
+    private List<PendingBid> place(Long bidderId, String amount, String maxAmount) {
+        PlaceBidRequest request = new PlaceBidRequest(1L, bidderId, Money.of(amount),
+                maxAmount != null ? Money.of(maxAmount) : null);
+        return bidResolver.resolve(book, request, bidderId, now);
+    }
+}
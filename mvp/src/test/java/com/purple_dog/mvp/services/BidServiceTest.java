@@ -0,0 +1,274 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.BidRepository;
+import com.purple_dog.mvp.dao.BidRepository.BidRow;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.BidResponse;
+import com.purple_dog.mvp.dto.CursorPageDTO;
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.Bid;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.exceptions.BidException;
+import com.purple_dog.mvp.utils.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidServiceTest {
+
+    @Mock
+    private ProfessionalRepository professionalRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private BiddingEngine biddingEngine;
+
+    @Mock
+    private BidPersistenceService bidPersistenceService;
+
+    @Mock
+    private BidContentionMetrics bidContentionMetrics;
+
+    @Mock
+    private AuctionScheduler auctionScheduler;
+
+    @Mock
+    private AuctionStreamService auctionStreamService;
+
+    @Mock
+    private AuctionFeedIndex auctionFeedIndex;
+
+    @Mock
+    private BidNotifier bidNotifier;
+
+    @InjectMocks
+    private BidService bidService;
+
+    private Professional bidder;
+    private PlaceBidRequest request;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bidService, "engineEnabled", false);
+        ReflectionTestUtils.setField(bidService, "maxAttempts", 3);
+        ReflectionTestUtils.setField(bidService, "backoffMs", 1L);
+
+        bidder = new Professional();
+        bidder.setId(10L);
+        bidder.setFirstName("Jean");
+        bidder.setLastName("Dupont");
+        request = new PlaceBidRequest(1L, 10L, Money.of("150.00"), null);
+        lenient().when(professionalRepository.findById(10L)).thenReturn(Optional.of(bidder));
+    }
+
+    @Test
+    void testPlaceBid_RetriesAfterConflict() {
+        when(bidPersistenceService.placeBidAttempt(any(PlaceBidRequest.class), eq(10L)))
+                .thenThrow(new OptimisticLockingFailureException("conflict"))
+                .thenReturn(placedBid());
+
+        BidResponse response = bidService.placeBid(request);
+
+        assertEquals(42L, response.getId());
+        verify(bidPersistenceService, times(2)).placeBidAttempt(any(PlaceBidRequest.class), eq(10L));
+        verify(bidContentionMetrics).recordConflict(1L);
+        verify(bidContentionMetrics).recordRetry(1L);
+        verify(bidContentionMetrics, never()).recordGiveUp(1L);
+        verifyNoInteractions(biddingEngine);
+    }
+
+    @Test
+    void testPlaceBid_RetriesAfterJournalSequenceClash() {
+        when(bidPersistenceService.placeBidAttempt(any(PlaceBidRequest.class), eq(10L)))
+                .thenThrow(constraintViolation("UK_BID_EVENTS_AUCTION_SEQUENCE"))
+                .thenThrow(constraintViolation("PUBLIC.UK_BID_EVENTS_AUCTION_SEQUENCE_INDEX_5"))
+                .thenReturn(placedBid());
+
+        assertEquals(42L, bidService.placeBid(request).getId());
+        verify(bidContentionMetrics, times(2)).recordConflict(1L);
+    }
+
+    @Test
+    void testPlaceBid_OtherConstraintViolationIsNotRetried() {
+        when(bidPersistenceService.placeBidAttempt(any(PlaceBidRequest.class), eq(10L)))
+                .thenThrow(constraintViolation("uk_bid_events_auction_sequence_archive"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> bidService.placeBid(request));
+
+        verify(bidPersistenceService, times(1)).placeBidAttempt(any(PlaceBidRequest.class), eq(10L));
+    }
+
+    @Test
+    void testPlaceBid_OtherIntegrityViolationIsNotRetried() {
+        when(bidPersistenceService.placeBidAttempt(any(PlaceBidRequest.class), eq(10L)))
+                .thenThrow(new DataIntegrityViolationException("not-null constraint"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> bidService.placeBid(request));
+
+        verify(bidPersistenceService, times(1)).placeBidAttempt(any(PlaceBidRequest.class), eq(10L));
+        verifyNoInteractions(bidContentionMetrics);
+    }
+
+    @Test
+    void testPlaceBid_GivesUpAfterMaxAttempts() {
+        when(bidPersistenceService.placeBidAttempt(any(PlaceBidRequest.class), eq(10L)))
+                .thenThrow(new OptimisticLockingFailureException("conflict"));
+
+        assertThrows(BidException.class, () -> bidService.placeBid(request));
+
+        verify(bidPersistenceService, times(3)).placeBidAttempt(any(PlaceBidRequest.class), eq(10L));
+        verify(bidContentionMetrics, times(3)).recordConflict(1L);
+        verify(bidContentionMetrics, times(2)).recordRetry(1L);
+        verify(bidContentionMetrics).recordGiveUp(1L);
+    }
+
+    @Test
+    void testGetCurrentWinningBid_ReadsAuctionPointer() {
+        Auction auction = new Auction();
+        auction.setId(1L);
+        Bid winning = new Bid();
+        winning.setId(7L);
+        winning.setAuction(auction);
+        winning.setBidder(bidder);
+        winning.setAmount(Money.of("150.00"));
+        auction.setWinningBid(winning);
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(auction));
+        when(bidPersistenceService.findWinningBid(auction)).thenReturn(Optional.of(winning));
+
+        BidResponse response = bidService.getCurrentWinningBid(1L);
+
+        assertEquals(7L, response.getId());
+        assertTrue(response.getIsWinning());
+        verifyNoInteractions(bidRepository);
+    }
+
+    @Test
+    void testGetAuctionBidHistory_PagesByAmountCursor() {
+        List<BidRow> rows = List.of(row(9L, "300.00", 9L), row(8L, "250.00", 9L), row(5L, "250.00", 9L));
+        when(bidRepository.findAuctionHistory(eq(1L), any(Pageable.class))).thenReturn(rows);
+
+        CursorPageDTO<BidResponse> first = bidService.getAuctionBidHistory(1L, null, 2);
+
+        assertEquals(List.of(9L, 8L), first.getItems().stream().map(BidResponse::getId).toList());
+        assertTrue(first.getItems().get(0).getIsWinning());
+        assertEquals("Jean Dupont", first.getItems().get(1).getBidderName());
+        assertNotNull(first.getNextCursor());
+
+        List<BidRow> rest = List.of(row(5L, "250.00", 9L));
+        when(bidRepository.findAuctionHistoryAfter(eq(1L), eq(Money.of("250.00")), eq(8L), any(Pageable.class)))
+                .thenReturn(rest);
+
+        CursorPageDTO<BidResponse> second = bidService.getAuctionBidHistory(1L, first.getNextCursor(), 2);
+
+        assertEquals(List.of(5L), second.getItems().stream().map(BidResponse::getId).toList());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void testGetBidderActivity_RejectsMalformedCursor() {
+        assertThrows(BidException.class, () -> bidService.getBidderActivity(10L, "not-a-cursor", 20));
+        assertThrows(BidException.class,
+                () -> bidService.getBidderActivity(10L, KeysetCursor.encode("yesterday", 3L), 20));
+        verifyNoInteractions(bidRepository);
+    }
+
+    private static BidRow row(Long id, String amount, Long winningBidId) {
+        return new BidRow() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getAuctionId() {
+                return 1L;
+            }
+
+            @Override
+            public Long getBidderId() {
+                return 10L;
+            }
+
+            @Override
+            public String getBidderFirstName() {
+                return "Jean";
+            }
+
+            @Override
+            public String getBidderLastName() {
+                return "Dupont";
+            }
+
+            @Override
+            public Money getAmount() {
+                return Money.of(amount);
+            }
+
+            @Override
+            public Money getMaxAmount() {
+                return null;
+            }
+
+            @Override
+            public Boolean getIsAutoBid() {
+                return false;
+            }
+
+            @Override
+            public Boolean getIsWinning() {
+                return false;
+            }
+
+            @Override
+            public LocalDateTime getBidDate() {
+                return LocalDateTime.now();
+            }
+
+            @Override
+            public Long getWinningBidId() {
+                return winningBidId;
+            }
+        };
+    }
+
+    private PendingBid placedBid() {
+        AuctionBook state = new AuctionBook(1L, 99L, null, LocalDateTime.now().plusDays(1),
+                Money.of("150.00"), null, false, false, 10L, null, null, null, 1);
+        return new PendingBid(1L, 10L, Money.of("150.00"), null, false, LocalDateTime.now(), true, null,
+                state, CompletableFuture.completedFuture(42L));
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute batch",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key", "23505"),
+                        constraintName));
+    }
+}
@@ -0,0 +1,228 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.BidRepository;
+import com.purple_dog.mvp.dao.PersonRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.PlaceBidRequest;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.AuctionStatus;
+import com.purple_dog.mvp.entities.Money;
+import com.purple_dog.mvp.exceptions.BidException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BiddingEngineTest {
+
+    @Mock
+    private BidPersistenceService bidPersistenceService;
+
+    @Mock
+    private BidContentionMetrics bidContentionMetrics;
+
+    @Spy
+    private BidResolver bidResolver = new BidResolver();
+
+    @InjectMocks
+    private BiddingEngine biddingEngine;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(biddingEngine, "laneCount", 2);
+        ReflectionTestUtils.setField(biddingEngine, "batchSize", 50);
+        ReflectionTestUtils.setField(biddingEngine, "ackTimeoutMs", 5000L);
+
+        AuctionBook book = new AuctionBook(1L, 99L, AuctionStatus.ACTIVE, LocalDateTime.now().plusDays(2),
+                Money.of("100.00"), Money.of("300.00"), false, true, null, null, null, null, 0);
+        lenient().when(bidPersistenceService.loadBook(1L)).thenReturn(book);
+        lenient().when(bidPersistenceService.persistBatch(anyList())).thenAnswer(invocation -> {
+            List<PendingBid> batch = invocation.getArgument(0);
+            List<Long> result = new ArrayList<>();
+            batch.forEach(b -> result.add(ids.incrementAndGet()));
+            return result;
+        });
+
+        biddingEngine.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        biddingEngine.stop();
+    }
+
+    @Test
+    void testPlace_UpdatesStateWithoutReloading() {
+        PendingBid first = biddingEngine.place(new PlaceBidRequest(1L, 10L, Money.of("150.00"), null), 10L);
+        PendingBid second = biddingEngine.place(new PlaceBidRequest(1L, 11L, Money.of("200.00"), null), 11L);
+
+        assertTrue(first.isWinning());
+        assertTrue(second.isWinning());
+        assertNotNull(second.getPersisted().join());
+        assertEquals(Money.of("200.00"), second.getAuctionState().getCurrentPrice());
+        assertEquals(11L, second.getAuctionState().getLeaderId());
+        assertEquals(2, second.getAuctionState().getTotalBids());
+        verify(bidPersistenceService, times(1)).loadBook(1L);
+    }
+
+    @Test
+    void testPlace_BelowMinimumRejected() {
+        BidException ex = assertThrows(BidException.class, () ->
+                biddingEngine.place(new PlaceBidRequest(1L, 10L, Money.of("105.00"), null), 10L));
+
+        assertTrue(ex.getMessage().contains("at least 150.00"));
+    }
+
+    @Test
+    void testPlace_SellerCannotBid() {
+        assertThrows(BidException.class, () ->
+                biddingEngine.place(new PlaceBidRequest(1L, 99L, Money.of("200.00"), null), 99L));
+    }
+
+    @Test
+    void testPlace_AutoBidCountersManualBid() {
+        biddingEngine.place(new PlaceBidRequest(1L, 10L, Money.of("150.00"), Money.of("400.00")), 10L);
+        PendingBid manual = biddingEngine.place(new PlaceBidRequest(1L, 11L, Money.of("200.00"), null), 11L);
+
+        assertFalse(manual.isWinning());
+        assertEquals(10L, manual.getAuctionState().getLeaderId());
+        assertEquals(Money.of("250.00"), manual.getAuctionState().getCurrentPrice());
+    }
+
+    @Test
+    void testPlace_ConcurrentBidsAreSerializedPerAuction() throws InterruptedException {
+        int bidders = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(bidders);
+        CountDownLatch done = new CountDownLatch(bidders);
+        for (int i = 0; i < bidders; i++) {
+            long bidderId = 20L + i;
+            pool.execute(() -> {
+                try {
+                    biddingEngine.place(new PlaceBidRequest(1L, bidderId, Money.of("5000.00"), null), bidderId);
+                } catch (BidException ignored) {
+                    // Seule la première enchère à 5000 passe le palier minimum
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        PendingBid next = biddingEngine.place(new PlaceBidRequest(1L, 30L, Money.of("5500.00"), null), 30L);
+        assertEquals(2, next.getAuctionState().getTotalBids());
+    }
+
+    @Test
+    void testPlace_AuctionClosedBeforeFlushIsLeftUntouched() throws InterruptedException {
+        AuctionRepository auctionRepository = mock(AuctionRepository.class);
+        BidRepository bidRepository = mock(BidRepository.class);
+        BidJournal bidJournal = mock(BidJournal.class);
+        BidPersistenceService persistence = spy(new BidPersistenceService(auctionRepository, bidRepository,
+                mock(PersonRepository.class), mock(ProfessionalRepository.class), bidResolver, bidJournal,
+                mock(ProductDetailCache.class)));
+        // Placement résolu sur l'état ouvert, clôture validée avant l'écriture du lot
+        doReturn(new AuctionBook(1L, 99L, AuctionStatus.ACTIVE, LocalDateTime.now().plusMinutes(1),
+                Money.of("100.00"), null, false, false, null, null, null, null, 0))
+                .when(persistence).loadBook(1L);
+        Auction closed = new Auction();
+        closed.setId(1L);
+        closed.setStatus(AuctionStatus.SOLD);
+        closed.setCurrentPrice(Money.of("100.00"));
+        closed.setTotalBids(0);
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(closed));
+        BiddingEngine engine = new BiddingEngine(persistence, bidResolver, bidContentionMetrics);
+        ReflectionTestUtils.setField(engine, "laneCount", 1);
+        ReflectionTestUtils.setField(engine, "batchSize", 50);
+        ReflectionTestUtils.setField(engine, "ackTimeoutMs", 5000L);
+        engine.start();
+
+        try {
+            BidException ex = assertThrows(BidException.class, () ->
+                    engine.place(new PlaceBidRequest(1L, 10L, Money.of("150.00"), null), 10L));
+
+            assertEquals("Auction is not active. Current status: SOLD", ex.getMessage());
+            assertEquals(AuctionStatus.SOLD, closed.getStatus());
+            assertEquals(Money.of("100.00"), closed.getCurrentPrice());
+            assertEquals(0, closed.getTotalBids());
+            assertNull(closed.getWinner());
+            verify(bidJournal).recordPlacements(List.of(), Map.of());
+            verify(bidRepository).saveAll(List.of());
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    void testPlace_BidsResolvedAgainstAFailedBatchAreRejected() throws Exception {
+        when(bidPersistenceService.loadBook(1L)).thenAnswer(invocation -> new AuctionBook(1L, 99L,
+                AuctionStatus.ACTIVE, LocalDateTime.now().plusDays(2), Money.of("100.00"), null, false, true,
+                null, null, null, null, 0));
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            throw new DataAccessResourceFailureException("connection lost");
+        }).when(bidPersistenceService).persistBatch(anyList());
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<PendingBid> failed = pool.submit(() ->
+                    biddingEngine.place(new PlaceBidRequest(1L, 10L, Money.of("150.00"), null), 10L));
+            assertTrue(flushing.await(5, TimeUnit.SECONDS));
+            // Résolue sur l'état du lot en cours d'échec, en attente dans la file
+            Future<PendingBid> queued = pool.submit(() ->
+                    biddingEngine.place(new PlaceBidRequest(1L, 11L, Money.of("200.00"), null), 11L));
+            BlockingQueue<?> writeQueue = (BlockingQueue<?>) ReflectionTestUtils.getField(biddingEngine, "writeQueue");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (writeQueue.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            ExecutionException first = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+            ExecutionException second = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(BidException.class, first.getCause());
+            assertInstanceOf(BidException.class, second.getCause());
+            verify(bidPersistenceService, times(1)).persistBatch(anyList());
+        } finally {
+            release.countDown();
+            pool.shutdown();
+        }
+
+        // État relu depuis la base : aucune des deux enchères rejetées n'est comptée
+        doAnswer(invocation -> List.of(ids.incrementAndGet())).when(bidPersistenceService).persistBatch(anyList());
+        PendingBid next = biddingEngine.place(new PlaceBidRequest(1L, 12L, Money.of("150.00"), null), 12L);
+        assertEquals(1, next.getAuctionState().getTotalBids());
+        verify(bidPersistenceService, times(2)).loadBook(1L);
+    }
+}
@@ -0,0 +1,125 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+    private static final long T0 = 1_000_000_000L;
+    private static final long TTL = TimeUnit.SECONDS.toNanos(60);
+
+    @Mock
+    private ProductViewCounter productViewCounter;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCache cache;
+    private final Map<Long, Integer> loads = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ProductDetailCache(productViewCounter, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(cache, "stripeCount", 1);
+        cache.init();
+        lenient().when(productViewCounter.recorded(anyLong())).thenReturn(0L);
+    }
+
+    @Test
+    void testGet_ServesCopiesFromMemoryAfterTheFirstLoad() {
+        ProductResponse first = cache.get(1L, this::load, T0);
+        first.setPrice(BigDecimal.ZERO);
+        ProductResponse second = cache.get(1L, this::load, T0 + 1);
+
+        assertEquals(1, loads.get(1L));
+        assertNotSame(first, second);
+        assertEquals(new BigDecimal("100"), second.getPrice());
+        assertEquals(1, count("products.cache.requests", "result", "hit"));
+        assertEquals(1, count("products.cache.requests", "result", "miss"));
+    }
+
+    @Test
+    void testGet_ReloadsAfterTimeToLive() {
+        cache.get(1L, this::load, T0);
+        cache.get(1L, this::load, T0 + TTL - 1);
+        cache.get(1L, this::load, T0 + TTL);
+
+        assertEquals(2, loads.get(1L));
+        assertEquals(1, count("products.cache.evictions", "cause", "expired"));
+    }
+
+    @Test
+    void testGet_EvictsLeastRecentlyReadBeyondMaxSize() {
+        cache.get(1L, this::load, T0);
+        cache.get(2L, this::load, T0);
+        cache.get(1L, this::load, T0);
+        cache.get(3L, this::load, T0);
+
+        assertEquals(2, cache.size());
+        cache.get(1L, this::load, T0);
+        cache.get(2L, this::load, T0);
+        assertEquals(1, loads.get(1L));
+        assertEquals(2, loads.get(2L));
+        assertEquals(2, count("products.cache.evictions", "cause", "size"));
+    }
+
+    @Test
+    void testInvalidate_DropsEntryAndSkipsLoadsRacingWithIt() {
+        cache.get(1L, this::load, T0);
+        cache.invalidate(1L);
+        cache.get(1L, this::load, T0);
+        assertEquals(2, loads.get(1L));
+        assertEquals(1, count("products.cache.evictions", "cause", "invalidated"));
+
+        // Écriture validée pendant le chargement : la valeur lue n'est pas gardée
+        cache.invalidate(2L);
+        Function<Long, ProductResponse> racing = id -> {
+            ProductResponse stale = load(id);
+            cache.invalidate(id);
+            return stale;
+        };
+        cache.get(2L, racing, T0);
+        cache.get(2L, this::load, T0);
+        assertEquals(2, loads.get(2L));
+    }
+
+    @Test
+    void testGet_AddsViewsRecordedSinceTheLoad() {
+        when(productViewCounter.recorded(1L)).thenReturn(5L, 8L);
+
+        assertEquals(40L, cache.get(1L, this::load, T0).getViewCount());
+        assertEquals(43L, cache.get(1L, this::load, T0 + 1).getViewCount());
+    }
+
+    private ProductResponse load(Long id) {
+        loads.merge(id, 1, Integer::sum);
+        ProductResponse response = new ProductResponse();
+        response.setId(id);
+        response.setPrice(new BigDecimal("100"));
+        response.setViewCount(40L);
+        return response;
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+}
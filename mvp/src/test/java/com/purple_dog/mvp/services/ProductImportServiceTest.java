@@ -0,0 +1,215 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.ProfessionalRepository;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.dto.ProductImportEventDTO;
+import com.purple_dog.mvp.dto.ProductImportEventDTO.Type;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.exceptions.ProductException;
+import com.purple_dog.mvp.services.ProductImportService.ImportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    private static final String PHOTOS = "https://cdn/1.jpg|https://cdn/2.jpg|https://cdn/3.jpg|https://cdn/4.jpg|https://cdn/5.jpg";
+
+    @Mock
+    private ProfessionalRepository professionalRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ProductImportWriter productImportWriter;
+
+    @Mock
+    private AuctionScheduler auctionScheduler;
+
+    @Mock
+    private AuctionFeedIndex auctionFeedIndex;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
+    @InjectMocks
+    private ProductImportService productImportService;
+
+    private final List<ProductImportEventDTO> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productImportService, "maxRows", 100);
+        ReflectionTestUtils.setField(productImportService, "chunkSize", 2);
+    }
+
+    @Test
+    void testFromCsv_MapsColumnsAndRejectsUnreadableRows() {
+        String csv = "seller_id;Category Id;title;description;productCondition;saleType;estimatedValue;photoUrls\n"
+                + "1;2;Montre Rolex;Acier;excellent;auction;8500;" + PHOTOS + "\n"
+                + "1;2;Sac;Cuir;GOOD;QUICK_SALE;douze cents;" + PHOTOS + "\n"
+                + "1;2;Lampe\n";
+
+        List<ImportRow> rows = productImportService.fromCsv(csv);
+
+        ProductCreateRequest first = rows.get(0).request();
+        assertEquals(1L, first.getSellerId());
+        assertEquals(ProductCondition.EXCELLENT, first.getProductCondition());
+        assertEquals(SaleType.AUCTION, first.getSaleType());
+        assertEquals(new BigDecimal("8500"), first.getEstimatedValue());
+        assertEquals(5, first.getPhotoUrls().size());
+        assertNull(rows.get(0).error());
+        assertEquals("Invalid estimatedvalue: douze cents", rows.get(1).error());
+        assertEquals("Expected 8 columns, found 3", rows.get(2).error());
+    }
+
+    @Test
+    void testFromCsv_RejectsUnknownColumnsAndOversizedImports() {
+        ProductException unknown = assertThrows(ProductException.class,
+                () -> productImportService.fromCsv("title,colour\nSac,rouge"));
+        assertEquals("Unknown CSV column: colour", unknown.getMessage());
+
+        ReflectionTestUtils.setField(productImportService, "maxRows", 2);
+        assertThrows(ProductException.class, () -> productImportService.fromJson(
+                IntStream.range(0, 3).mapToObj(i -> request(1L, 2L, SaleType.QUICK_SALE)).toList()));
+    }
+
+    @Test
+    void testImportRows_ReportsRejectedRowsAndWritesValidOnesInChunks() {
+        stubReferences();
+        when(productImportWriter.insert(anyList())).thenAnswer(invocation -> {
+            List<ProductCreateRequest> chunk = invocation.getArgument(0);
+            return chunk.stream().map(ProductImportServiceTest::saved).toList();
+        });
+        ProductCreateRequest noPhotos = request(1L, 2L, SaleType.QUICK_SALE);
+        noPhotos.setPhotoUrls(List.of());
+        List<ImportRow> rows = productImportService.fromJson(List.of(
+                request(1L, 2L, SaleType.AUCTION),
+                noPhotos,
+                request(1L, 99L, SaleType.QUICK_SALE),
+                request(1L, 2L, SaleType.QUICK_SALE),
+                request(1L, 2L, SaleType.AUCTION)));
+
+        ProductImportEventDTO summary = productImportService.importRows(rows, 1L, events::add);
+
+        assertEquals(3, summary.getImported());
+        assertEquals(2, summary.getFailed());
+        assertEquals(5, summary.getProcessed());
+        assertEquals(List.of(Type.ERROR, Type.ERROR, Type.PROGRESS, Type.PROGRESS, Type.PROGRESS, Type.COMPLETED),
+                events.stream().map(ProductImportEventDTO::getType).toList());
+        assertEquals("At least 5 photos are required", events.get(0).getMessage());
+        assertEquals(3, events.get(1).getRow());
+        assertEquals("Category not found with id: 99", events.get(1).getMessage());
+        verify(productImportWriter, times(2)).insert(anyList());
+        verify(auctionScheduler, times(2)).schedule(any(), any());
+        verify(auctionFeedIndex, times(2)).track(any(Auction.class));
+        verify(productSuggestIndex, times(3)).index(any(Product.class));
+    }
+
+    @Test
+    void testImportRows_ReportsEveryRowOfAFailedChunkAndGoesOn() {
+        stubReferences();
+        when(productImportWriter.insert(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> List.of(saved(invocation.<List<ProductCreateRequest>>getArgument(0).get(0))));
+        List<ImportRow> rows = productImportService.fromJson(List.of(
+                request(1L, 2L, SaleType.QUICK_SALE),
+                request(1L, 2L, SaleType.QUICK_SALE),
+                request(1L, 2L, SaleType.QUICK_SALE)));
+
+        ProductImportEventDTO summary = productImportService.importRows(rows, null, events::add);
+
+        assertEquals(1, summary.getImported());
+        assertEquals(2, summary.getFailed());
+        assertEquals(List.of(1, 2), events.stream()
+                .filter(e -> e.getType() == Type.ERROR)
+                .map(ProductImportEventDTO::getRow)
+                .toList());
+        assertEquals("Import failed: duplicate key", events.get(1).getMessage());
+    }
+
+    @Test
+    void testImportRows_RejectsRowsOfOtherSellersAndNonProfessionals() {
+        stubReferences();
+        when(productImportWriter.insert(anyList())).thenAnswer(invocation -> {
+            List<ProductCreateRequest> chunk = invocation.getArgument(0);
+            return chunk.stream().map(ProductImportServiceTest::saved).toList();
+        });
+        // Le vendeur 3 existe mais n'est pas un professionnel : absent du dépôt des professionnels
+        List<ImportRow> rows = productImportService.fromJson(List.of(
+                request(1L, 2L, SaleType.QUICK_SALE),
+                request(3L, 2L, SaleType.QUICK_SALE)));
+
+        productImportService.importRows(rows, 1L, events::add);
+        ProductImportEventDTO asAdmin = productImportService.importRows(rows, null, events::add);
+
+        List<String> errors = events.stream()
+                .filter(e -> e.getType() == Type.ERROR)
+                .map(ProductImportEventDTO::getMessage)
+                .toList();
+        assertEquals(List.of("Seller must be the authenticated user", "Professional seller not found with id: 3"),
+                errors);
+        assertEquals(1, asAdmin.getImported());
+        verify(productImportWriter, times(2)).insert(List.of(rows.get(0).request()));
+    }
+
+    private void stubReferences() {
+        Professional seller = new Professional();
+        seller.setId(1L);
+        Category category = new Category();
+        category.setId(2L);
+        when(professionalRepository.findAllById(any())).thenReturn(List.of(seller));
+        when(categoryRepository.findAllById(any())).thenReturn(List.of(category));
+    }
+
+    private static ProductCreateRequest request(Long sellerId, Long categoryId, SaleType saleType) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setSellerId(sellerId);
+        request.setCategoryId(categoryId);
+        request.setTitle("Lot");
+        request.setDescription("Description");
+        request.setProductCondition(ProductCondition.GOOD);
+        request.setSaleType(saleType);
+        request.setEstimatedValue(new BigDecimal("100"));
+        request.setPhotoUrls(List.of(PHOTOS.split("\\|")));
+        return request;
+    }
+
+    private static Product saved(ProductCreateRequest request) {
+        Product product = ProductService.newProduct(request, null, null);
+        if (request.getSaleType() == SaleType.AUCTION) {
+            Auction auction = ProductService.newAuction(product);
+            auction.setId(10L);
+            auction.setEndDate(LocalDateTime.now().plusDays(7));
+            product.setAuction(auction);
+        }
+        return product;
+    }
+}
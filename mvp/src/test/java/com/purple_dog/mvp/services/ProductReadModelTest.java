@@ -0,0 +1,144 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dto.DocumentUploadDTO;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.dto.ProductResponse;
+import com.purple_dog.mvp.entities.AccountStatus;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.DocumentType;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.QuickSale;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.entities.UserRole;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Nombre de requêtes SQL du modèle de lecture des produits, sur H2 : trois requêtes par lot,
+ * quel que soit le nombre de produits, de photos, de documents et le type de vente (aucun N+1)
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ProductReadModel.class)
+class ProductReadModelTest {
+
+    private static final int PRODUCTS = 24;
+
+    @Autowired
+    private ProductReadModel productReadModel;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ProductViewCounter productViewCounter;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        Professional seller = new Professional();
+        seller.setEmail("read-model@test.local");
+        seller.setPassword("{noop}test");
+        seller.setFirstName("Read");
+        seller.setLastName("Model");
+        seller.setRole(UserRole.PROFESSIONAL);
+        seller.setAccountStatus(AccountStatus.ACTIVE);
+        seller.setCompanyName("Read Model SAS");
+        entityManager.persist(seller);
+        Category category = new Category();
+        category.setName("Read model");
+        entityManager.persist(category);
+
+        ids = IntStream.range(0, PRODUCTS).mapToObj(i -> persistProduct(i, seller, category)).toList();
+        // Lectures mesurées sur un contexte vide : aucune entité déjà chargée, aucun flush en attente
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void testLoad_FixedNumberOfQueriesWhateverTheBatchSize() {
+        List<ProductResponse> small = measured(3, () -> productReadModel.load(ids.subList(0, 5)));
+        List<ProductResponse> large = measured(3, () -> productReadModel.load(ids));
+
+        assertEquals(ids.subList(0, 5), small.stream().map(ProductResponse::getId).toList());
+        assertEquals(ids, large.stream().map(ProductResponse::getId).toList());
+        for (ProductResponse item : large) {
+            assertEquals(5, item.getPhotos().size());
+            assertEquals(2, item.getDocuments().size());
+            assertNotNull(item.getSeller().getEmail());
+            assertNotNull(item.getCategory().getName());
+            if (item.getSaleType() == SaleType.AUCTION) {
+                assertNotNull(item.getAuction());
+                assertNull(item.getQuickSaleId());
+            } else {
+                assertNotNull(item.getQuickSaleId());
+            }
+        }
+    }
+
+    @Test
+    void testLoad_SingleProductCostsTheSameThreeQueries() {
+        ProductResponse product = measured(3, () -> productReadModel.load(ids.get(0)).orElseThrow());
+
+        assertEquals(ids.get(0), product.getId());
+        assertEquals(0, measured(0, () -> productReadModel.load(List.of())).size());
+    }
+
+    private <T> T measured(long expectedStatements, Supplier<T> read) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        T result = read.get();
+        assertEquals(expectedStatements, statistics.getPrepareStatementCount(),
+                "statements prepared: " + statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private Long persistProduct(int i, Professional seller, Category category) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setTitle("Read model lot " + i);
+        request.setDescription("Seeded by the read model test");
+        request.setProductCondition(ProductCondition.GOOD);
+        request.setSaleType(i % 2 == 0 ? SaleType.AUCTION : SaleType.QUICK_SALE);
+        request.setEstimatedValue(BigDecimal.valueOf(100L + i * 10L));
+        Product product = ProductService.newProduct(request, seller, category);
+        product.getPhotos().addAll(ProductService.newPhotos(product,
+                IntStream.range(0, 5).mapToObj(p -> "https://cdn.local/" + i + "/" + p).toList()));
+        product.getDocuments().addAll(ProductService.newDocuments(product, IntStream.range(0, 2)
+                .mapToObj(d -> DocumentUploadDTO.builder()
+                        .fileName("certificate-" + d + ".pdf")
+                        .fileUrl("https://cdn.local/" + i + "/certificate-" + d + ".pdf")
+                        .documentType(DocumentType.CERTIFICATE_OF_AUTHENTICITY)
+                        .build())
+                .toList()));
+        entityManager.persist(product);
+        if (product.getSaleType() == SaleType.AUCTION) {
+            Auction auction = ProductService.newAuction(product);
+            entityManager.persist(auction);
+            product.setAuction(auction);
+        } else {
+            QuickSale quickSale = ProductService.newQuickSale(product);
+            entityManager.persist(quickSale);
+            product.setQuickSale(quickSale);
+        }
+        return product.getId();
+    }
+}
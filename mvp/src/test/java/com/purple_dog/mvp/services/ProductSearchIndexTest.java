@@ -0,0 +1,176 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dto.ProductFacetsDTO;
+import com.purple_dog.mvp.dto.ProductFacetsDTO.PriceBucket;
+import com.purple_dog.mvp.dto.ProductSearchRequest;
+import com.purple_dog.mvp.dto.ProductSort;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.ProductStatus;
+import com.purple_dog.mvp.entities.SaleType;
+import com.purple_dog.mvp.services.ProductSearchIndex.Hit;
+import com.purple_dog.mvp.services.ProductSearchIndex.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productSearchIndex, "titleBoost", 3);
+        ReflectionTestUtils.setField(productSearchIndex, "fuzzyThreshold", 0.3);
+        ReflectionTestUtils.setField(productSearchIndex, "priceBuckets",
+                new BigDecimal[]{new BigDecimal("500"), new BigDecimal("5000")});
+        productSearchIndex.index(product(1L, 1L, "Montre Rolex Submariner", "Montre de plongée en acier, boîte et papiers", "8500"));
+        productSearchIndex.index(product(2L, 2L, "Sac Hermès Birkin 30", "Cuir togo, accessoires dorés", "12000"));
+        productSearchIndex.index(product(3L, 1L, "Bracelet cuir", "Bracelet pour montre Rolex, cuir d'alligator", "300"));
+        productSearchIndex.index(product(4L, 3L, "Chaise Eames DSW", "Chaise vintage, piètement en bois", "450"));
+    }
+
+    @Test
+    void testSearch_RanksTitleMatchesFirst() {
+        assertEquals(List.of(1L, 3L), search(request("rolex montre"), 10));
+    }
+
+    @Test
+    void testSearch_FoldsAccentsCaseAndPlurals() {
+        assertEquals(List.of(2L), search(request("SACS hermes"), 10));
+        assertEquals(List.of(4L), search(request("chaises"), 10));
+        assertEquals(List.of(1L), search(request("plongee"), 10));
+    }
+
+    @Test
+    void testSearch_RequiresEveryTermAndAppliesFilters() {
+        assertEquals(List.of(), search(request("rolex birkin"), 10));
+
+        ProductSearchRequest cheap = request("cuir");
+        cheap.setMaxPrice(new BigDecimal("1000"));
+        assertEquals(List.of(3L), search(cheap, 10));
+
+        ProductSearchRequest category = request("cuir");
+        category.setCategoryId(2L);
+        assertEquals(List.of(2L), search(category, 10));
+    }
+
+    @Test
+    void testIndex_ReplacesAndRemovesProducts() {
+        productSearchIndex.index(product(4L, 3L, "Fauteuil Eames Lounge", "Fauteuil en cuir et palissandre", "6000"));
+
+        assertEquals(List.of(), search(request("chaise"), 10));
+        assertEquals(List.of(4L), search(request("fauteuil"), 10));
+
+        productSearchIndex.remove(1L);
+        assertEquals(List.of(3L), search(request("rolex"), 10));
+        assertEquals(3, productSearchIndex.size());
+    }
+
+    @Test
+    void testSearch_LimitsResults() {
+        assertEquals(1, search(request("cuir"), 1).size());
+        // Une requête faite uniquement de mots vides revient à une recherche sans texte
+        assertEquals(List.of(4L, 3L, 2L, 1L), search(request("de la"), 10));
+    }
+
+    @Test
+    void testFuzzySearch_ToleratesTyposInTitleAndBrand() {
+        Product shoes = product(5L, 2L, "Escarpins So Kate 37", "Cuir verni noir", "450");
+        shoes.setBrand("Christian Louboutin");
+        productSearchIndex.index(shoes);
+
+        assertEquals(List.of(), search(request("louboutain"), 10));
+        assertEquals(List.of(5L), search(fuzzy("louboutain"), 10));
+        assertEquals(List.of(2L), search(fuzzy("Hermes birkn"), 10));
+        // Les descriptions ne participent pas à la recherche approchée
+        assertEquals(List.of(), search(fuzzy("alligator"), 10));
+    }
+
+    @Test
+    void testSearch_CountsFacetsOverAllMatchesInOnePass() {
+        ProductSearchRequest all = request(null);
+        all.setMaxPrice(new BigDecimal("10000"));
+
+        SearchResult result = productSearchIndex.search(all, ProductSort.RELEVANCE, null, 2);
+
+        assertEquals(List.of(4L, 3L), result.ids());
+        assertEquals(3, result.total());
+        ProductFacetsDTO facets = result.facets();
+        assertEquals(List.of("1:2", "3:1"), facets.getCategories().stream()
+                .map(c -> c.getValue() + ":" + c.getCount()).toList());
+        assertEquals(List.of("GOOD:3"), facets.getConditions().stream()
+                .map(c -> c.getValue() + ":" + c.getCount()).toList());
+        assertEquals(List.of(2L, 0L, 1L), facets.getPriceBuckets().stream().map(PriceBucket::getCount).toList());
+        assertNull(facets.getPriceBuckets().get(2).getMax());
+
+        assertEquals(2, productSearchIndex.search(request("cuir"), ProductSort.RELEVANCE, null, 1).total());
+    }
+
+    @Test
+    void testSearch_PagesAfterCursorInSortOrder() {
+        ProductSearchRequest all = request(null);
+
+        SearchResult first = productSearchIndex.search(all, ProductSort.PRICE_ASC, null, 2);
+        Hit last = first.hits().get(1);
+        SearchResult second = productSearchIndex.search(all, ProductSort.PRICE_ASC, last, 2);
+
+        assertEquals(List.of(3L, 4L), first.ids());
+        assertEquals(List.of(1L, 2L), second.ids());
+        assertEquals(4, second.total());
+        assertEquals(List.of(2L, 4L), productSearchIndex.search(all, ProductSort.NEWEST, null, 2).ids());
+        assertEquals(List.of(1L, 3L), productSearchIndex.search(request("rolex"), ProductSort.PRICE_DESC, null, 10).ids());
+    }
+
+    private List<Long> search(ProductSearchRequest request, int limit) {
+        return productSearchIndex.search(request, ProductSort.RELEVANCE, null, limit).ids();
+    }
+
+    private static ProductSearchRequest request(String text) {
+        ProductSearchRequest request = new ProductSearchRequest();
+        request.setText(text);
+        return request;
+    }
+
+    private static ProductSearchRequest fuzzy(String text) {
+        ProductSearchRequest request = request(text);
+        request.setFuzzy(true);
+        return request;
+    }
+
+    private static Product product(Long id, Long categoryId, String title, String description, String value) {
+        Category category = new Category();
+        category.setId(categoryId);
+        Product product = new Product();
+        product.setId(id);
+        product.setCategory(category);
+        product.setTitle(title);
+        product.setDescription(description);
+        product.setProductCondition(ProductCondition.GOOD);
+        product.setSaleType(SaleType.AUCTION);
+        product.setStatus(ProductStatus.ACTIVE);
+        product.setEstimatedValue(new BigDecimal(value));
+        // Le produit 2 est le plus récent
+        product.setCreatedAt(CREATED.plusDays(id == 2L ? 10 : id));
+        return product;
+    }
+}
@@ -0,0 +1,160 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.AuctionRepository;
+import com.purple_dog.mvp.dao.CategoryRepository;
+import com.purple_dog.mvp.dao.FavoriteRepository;
+import com.purple_dog.mvp.dao.PersonRepository;
+import com.purple_dog.mvp.dao.ProductKeysetRepository;
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.QuickSaleRepository;
+import com.purple_dog.mvp.dto.ProductCreateRequest;
+import com.purple_dog.mvp.dto.ProductResponse;
+import com.purple_dog.mvp.dto.ProductSearchResultDTO;
+import com.purple_dog.mvp.entities.Auction;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductCondition;
+import com.purple_dog.mvp.entities.Professional;
+import com.purple_dog.mvp.entities.SaleType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private PersonRepository personRepository;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private QuickSaleRepository quickSaleRepository;
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AuctionScheduler auctionScheduler;
+
+    @Mock
+    private AuctionFeedIndex auctionFeedIndex;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
+    @Mock
+    private ProductViewCounter productViewCounter;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ProductSuggestIndex productSuggestIndex;
+
+    @InjectMocks
+    private ProductService productService;
+
+    @Test
+    void testCreateProduct_AuctionIsScheduledAndFed() {
+        Professional seller = new Professional();
+        seller.setId(1L);
+        Category category = new Category();
+        category.setId(2L);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(seller));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(category));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setId(7L);
+            return product;
+        });
+        when(productReadModel.load(7L)).thenReturn(Optional.of(new ProductResponse()));
+
+        productService.createProduct(request(SaleType.AUCTION));
+
+        ArgumentCaptor<Auction> auction = ArgumentCaptor.forClass(Auction.class);
+        verify(auctionFeedIndex).track(auction.capture());
+        assertEquals(7L, auction.getValue().getProduct().getId());
+        verify(auctionScheduler).schedule(any(), any());
+    }
+
+    @Test
+    void testCreateProduct_QuickSaleIsNotFed() {
+        Professional seller = new Professional();
+        seller.setId(1L);
+        Category category = new Category();
+        category.setId(2L);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(seller));
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(category));
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setId(8L);
+            return product;
+        });
+        when(productReadModel.load(8L)).thenReturn(Optional.of(new ProductResponse()));
+
+        productService.createProduct(request(SaleType.QUICK_SALE));
+
+        verifyNoInteractions(auctionFeedIndex, auctionScheduler);
+    }
+
+    @Test
+    void testGetProductsBySeller_CountsOnTheFirstPageOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        when(productRepository.findKeys(any(), eq("createdAt"), eq(Sort.Direction.DESC), eq(3))).thenReturn(List.of(
+                new ProductKeysetRepository.ProductKey(9L, now),
+                new ProductKeysetRepository.ProductKey(8L, now.minusHours(1)),
+                new ProductKeysetRepository.ProductKey(7L, now.minusHours(2))));
+        when(productReadModel.load(anyList())).thenReturn(List.of(new ProductResponse(), new ProductResponse()));
+        when(productRepository.count(ArgumentMatchers.<Specification<Product>>any())).thenReturn(5L);
+
+        ProductSearchResultDTO first = productService.getProductsBySeller(1L, null, null, null, 2);
+        ProductSearchResultDTO next = productService.getProductsBySeller(1L, null, null, first.getNextCursor(), 2);
+
+        assertEquals(5L, first.getEstimatedTotal());
+        assertNotNull(first.getNextCursor());
+        assertNull(next.getEstimatedTotal());
+        verify(productRepository, times(1)).count(ArgumentMatchers.<Specification<Product>>any());
+    }
+
+    private static ProductCreateRequest request(SaleType saleType) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setSellerId(1L);
+        request.setCategoryId(2L);
+        request.setTitle("Montre");
+        request.setDescription("Acier");
+        request.setProductCondition(ProductCondition.GOOD);
+        request.setSaleType(saleType);
+        request.setEstimatedValue(new BigDecimal("850"));
+        request.setPhotoUrls(IntStream.range(0, 5).mapToObj(i -> "https://cdn/" + i + ".jpg").toList());
+        return request;
+    }
+}
@@ -0,0 +1,158 @@
+package com.purple_dog.mvp.services;
+
+import com.purple_dog.mvp.dao.ProductRepository;
+import com.purple_dog.mvp.dao.ProductRepository.ProductSuggestEntry;
+import com.purple_dog.mvp.dto.ProductSuggestionDTO;
+import com.purple_dog.mvp.dto.ProductSuggestionDTO.Type;
+import com.purple_dog.mvp.entities.Category;
+import com.purple_dog.mvp.entities.Product;
+import com.purple_dog.mvp.entities.ProductStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSuggestIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSuggestIndex productSuggestIndex;
+
+    @BeforeEach
+    void setUp() {
+        productSuggestIndex = new ProductSuggestIndex(productRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(productSuggestIndex, "favoriteWeight", 10L);
+        ReflectionTestUtils.setField(productSuggestIndex, "maxTitles", 100);
+        ReflectionTestUtils.setField(productSuggestIndex, "maxKeyLength", 40);
+        ReflectionTestUtils.setField(productSuggestIndex, "maxLimit", 20);
+    }
+
+    @Test
+    void testSuggest_RanksTitlesBrandsAndCategoriesByWeight() {
+        productSuggestIndex.index(product(1L, "Montre Rolex Submariner", "Rolex", 50));
+        productSuggestIndex.index(product(2L, "Montre Oméga Speedmaster", "Omega", 80));
+        productSuggestIndex.index(product(3L, "Rolex Daytona", "Rolex", 40));
+
+        // Catégorie : somme des poids de ses produits (51 + 81 + 41)
+        assertEquals(List.of(
+                new ProductSuggestionDTO("Montres", Type.CATEGORY, 7L),
+                new ProductSuggestionDTO("Montre Oméga Speedmaster", Type.PRODUCT, 2L),
+                new ProductSuggestionDTO("Montre Rolex Submariner", Type.PRODUCT, 1L)), productSuggestIndex.suggest("MONTRE", 10));
+        assertEquals(List.of(
+                new ProductSuggestionDTO("Rolex", Type.BRAND, null),
+                new ProductSuggestionDTO("Rolex Daytona", Type.PRODUCT, 3L)), productSuggestIndex.suggest("rol", 10));
+        assertEquals(List.of(new ProductSuggestionDTO("Montre Oméga Speedmaster", Type.PRODUCT, 2L)),
+                productSuggestIndex.suggest("montre  ome", 1));
+        assertTrue(productSuggestIndex.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void testFavorited_RaisesWeightAndSurvivesUpdates() {
+        productSuggestIndex.index(product(1L, "Sac Hermès Kelly", "Hermès", 20));
+        productSuggestIndex.index(product(2L, "Sac Hermès Birkin", "Hermès", 25));
+
+        productSuggestIndex.favorited(1L, 1);
+        productSuggestIndex.index(product(1L, "Sac Hermès Kelly 28", "Hermès", 20));
+
+        assertEquals(List.of(1L, 2L), productSuggestIndex.suggest("sac hermes", 10).stream()
+                .map(ProductSuggestionDTO::getId).toList());
+    }
+
+    @Test
+    void testRemove_DropsProductAndItsEmptyGroups() {
+        productSuggestIndex.index(product(1L, "Chaise Eames", "Vitra", 0));
+        productSuggestIndex.index(product(2L, "Table Prouvé", "Vitra", 0));
+        assertEquals(4, productSuggestIndex.size());
+
+        productSuggestIndex.remove(1L);
+        Product sold = product(2L, "Table Prouvé", "Vitra", 0);
+        sold.setStatus(ProductStatus.SOLD);
+        assertEquals(List.of(new ProductSuggestionDTO("Vitra", Type.BRAND, null)),
+                productSuggestIndex.suggest("vitra", 10));
+        productSuggestIndex.index(sold);
+
+        assertTrue(productSuggestIndex.suggest("vitra", 10).isEmpty());
+        assertTrue(productSuggestIndex.suggest("chaise", 10).isEmpty());
+        assertEquals(0, productSuggestIndex.size());
+    }
+
+    @Test
+    void testRebuild_KeepsHeaviestTitlesUnderTheCap() {
+        ReflectionTestUtils.setField(productSuggestIndex, "maxTitles", 2);
+        productSuggestIndex.index(product(9L, "Ancien produit", null, 0));
+        when(productRepository.findSuggestEntries(eq(ProductStatus.ACTIVE), eq(0L), any())).thenReturn(List.of(
+                new Entry(1L, "Lampe Gras", 3, 0),
+                new Entry(2L, "Lampe Serge Mouille", 1, 2),
+                new Entry(3L, "Lampe Jieldé", 10, 0)));
+
+        productSuggestIndex.rebuild();
+
+        assertEquals(List.of(2L, 3L), productSuggestIndex.suggest("lampe", 10).stream()
+                .map(ProductSuggestionDTO::getId).toList());
+        assertTrue(productSuggestIndex.suggest("ancien", 10).isEmpty());
+    }
+
+    private static Product product(Long id, String title, String brand, int views) {
+        Category category = new Category();
+        category.setId(7L);
+        category.setName("Montres");
+        Product product = new Product();
+        product.setId(id);
+        product.setTitle(title);
+        product.setBrand(brand);
+        product.setCategory(category);
+        product.setStatus(ProductStatus.ACTIVE);
+        product.setViewCount(views);
+        return product;
+    }
+
+    private record Entry(Long id, String title, Integer views, long favorites) implements ProductSuggestEntry {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getBrand() {
+            return null;
+        }
+
+        @Override
+        public Long getCategoryId() {
+            return null;
+        }
+
+        @Override
+        public String getCategoryName() {
+            return null;
+        }
+
+        @Override
+        public Integer getViewCount() {
+            return views;
+        }
+
+        @Override
+        public Long getFavoriteCount() {
+            return favorites;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.purple_dog.mvp.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductViewCounterTest {
+
+    private static final long T0 = 1_000_000L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ProductViewCounter productViewCounter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(productViewCounter, "enabled", true);
+        ReflectionTestUtils.setField(productViewCounter, "dedupeSeconds", 300L);
+    }
+
+    @Test
+    void testRecord_IgnoresRepeatViewsWithinWindow() {
+        assertTrue(productViewCounter.record(1L, "alice@example.com", T0));
+        assertFalse(productViewCounter.record(1L, "alice@example.com", T0 + 1_000));
+        assertTrue(productViewCounter.record(1L, "10.0.0.7", T0 + 1_000));
+        assertTrue(productViewCounter.record(2L, "alice@example.com", T0 + 1_000));
+        // Fenêtre écoulée : la vue compte de nouveau
+        assertTrue(productViewCounter.record(1L, "alice@example.com", T0 + 300_000));
+
+        assertEquals(3, productViewCounter.pending(1L));
+        assertEquals(1, productViewCounter.pending(2L));
+        assertEquals(0, productViewCounter.pending(3L));
+    }
+
+    @Test
+    void testFlush_WritesDeltasInOneBatchOrderedById() {
+        productViewCounter.record(7L, "a", T0);
+        productViewCounter.record(7L, "b", T0);
+        productViewCounter.record(3L, "a", T0);
+
+        productViewCounter.flush(T0 + 5_000);
+
+        List<Object[]> deltas = captureBatch(1).get(0);
+        assertEquals(2, deltas.size());
+        assertArrayEquals(new Object[]{1L, 3L}, deltas.get(0));
+        assertArrayEquals(new Object[]{2L, 7L}, deltas.get(1));
+        assertEquals(0, productViewCounter.pending(7L));
+        assertEquals(2, productViewCounter.recorded(7L));
+
+        // Rien de neuf : aucun UPDATE
+        productViewCounter.flush(T0 + 10_000);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testFlush_KeepsDeltasWhenTheUpdateFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(new int[]{1});
+        productViewCounter.record(5L, "a", T0);
+        productViewCounter.record(5L, "b", T0);
+
+        productViewCounter.flush(T0 + 5_000);
+        assertEquals(2, productViewCounter.pending(5L));
+
+        productViewCounter.record(5L, "c", T0 + 6_000);
+        productViewCounter.flush(T0 + 10_000);
+
+        List<Object[]> retried = captureBatch(2).get(1);
+        assertArrayEquals(new Object[]{3L, 5L}, retried.get(0));
+        assertEquals(0, productViewCounter.pending(5L));
+    }
+
+    @Test
+    void testFlush_ForgetsViewersOnceTheirWindowElapsed() {
+        productViewCounter.record(1L, "alice@example.com", T0);
+        productViewCounter.flush(T0 + 300_000);
+
+        assertTrue(productViewCounter.record(1L, "alice@example.com", T0 + 300_001));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object[]>> captureBatch(int times) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(times)).batchUpdate(anyString(), captor.capture());
+        return captor.getAllValues();
+    }
+}
@@ -0,0 +1,35 @@
+package com.purple_dog.mvp.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvParserTest {
+
+    @Test
+    void testParse_HandlesQuotesSeparatorsAndLineBreaks() {
+        String csv = "title,description,estimatedValue\r\n"
+                + "\"Montre Rolex, Submariner\",\"Boîte \"\"full set\"\"\nPapiers\",8500\r\n"
+                + "\n"
+                + "Sac,,1200\n";
+
+        assertEquals(List.of(
+                List.of("title", "description", "estimatedValue"),
+                List.of("Montre Rolex, Submariner", "Boîte \"full set\"\nPapiers", "8500"),
+                List.of("Sac", "", "1200")), CsvParser.parse(csv));
+    }
+
+    @Test
+    void testParse_DetectsSemicolonSeparatorAndSkipsBom() {
+        assertEquals(List.of(List.of("title", "brand"), List.of("Lampe, laiton", "Jieldé")),
+                CsvParser.parse("\uFEFFtitle;brand\nLampe, laiton;Jieldé"));
+    }
+
+    @Test
+    void testParse_RejectsUnterminatedQuote() {
+        assertThrows(IllegalArgumentException.class, () -> CsvParser.parse("title\n\"Sac"));
+        assertTrue(CsvParser.parse("").isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package com.purple_dog.mvp.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrefixIndexTest {
+
+    @Test
+    void testComplete_ReturnsHeaviestEntriesUnderPrefix() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put("montre rolex", "montre rolex", 5);
+        index.put("montre omega", "montre omega", 12);
+        index.put("montre", "montre", 1);
+        index.put("mont blanc", "mont blanc", 30);
+        index.put("sac hermes", "sac hermes", 100);
+
+        assertEquals(List.of("montre omega", "montre rolex"), index.complete("montre", 2));
+        assertEquals(List.of("mont blanc", "montre omega", "montre rolex", "montre"), index.complete("mont", 10));
+        assertTrue(index.complete("montres", 10).isEmpty());
+        assertTrue(index.complete("", 10).isEmpty());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testPut_ReplacesValueAndWeight() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put("rolex", "old", 1);
+        index.put("ricard", "ricard", 2);
+
+        index.put("rolex", "new", 3);
+
+        assertEquals(List.of("new", "ricard"), index.complete("r", 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void testRemove_PrunesNodesAndWeights() {
+        PrefixIndex<String> index = new PrefixIndex<>();
+        index.put("cartier", "cartier", 1);
+        int nodes = index.nodeCount();
+        index.put("cartier tank", "cartier tank", 50);
+
+        index.remove("cartier tank");
+        index.remove("absent");
+
+        assertEquals(List.of("cartier"), index.complete("cart", 10));
+        assertEquals(nodes, index.nodeCount());
+        index.remove("cartier");
+        assertEquals(0, index.size());
+        assertEquals(0, index.nodeCount());
+    }
+
+    @Test
+    void testComplete_MatchesBruteForceOrder() {
+        Random random = new Random(42);
+        PrefixIndex<String> index = new PrefixIndex<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder key = new StringBuilder();
+            for (int c = 0, length = 1 + random.nextInt(8); c < length; c++) {
+                key.append((char) ('a' + random.nextInt(4)));
+            }
+            // Poids distincts (ordre attendu sans ambiguïté) : la clé la plus récente l'emporte
+            index.put(key.toString(), key.toString(), i);
+            keys.remove(key.toString());
+            keys.add(key.toString());
+        }
+
+        for (String prefix : List.of("a", "bc", "dda", "abcd")) {
+            List<String> expected = keys.stream()
+                    .filter(k -> k.startsWith(prefix))
+                    .sorted(Comparator.comparingInt(keys::indexOf).reversed())
+                    .limit(7)
+                    .toList();
+            assertEquals(expected, index.complete(prefix, 7));
+        }
+        assertEquals(keys.size(), index.size());
+    }
+}
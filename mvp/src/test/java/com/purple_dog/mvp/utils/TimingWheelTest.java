@@ -0,0 +1,69 @@
+package com.purple_dog.mvp.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    void testAdd_PastDeadlineIsRejected() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 60, START);
+
+        assertFalse(wheel.add(1L, START - 1));
+        assertTrue(wheel.add(2L, START + 1));
+    }
+
+    @Test
+    void testAdvance_NeverExpiresEarly() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 60, START);
+        List<Long> expired = new ArrayList<>();
+        wheel.add(1L, START + 1500);
+
+        wheel.advance(START + 1499, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(START + 2000, expired::add);
+        assertEquals(List.of(1L), expired);
+    }
+
+    @Test
+    void testAdvance_CascadesFromOverflowWheels() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 60, START);
+        List<Long> expired = new ArrayList<>();
+        long twoMinutes = START + 120_500;
+        long threeHours = START + 3 * 3_600_000L + 250;
+        wheel.add(2L, threeHours);
+        wheel.add(1L, twoMinutes);
+
+        wheel.advance(twoMinutes - 1, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(twoMinutes + 1000, expired::add);
+        assertEquals(List.of(1L), expired);
+
+        wheel.advance(threeHours - 1, expired::add);
+        assertEquals(List.of(1L), expired);
+
+        wheel.advance(threeHours + 1000, expired::add);
+        assertEquals(List.of(1L, 2L), expired);
+    }
+
+    @Test
+    void testAdvance_KeepsDeadlineOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1000, 60, START);
+        List<Long> expired = new ArrayList<>();
+        wheel.add(3L, START + 90_000);
+        wheel.add(1L, START + 5_000);
+        wheel.add(2L, START + 61_000);
+
+        wheel.advance(START + 100_000, expired::add);
+
+        assertEquals(List.of(1L, 2L, 3L), expired);
+    }
+}
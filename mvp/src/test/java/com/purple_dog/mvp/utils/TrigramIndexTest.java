@@ -0,0 +1,42 @@
+package com.purple_dog.mvp.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    @Test
+    void testTrigrams_PadsLikePgTrgm() {
+        assertEquals(Set.of("  s", " sa", "sac", "ac "), TrigramIndex.trigrams("sac"));
+    }
+
+    @Test
+    void testSimilar_FindsMisspelledWordsAboveThreshold() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("louboutin");
+        index.add("loupe");
+        index.add("rolex");
+
+        Map<String, Double> similar = index.similar("louboutain", 0.3);
+
+        assertEquals(Set.of("louboutin"), similar.keySet());
+        assertEquals(8.0 / 13, similar.get("louboutin"), 1e-9);
+        assertEquals(1.0, index.similar("rolex", 0.3).get("rolex"), 1e-9);
+    }
+
+    @Test
+    void testRemove_DropsWordFromEveryTrigram() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("birkin");
+        index.add("birkin");
+
+        index.remove("birkin");
+
+        assertTrue(index.similar("birkin", 0.1).isEmpty());
+        assertEquals(0, index.size());
+    }
+}